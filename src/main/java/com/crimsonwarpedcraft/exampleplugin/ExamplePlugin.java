@@ -9,7 +9,21 @@ import com.crimsonwarpedcraft.exampleplugin.bridge.TikTokChatBridge;
 import com.crimsonwarpedcraft.exampleplugin.bridge.YouTubeChatBridge;
 import com.crimsonwarpedcraft.exampleplugin.command.NightPunishCommand;
 import com.crimsonwarpedcraft.exampleplugin.command.TikTokIntegrationCommand;
+import com.crimsonwarpedcraft.exampleplugin.command.WorldResetCommand;
 import com.crimsonwarpedcraft.exampleplugin.command.YouTubeIntegrationCommand;
+import com.crimsonwarpedcraft.exampleplugin.jfr.ChatFanOutEvent;
+import com.crimsonwarpedcraft.exampleplugin.jfr.OrbitalStrikeEvent;
+import com.crimsonwarpedcraft.exampleplugin.jfr.PayloadParseEvent;
+import com.crimsonwarpedcraft.exampleplugin.jfr.SubscriberStateFlushEvent;
+import com.crimsonwarpedcraft.exampleplugin.jfr.TntWaveEvent;
+import com.crimsonwarpedcraft.exampleplugin.service.DonationLedger;
+import com.crimsonwarpedcraft.exampleplugin.service.LegacyTemplate;
+import com.crimsonwarpedcraft.exampleplugin.service.MessageRegistry;
+import com.crimsonwarpedcraft.exampleplugin.service.MetricsHttpServer;
+import com.crimsonwarpedcraft.exampleplugin.service.PlayerNameIndex;
+import com.crimsonwarpedcraft.exampleplugin.service.PluginMetrics;
+import com.crimsonwarpedcraft.exampleplugin.service.PluginMetrics.Family;
+import com.crimsonwarpedcraft.exampleplugin.service.RecipientTracker;
 import com.crimsonwarpedcraft.exampleplugin.service.WorldResetScheduler; // Added from codex branch
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -32,16 +46,23 @@ import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import org.bukkit.Bukkit;
@@ -57,6 +78,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.TNTPrimed;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -66,6 +88,24 @@ import org.jetbrains.annotations.NotNull;
 public class ExamplePlugin extends JavaPlugin {
 
   private static final String DEFAULT_LISTENER_SCRIPT = "python/chat_listener.py";
+  // Bounds the strikes a single large donation can queue through cumulative thresholds.
+  private static final int MAX_CUMULATIVE_STRIKES_PER_DONATION = 3;
+  // How long onDisable waits for listener processes before killing them.
+  private static final long LISTENER_DISABLE_WAIT_SECONDS = 7L;
+  // Placeholder names in the order the title renderers pass their values.
+  private static final String[] ORBITAL_TITLE_SLOTS = {
+    "donor",
+    "amount",
+    "formatted_amount",
+    "currency",
+    "message",
+    "tnt_count",
+    "donor_total",
+    "session_total"
+  };
+  private static final String[] MILESTONE_TITLE_SLOTS = {
+    "total_subscribers", "milestone_interval", "tnt_count"
+  };
 
   private enum StreamPlatform {
     YOUTUBE("youtube", "YouTube", "example.ytstream.monitor"),
@@ -107,6 +147,8 @@ public class ExamplePlugin extends JavaPlugin {
   }
 
   private final AtomicLong messageSequence = new AtomicLong();
+  private final PluginMetrics metrics = new PluginMetrics();
+  private MetricsHttpServer metricsServer;
 
   // Fields from codex branch
   private WorldResetScheduler worldResetScheduler;
@@ -124,18 +166,39 @@ public class ExamplePlugin extends JavaPlugin {
       new EnumMap<>(StreamPlatform.class);
   private final EnumMap<StreamPlatform, Long> lastCelebratedMilestones =
       new EnumMap<>(StreamPlatform.class);
-  private final EnumMap<StreamPlatform, Long> lastRecipientSeenMillis =
+  private final EnumMap<StreamPlatform, BukkitTask> idleDeadlines =
       new EnumMap<>(StreamPlatform.class);
+  private RecipientTracker recipientTracker;
+  private final EnumMap<StreamPlatform, DonationLedger> donationLedgers =
+      new EnumMap<>(StreamPlatform.class);
+  private final EnumMap<StreamPlatform, ArrayDeque<SubscriberMilestone>> pendingCelebrations =
+      new EnumMap<>(StreamPlatform.class);
+  private final EnumSet<StreamPlatform> celebratingPlatforms = EnumSet.noneOf(StreamPlatform.class);
+  private final EnumSet<StreamPlatform> dirtySubscriberState = EnumSet.noneOf(StreamPlatform.class);
+  private BukkitTask donationLedgerTask;
+  // Serializes ledger writes between the snapshot timer and onDisable; both share one temp file.
+  private final Object donationLedgerFlushLock = new Object();
 
   // Fields for the external Python listener bridge
   private final EnumMap<StreamPlatform,
           com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge>
       listenerProcesses = new EnumMap<>(StreamPlatform.class);
+  // One process running a session per local platform, when multiplex-local-listeners is on.
+  private com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge multiplexedListener;
+  private final EnumSet<StreamPlatform> multiplexedSessions = EnumSet.noneOf(StreamPlatform.class);
+  private boolean multiplexLocalListeners;
+  private com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge.Transport
+      listenerTransport =
+          com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge.Transport.STDIO;
+  // Binary event frames; only used with the unix-socket transport.
+  private boolean listenerBinaryFrames;
   private ListenerSettings youtubeListenerSettings;
   private ListenerSettings tikTokListenerSettings;
   private final EnumMap<StreamPlatform, String> listenerScriptPaths =
       new EnumMap<>(StreamPlatform.class);
   private NightPunishCommand nightPunishCommand;
+  private PlayerNameIndex playerNameIndex;
+  private MessageRegistry messageRegistry;
 
   @Override
   public void onEnable() {
@@ -144,22 +207,39 @@ public class ExamplePlugin extends JavaPlugin {
     saveDefaultConfig();
 
     reloadConfig();
+    messageRegistry = new MessageRegistry(getLogger());
     loadSettingsFromConfig();
     loadSubscriberState();
+    loadDonationLedgers();
     ensureListenerScriptAvailable();
 
     for (StreamPlatform platform : StreamPlatform.values()) {
-      listenerProcesses.put(
-          platform,
+      com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process =
           new com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge(
               this,
               platform.displayName(),
               (message, targetIgn) ->
-                  handleIncomingListenerMessage(platform, message, targetIgn)));
+                  handleIncomingListenerMessage(platform, message, targetIgn, false));
+      process.setEventHandler(
+          (event, targetIgn) -> handleIncomingListenerEvent(platform, event, targetIgn, false));
+      listenerProcesses.put(platform, process);
     }
+    multiplexedListener =
+        new com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge(
+            this,
+            "Multiplexed",
+            (message, targetIgn) ->
+                handleIncomingListenerMessage(StreamPlatform.YOUTUBE, message, null, true));
+    multiplexedListener.setEventHandler(
+        (event, targetIgn) ->
+            handleIncomingListenerEvent(StreamPlatform.YOUTUBE, event, null, true));
+    applyListenerTransport();
+
+    startMetricsEndpoint();
+    startDonationLedgerSnapshots();
 
     // Logic from codex branch
-    worldResetScheduler = new WorldResetScheduler(this);
+    worldResetScheduler = new WorldResetScheduler(this, metrics);
     worldResetScheduler.start();
 
     // Logic from main branch
@@ -171,9 +251,13 @@ public class ExamplePlugin extends JavaPlugin {
     bindBridge(StreamPlatform.YOUTUBE, youtubeBridge);
     bindBridge(StreamPlatform.TIKTOK, tikTokBridge);
 
+    playerNameIndex = new PlayerNameIndex();
+    playerNameIndex.seed(getServer().getOnlinePlayers());
+    getServer().getPluginManager().registerEvents(playerNameIndex, this);
+
     registerCommands();
+    startRecipientTracking();
     restartMonitoring();
-    startRecipientAwareMonitoring();
 
     getLogger().info("Stream bridges initialised. Awaiting events from listener processes.");
   }
@@ -190,14 +274,38 @@ public class ExamplePlugin extends JavaPlugin {
       nightPunishCommand = null;
     }
 
-    if (!listenerProcesses.isEmpty()) {
-      List<com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge> processes =
-          new ArrayList<>(listenerProcesses.values());
-      listenerProcesses.clear();
-      for (com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process : processes) {
-        stopListenerProcessAsync(process, null);
-      }
+    if (playerNameIndex != null) {
+      playerNameIndex.clear();
+      playerNameIndex = null;
+    }
+
+    if (metricsServer != null) {
+      metricsServer.stop();
+      metricsServer = null;
+    }
+
+    if (donationLedgerTask != null) {
+      donationLedgerTask.cancel();
+      donationLedgerTask = null;
+    }
+    flushDonationLedgers();
+    dirtySubscriberState.forEach(this::persistSubscriberState);
+
+    // The bridges escalate to a forced kill on timer threads that do not outlive the plugin, so
+    // wait here, bounded, and kill whatever is still running.
+    List<com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge> processes =
+        new ArrayList<>(listenerProcesses.values());
+    listenerProcesses.clear();
+    if (multiplexedListener != null) {
+      processes.add(multiplexedListener);
+    }
+    multiplexedListener = null;
+    List<CompletableFuture<Void>> exits = new ArrayList<>(processes.size());
+    for (com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process : processes) {
+      exits.add(stopListenerProcess(process));
     }
+    awaitListenerExit(processes, exits);
+    multiplexedSessions.clear();
 
     // Logic from main branch
     registrations.forEach(Registration::close);
@@ -209,7 +317,15 @@ public class ExamplePlugin extends JavaPlugin {
     knownSubscriberCounts.clear();
     lastCelebratedMilestones.clear();
     listenerScriptPaths.clear();
-    lastRecipientSeenMillis.clear();
+    idleDeadlines.values().forEach(BukkitTask::cancel);
+    idleDeadlines.clear();
+    recipientTracker = null;
+    synchronized (donationLedgerFlushLock) {
+      donationLedgers.clear();
+    }
+    pendingCelebrations.clear();
+    celebratingPlatforms.clear();
+    dirtySubscriberState.clear();
   }
 
   // Methods below coordinate the YouTube bridge behaviours
@@ -230,6 +346,226 @@ public class ExamplePlugin extends JavaPlugin {
     return tikTokBridge;
   }
 
+  /** Returns the metrics registry shared by the plugin's services. */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "Registry is intentionally shared so services can record into it.")
+  public PluginMetrics getMetrics() {
+    return metrics;
+  }
+
+  /** Returns the player-name index shared by the command tab completers. */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "Index is intentionally shared so every completer uses the same names.")
+  public PlayerNameIndex getPlayerNameIndex() {
+    return playerNameIndex;
+  }
+
+  /** Returns the compiled message templates shared by the commands. */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "Registry is intentionally shared so commands can define their messages.")
+  public MessageRegistry getMessageRegistry() {
+    return messageRegistry;
+  }
+
+  private void startMetricsEndpoint() {
+    ConfigurationSection section = getConfig().getConfigurationSection("metrics");
+    if (section == null || !section.getBoolean("enabled", false)) {
+      return;
+    }
+
+    int port = section.getInt("port", 9465);
+    if (port < 1 || port > 65535) {
+      getLogger().warning("metrics.port must be between 1 and 65535; metrics endpoint disabled.");
+      return;
+    }
+
+    metricsServer = new MetricsHttpServer(metrics, getLogger());
+    metricsServer.start(port, section.getString("path", "/metrics"));
+  }
+
+  private void loadDonationLedgers() {
+    for (StreamPlatform platform : StreamPlatform.values()) {
+      DonationLedger ledger = new DonationLedger();
+      try {
+        ledger.load(donationLedgerFile(platform));
+      } catch (IOException ex) {
+        getLogger()
+            .log(
+                Level.WARNING,
+                "Failed to load " + platform.displayName() + " donation ledger; starting empty.",
+                ex);
+      }
+      donationLedgers.put(platform, ledger);
+    }
+  }
+
+  private void startDonationLedgerSnapshots() {
+    long intervalSeconds =
+        Math.max(5L, getConfig().getLong("donation-ledger.snapshot-interval-seconds", 60L));
+    long intervalTicks = intervalSeconds * 20L;
+    donationLedgerTask =
+        getServer()
+            .getScheduler()
+            .runTaskTimerAsynchronously(
+                this, this::flushDonationLedgers, intervalTicks, intervalTicks);
+  }
+
+  private void flushDonationLedgers() {
+    synchronized (donationLedgerFlushLock) {
+      donationLedgers.forEach(
+          (platform, ledger) -> {
+            if (!ledger.isDirty()) {
+              return;
+            }
+            try {
+              DonationLedger.Snapshot snapshot = ledger.snapshot();
+              snapshot.writeTo(donationLedgerFile(platform));
+              // Only a written snapshot clears the flag, so a failed write is retried next flush.
+              ledger.markClean(snapshot);
+            } catch (IOException ex) {
+              getLogger()
+                  .log(
+                      Level.WARNING,
+                      "Failed to save " + platform.displayName() + " donation ledger.",
+                      ex);
+            }
+          });
+    }
+  }
+
+  private Path donationLedgerFile(StreamPlatform platform) {
+    return getDataFolder().toPath().resolve("donations").resolve(platform.id() + ".tsv");
+  }
+
+  /**
+   * Describes the donation ledger for a platform.
+   *
+   * @param platformId platform identifier such as {@code youtube} or {@code tiktok}
+   * @param donor donor to look up, or {@code null} to list the top donors
+   * @return chat lines describing the requested totals
+   */
+  public List<String> describeDonations(String platformId, String donor) {
+    StreamPlatform platform = StreamPlatform.fromId(platformId);
+    DonationLedger ledger = platform == null ? null : donationLedgers.get(platform);
+    if (ledger == null) {
+      return List.of(ChatColor.RED + "No donation ledger is available for that platform.");
+    }
+
+    List<String> lines = new ArrayList<>();
+    if (donor != null && !donor.isBlank()) {
+      Optional<DonationLedger.DonorTotal> total = ledger.lookup(donor);
+      if (total.isEmpty()) {
+        lines.add(ChatColor.YELLOW + donor + ChatColor.GRAY + " has not donated yet.");
+        return lines;
+      }
+      DonationLedger.DonorTotal entry = total.get();
+      lines.add(
+          ChatColor.YELLOW
+              + entry.name()
+              + ChatColor.GRAY
+              + ": "
+              + ChatColor.GREEN
+              + formatLedgerAmount(entry.session())
+              + ChatColor.GRAY
+              + " this session, "
+              + ChatColor.GREEN
+              + formatLedgerAmount(entry.lifetime())
+              + ChatColor.GRAY
+              + " lifetime over "
+              + entry.donations()
+              + " donation(s).");
+      return lines;
+    }
+
+    int limit = Math.max(1, getConfig().getInt("donation-ledger.top-donors", 5));
+    lines.add(
+        ChatColor.GOLD
+            + platform.displayName()
+            + " donations: "
+            + ChatColor.GREEN
+            + formatLedgerAmount(ledger.sessionTotal())
+            + ChatColor.GOLD
+            + " this session, "
+            + ChatColor.GREEN
+            + formatLedgerAmount(ledger.lifetimeTotal())
+            + ChatColor.GOLD
+            + " lifetime.");
+    List<DonationLedger.DonorTotal> top = ledger.topSession(limit);
+    if (top.isEmpty()) {
+      lines.add(ChatColor.GRAY + "No donations recorded this session.");
+    }
+    int rank = 1;
+    for (DonationLedger.DonorTotal entry : top) {
+      lines.add(
+          ChatColor.GRAY
+              + "#"
+              + rank++
+              + " "
+              + ChatColor.YELLOW
+              + entry.name()
+              + ChatColor.GRAY
+              + " - "
+              + ChatColor.GREEN
+              + formatLedgerAmount(entry.session()));
+    }
+    return lines;
+  }
+
+  /**
+   * Clears the current session totals for a platform while keeping lifetime totals.
+   *
+   * @param platformId platform identifier such as {@code youtube} or {@code tiktok}
+   * @return {@code true} if a ledger was reset
+   */
+  public boolean resetDonationSession(String platformId) {
+    StreamPlatform platform = StreamPlatform.fromId(platformId);
+    DonationLedger ledger = platform == null ? null : donationLedgers.get(platform);
+    if (ledger == null) {
+      return false;
+    }
+    ledger.resetSession();
+    return true;
+  }
+
+  /** Returns the names of the worlds the reset scheduler manages. */
+  public List<String> worldResetTargetNames() {
+    return worldResetScheduler == null ? List.of() : worldResetScheduler.targetWorldNames();
+  }
+
+  /**
+   * Describes the most recent world reset routines with their per-phase timings.
+   *
+   * @param limit maximum number of routines to describe
+   * @return chat lines, newest routine first
+   */
+  public List<String> describeWorldResetHistory(int limit) {
+    if (worldResetScheduler == null) {
+      return List.of(ChatColor.RED + "The world reset scheduler is not running.");
+    }
+    return worldResetScheduler.describeHistory(limit);
+  }
+
+  /**
+   * Packs a target world's template directory into a single template pack file.
+   *
+   * @param worldName target world to pack
+   * @return chat lines describing the outcome, completed once the pack is written
+   */
+  public CompletableFuture<List<String>> buildWorldTemplatePack(String worldName) {
+    if (worldResetScheduler == null) {
+      return CompletableFuture.completedFuture(
+          List.of(ChatColor.RED + "The world reset scheduler is not running."));
+    }
+    return worldResetScheduler.buildTemplatePack(worldName);
+  }
+
+  private static String formatLedgerAmount(double amount) {
+    return String.format(Locale.US, "%.2f", amount);
+  }
+
   private void registerCommands() {
     PluginCommand command = getCommand("ytstream");
     if (command == null) {
@@ -260,6 +596,18 @@ public class ExamplePlugin extends JavaPlugin {
       nightPunishCommand = new NightPunishCommand(this);
       nightCommand.setExecutor(nightPunishCommand);
       nightCommand.setTabCompleter(nightPunishCommand);
+      getServer().getPluginManager().registerEvents(nightPunishCommand, this);
+      nightPunishCommand.restoreState();
+    }
+
+    PluginCommand worldResetCommand = getCommand("worldreset");
+    if (worldResetCommand == null) {
+      getLogger()
+          .warning("Failed to register /worldreset command; command not defined in plugin.yml");
+    } else {
+      WorldResetCommand worldResetExecutor = new WorldResetCommand(this);
+      worldResetCommand.setExecutor(worldResetExecutor);
+      worldResetCommand.setTabCompleter(worldResetExecutor);
     }
   }
 
@@ -270,8 +618,11 @@ public class ExamplePlugin extends JavaPlugin {
     }
 
     for (StreamPlatform platform : StreamPlatform.values()) {
-      restartMonitoring(platform);
+      if (!usesMultiplexedListener(platform)) {
+        restartMonitoring(platform);
+      }
     }
+    restartMultiplexedListener();
   }
 
   private void restartMonitoring(StreamPlatform platform) {
@@ -281,9 +632,14 @@ public class ExamplePlugin extends JavaPlugin {
       return;
     }
 
+    if (usesMultiplexedListener(platform)) {
+      restartMultiplexedListener();
+      return;
+    }
+
     ListenerSettings settings = getListenerSettings(platform);
     if (settings == null) {
-      stopListenerProcessAsync(process, null);
+      stopListenerProcess(process);
       return;
     }
 
@@ -291,8 +647,8 @@ public class ExamplePlugin extends JavaPlugin {
     boolean useExternalListener = listenerUrl != null && !listenerUrl.isBlank();
     boolean localListenerEnabled = settings.localListenerEnabled();
     boolean recipientAware = settings.autoMonitorWhenRecipientsOnline();
-    if (recipientAware && !hasMonitoringRecipients(platform, settings)) {
-      stopListenerProcessAsync(process, null);
+    if (recipientAware && !hasMonitoringRecipients(platform)) {
+      stopListenerProcess(process);
       return;
     }
 
@@ -304,14 +660,14 @@ public class ExamplePlugin extends JavaPlugin {
               + " listener is disabled and no external listener URL is "
               + "configured; skipping listener start.";
       getLogger().warning(warning);
-      stopListenerProcessAsync(process, null);
+      stopListenerProcess(process);
       return;
     }
     if (!useExternalListener && (streamIdentifier == null || streamIdentifier.isBlank())) {
       String warning = "No " + platform.displayName()
           + " stream identifier configured; skipping listener start.";
       getLogger().warning(warning);
-      stopListenerProcessAsync(process, null);
+      stopListenerProcess(process);
       return;
     }
 
@@ -323,25 +679,273 @@ public class ExamplePlugin extends JavaPlugin {
       listenerScript = null;
     }
 
-    String targetIgn = settings.targetIgn();
-    BridgeSettings platformSettings = getBridgeSettings(platform);
-    if ((targetIgn == null || targetIgn.isBlank()) && platformSettings != null) {
-      targetIgn = platformSettings.targetPlayer();
+    // start() stops the current listener first and coalesces with a stop already in progress.
+    startListenerProcess(
+        process,
+        settings.pythonExecutable(),
+        listenerScript,
+        streamIdentifier,
+        settings.pollingIntervalSeconds(),
+        resolveListenerTarget(platform),
+        settings.streamlabsSocketToken(),
+        listenerUrl,
+        settings.warmStandby());
+  }
+
+  private void applyListenerTransport() {
+    listenerProcesses
+        .values()
+        .forEach(
+            process -> {
+              process.setTransport(listenerTransport);
+              process.setBinaryFrames(listenerBinaryFrames);
+            });
+    if (multiplexedListener != null) {
+      multiplexedListener.setTransport(listenerTransport);
+      multiplexedListener.setBinaryFrames(listenerBinaryFrames);
+    }
+  }
+
+  private boolean usesMultiplexedListener(StreamPlatform platform) {
+    ListenerSettings settings = getListenerSettings(platform);
+    return multiplexLocalListeners
+        && multiplexedListener != null
+        && settings != null
+        && settings.localListenerEnabled()
+        && settings.listenerUrl().isBlank();
+  }
+
+  /**
+   * Restarts the shared listener process with a session for every local platform that should be
+   * monitored right now, or stops it when there is none. The Python executable, script and
+   * Streamlabs token are taken from the first such platform, and the shortest polling interval
+   * wins.
+   */
+  private void restartMultiplexedListener() {
+    refreshMultiplexedListener(false);
+  }
+
+  /**
+   * Starts or stops single sessions of the shared listener over its control channel, so one
+   * platform going idle or active does not interrupt the others. Falls back to a full restart
+   * when the running listener cannot be updated in place.
+   */
+  private void updateMultiplexedSessions() {
+    refreshMultiplexedListener(true);
+  }
+
+  private void refreshMultiplexedListener(boolean inPlace) {
+    if (multiplexedListener == null) {
+      return;
     }
 
-    String finalTarget = targetIgn;
-    stopListenerProcessAsync(
-        process,
-        () ->
-            startListenerProcess(
-                process,
-                settings.pythonExecutable(),
-                listenerScript,
-                streamIdentifier,
-                settings.pollingIntervalSeconds(),
-                finalTarget,
-                settings.streamlabsSocketToken(),
-                listenerUrl));
+    Map<String, String> sessions = new LinkedHashMap<>();
+    multiplexedSessions.clear();
+    StreamPlatform primary = null;
+    int pollingIntervalSeconds = Integer.MAX_VALUE;
+    for (StreamPlatform platform : StreamPlatform.values()) {
+      if (!usesMultiplexedListener(platform)) {
+        continue;
+      }
+      // The platform may have had its own process before multiplexing was enabled.
+      stopListenerProcess(listenerProcesses.get(platform));
+      ListenerSettings settings = getListenerSettings(platform);
+      if (settings.streamIdentifier().isBlank()
+          || (settings.autoMonitorWhenRecipientsOnline() && !hasMonitoringRecipients(platform))) {
+        continue;
+      }
+      sessions.put(platform.id(), settings.streamIdentifier());
+      multiplexedSessions.add(platform);
+      pollingIntervalSeconds = Math.min(pollingIntervalSeconds, settings.pollingIntervalSeconds());
+      if (primary == null) {
+        primary = platform;
+      }
+    }
+
+    if (primary == null) {
+      stopListenerProcess(multiplexedListener);
+      return;
+    }
+
+    ensureListenerScriptAvailable(primary);
+    ListenerSettings settings = getListenerSettings(primary);
+    String streamlabsToken =
+        multiplexedSessions.contains(StreamPlatform.YOUTUBE)
+            ? youtubeListenerSettings.streamlabsSocketToken()
+            : "";
+    if (inPlace && multiplexedListener.isRunning()) {
+      switchSessionsInPlace(sessions, pollingIntervalSeconds, streamlabsToken);
+      return;
+    }
+    try {
+      multiplexedListener.startMultiplexed(
+          settings.pythonExecutable(),
+          getListenerScriptFile(primary),
+          sessions,
+          pollingIntervalSeconds,
+          streamlabsToken);
+    } catch (Exception e) {
+      getLogger().log(Level.SEVERE, "Failed to start multiplexed listener process", e);
+    }
+  }
+
+  private void switchSessionsInPlace(
+      Map<String, String> sessions, int pollingIntervalSeconds, String streamlabsToken) {
+    com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge listener = multiplexedListener;
+    Runnable switchTask =
+        () -> {
+          boolean switched =
+              listener.updateSessions(sessions, pollingIntervalSeconds, streamlabsToken);
+          Runnable followUp =
+              () -> {
+                if (switched) {
+                  getLogger()
+                      .info(
+                          "Multiplexed listener now runs "
+                              + sessions.keySet()
+                              + " without a restart.");
+                } else if (listener == multiplexedListener) {
+                  restartMultiplexedListener();
+                }
+              };
+          try {
+            getServer().getScheduler().runTask(this, followUp);
+          } catch (IllegalStateException schedulerShutdown) {
+            followUp.run();
+          }
+        };
+    try {
+      getServer().getScheduler().runTaskAsynchronously(this, switchTask);
+    } catch (IllegalStateException schedulerShutdown) {
+      switchTask.run();
+    }
+  }
+
+  /**
+   * Re-reads cached settings from the in-memory configuration and applies only the listener
+   * changes they require. Effect settings are swapped in place, target changes are pushed to the
+   * running listener, and a listener is restarted only when its process parameters changed.
+   */
+  public void applyConfigurationChanges() {
+    EnumMap<StreamPlatform, ListenerSettings> previousListeners =
+        new EnumMap<>(StreamPlatform.class);
+    EnumMap<StreamPlatform, String> previousTargets = new EnumMap<>(StreamPlatform.class);
+    boolean previouslyMultiplexed = multiplexLocalListeners;
+    com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge.Transport previousTransport =
+        listenerTransport;
+    boolean previousBinaryFrames = listenerBinaryFrames;
+    for (StreamPlatform platform : StreamPlatform.values()) {
+      ListenerSettings settings = getListenerSettings(platform);
+      if (settings != null) {
+        previousListeners.put(platform, settings);
+      }
+      previousTargets.put(platform, resolveListenerTarget(platform));
+    }
+
+    loadSettingsFromConfig();
+
+    boolean transportChanged =
+        previousTransport != listenerTransport || previousBinaryFrames != listenerBinaryFrames;
+    boolean restartMultiplexed =
+        transportChanged || previouslyMultiplexed != multiplexLocalListeners;
+    for (StreamPlatform platform : StreamPlatform.values()) {
+      com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process =
+          listenerProcesses.get(platform);
+      if (process == null) {
+        continue;
+      }
+
+      ListenerSettings previous = previousListeners.get(platform);
+      ListenerSettings current = getListenerSettings(platform);
+      if (usesMultiplexedListener(platform)) {
+        // Targets are resolved per line for the shared process, so only restarts matter here.
+        restartMultiplexed |=
+            previous == null
+                || previous.requiresRestart(current)
+                || !multiplexedListener.isRunning();
+        continue;
+      }
+      if (previous == null || !process.isRunning() || transportChanged) {
+        restartMonitoring(platform);
+        continue;
+      }
+      if (previous.requiresRestart(current)) {
+        if (!previous.canSwitchInPlace(current)) {
+          restartMonitoring(platform);
+          continue;
+        }
+        switchListenerInPlace(platform, process, current);
+      }
+
+      String target = resolveListenerTarget(platform);
+      if (!Objects.equals(previousTargets.get(platform), target)) {
+        process.updateTargetIgn(target);
+        getLogger()
+            .info(
+                "Updated "
+                    + platform.displayName()
+                    + " listener target without restarting the listener.");
+      }
+    }
+    if (restartMultiplexed) {
+      restartMultiplexedListener();
+    }
+
+    if (recipientTracker != null) {
+      // Permissions may have been reloaded alongside the config; gating may have been toggled.
+      recipientTracker.refreshAll(getServer().getOnlinePlayers());
+      for (StreamPlatform platform : StreamPlatform.values()) {
+        updateRecipientAwareMonitoring(platform);
+      }
+    }
+  }
+
+  private String resolveListenerTarget(StreamPlatform platform) {
+    ListenerSettings settings = getListenerSettings(platform);
+    String targetIgn = settings != null ? settings.targetIgn() : null;
+    BridgeSettings bridgeSettings = getBridgeSettings(platform);
+    if ((targetIgn == null || targetIgn.isBlank()) && bridgeSettings != null) {
+      targetIgn = bridgeSettings.targetPlayer();
+    }
+    return targetIgn;
+  }
+
+  /**
+   * Points a running local listener at a new stream or polling interval over its control channel,
+   * restarting it only if the listener can no longer be reached.
+   */
+  private void switchListenerInPlace(
+      StreamPlatform platform,
+      com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process,
+      ListenerSettings settings) {
+    Runnable switchTask =
+        () -> {
+          boolean switched =
+              process.switchStream(
+                  settings.streamIdentifier(), settings.pollingIntervalSeconds());
+          Runnable followUp =
+              () -> {
+                if (switched) {
+                  getLogger()
+                      .info(
+                          "Switched "
+                              + platform.displayName()
+                              + " listener stream without restarting the listener.");
+                } else {
+                  restartMonitoring(platform);
+                }
+              };
+          try {
+            getServer().getScheduler().runTask(this, followUp);
+          } catch (IllegalStateException schedulerShutdown) {
+            followUp.run();
+          }
+        };
+    try {
+      getServer().getScheduler().runTaskAsynchronously(this, switchTask);
+    } catch (IllegalStateException schedulerShutdown) {
+      switchTask.run();
+    }
   }
 
   private void bindBridge(StreamPlatform platform, PlatformChatBridge bridgeInstance) {
@@ -352,7 +956,14 @@ public class ExamplePlugin extends JavaPlugin {
     BridgeSettings settings = platformSettings.get(platform);
     long interval = settings != null ? settings.subscriberMilestoneInterval() : 0L;
     bridgeInstance.setSubscriberMilestoneInterval(interval);
+    long knownSubscribers = getKnownSubscriberCount(platform);
+    if (knownSubscribers > 0) {
+      bridgeInstance.seedSubscriberCount(knownSubscribers);
+    }
 
+    registrations.add(
+        bridgeInstance.registerSubscriberCountListener(
+            total -> handleSubscriberCount(platform, total)));
     registrations.add(
         bridgeInstance.registerChatListener(message -> handleChatMessage(platform, message)));
     registrations.add(
@@ -371,71 +982,58 @@ public class ExamplePlugin extends JavaPlugin {
       int pollingIntervalSeconds,
       String targetIgn,
       String streamlabsToken,
-      String listenerUrl) {
-    final File scriptRef = listenerScript;
-    final String urlRef = listenerUrl;
+      String listenerUrl,
+      boolean warmStandby) {
     try {
-      getServer()
-          .getScheduler()
-          .runTaskAsynchronously(
-              this,
-              () -> {
-                try {
-                  process.start(
-                      pythonExecutable,
-                      scriptRef,
-                      streamIdentifier,
-                      pollingIntervalSeconds,
-                      targetIgn,
-                      streamlabsToken,
-                      urlRef);
-                } catch (Exception e) {
-                  getLogger().log(Level.SEVERE, "Failed to start listener process", e);
-                }
-              });
-    } catch (IllegalStateException schedulerShutdown) {
-      try {
-        process.start(
-            pythonExecutable,
-            scriptRef,
-            streamIdentifier,
-            pollingIntervalSeconds,
-            targetIgn,
-            streamlabsToken,
-            urlRef);
-      } catch (Exception e) {
-        getLogger().log(Level.SEVERE, "Failed to start listener process", e);
-      }
+      process.start(
+          pythonExecutable,
+          listenerScript,
+          streamIdentifier,
+          pollingIntervalSeconds,
+          targetIgn,
+          streamlabsToken,
+          listenerUrl,
+          warmStandby);
+    } catch (Exception e) {
+      getLogger().log(Level.SEVERE, "Failed to start listener process", e);
     }
   }
 
-  private void stopListenerProcessAsync(
-      com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process, Runnable afterStop) {
+  private CompletableFuture<Void> stopListenerProcess(
+      com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process) {
     if (process == null) {
-      if (afterStop != null) {
-        afterStop.run();
-      }
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
-    Runnable stopTask =
-        () -> {
-          try {
-            process.stop();
-          } catch (Exception e) {
-            getLogger().log(Level.WARNING, "Failed to stop listener process cleanly", e);
-          }
-
-          if (afterStop != null) {
-            afterStop.run();
-          }
-        };
+    // Only signals the process; the bridge reaps it once it exits.
+    return process
+        .stop()
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                getLogger().log(Level.WARNING, "Failed to stop listener process cleanly", error);
+              }
+            });
+  }
 
+  private void awaitListenerExit(
+      List<com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge> processes,
+      List<CompletableFuture<Void>> exits) {
+    if (processes.isEmpty()) {
+      return;
+    }
     try {
-      getServer().getScheduler().runTaskAsynchronously(this, stopTask);
-    } catch (IllegalStateException schedulerShutdown) {
-      stopTask.run();
+      CompletableFuture.allOf(exits.toArray(new CompletableFuture<?>[0]))
+          .get(LISTENER_DISABLE_WAIT_SECONDS, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      getLogger().warning("Listener processes did not exit in time; killing them.");
+    } catch (ExecutionException e) {
+      // Already logged by stopListenerProcess.
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
+    processes.forEach(
+        com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge::destroyRemaining);
   }
 
   private void ensureListenerScriptAvailable() {
@@ -551,53 +1149,28 @@ public class ExamplePlugin extends JavaPlugin {
     }
   }
 
-  private String applyTitlePlaceholders(
-      String template,
-      String donor,
-      Double amount,
-      String formattedAmount,
-      String currency,
-      String message,
-      int tntCount) {
-    if (template == null) {
-      return "";
-    }
-
-    final String safeDonor = donor == null ? "" : donor;
-    final String numericAmount =
-        amount == null ? "" : String.format(Locale.US, "%.2f", amount);
-    final String safeCurrency = currency == null ? "" : currency.toUpperCase(Locale.ROOT);
-    final String safeMessage = message == null ? "" : message;
-    final String formatted = formatAmountText(amount, currency, formattedAmount);
-
-    String result =
-        template
-            .replace("{donor}", safeDonor)
-            .replace("{amount}", numericAmount)
-            .replace("{formatted_amount}", formatted)
-            .replace("{currency}", safeCurrency)
-            .replace("{message}", safeMessage)
-            .replace("{tnt_count}", Integer.toString(Math.max(0, tntCount)));
-
-    return ChatColor.translateAlternateColorCodes('&', result);
+  private String renderOrbitalTitle(
+      LegacyTemplate template, OrbitalStrikeInvocation invocation, int tntCount) {
+    Double amount = invocation.amount();
+    String currency = invocation.currency();
+    DonationLedger.Receipt receipt = invocation.receipt();
+    return template.render(
+        invocation.donor(),
+        amount == null ? "" : String.format(Locale.US, "%.2f", amount),
+        formatAmountText(amount, currency, invocation.formattedAmount()),
+        currency == null ? "" : currency.toUpperCase(Locale.ROOT),
+        invocation.donorMessage(),
+        Integer.toString(Math.max(0, tntCount)),
+        receipt == null ? null : formatLedgerAmount(receipt.donorLifetime()),
+        receipt == null ? null : formatLedgerAmount(receipt.sessionTotal()));
   }
 
-  private String applyMilestoneTitlePlaceholders(
-      String template, @NotNull SubscriberMilestone milestone, int tntCount) {
-    if (template == null) {
-      return "";
-    }
-
-    long totalSubscribers = Math.max(0L, milestone.totalSubscribers());
-    long interval = Math.max(0L, milestone.milestoneInterval());
-    int safeTntCount = Math.max(0, tntCount);
-
-    String result = template;
-    result = result.replace("{total_subscribers}", Long.toString(totalSubscribers));
-    result = result.replace("{milestone_interval}", Long.toString(interval));
-    result = result.replace("{tnt_count}", Integer.toString(safeTntCount));
-
-    return ChatColor.translateAlternateColorCodes('&', result);
+  private String renderMilestoneTitle(
+      LegacyTemplate template, @NotNull SubscriberMilestone milestone, int tntCount) {
+    return template.render(
+        Long.toString(Math.max(0L, milestone.totalSubscribers())),
+        Long.toString(Math.max(0L, milestone.milestoneInterval())),
+        Integer.toString(Math.max(0, tntCount)));
   }
 
   private String formatAmountText(
@@ -618,24 +1191,34 @@ public class ExamplePlugin extends JavaPlugin {
 
   /** Handles chat lines emitted by the Python listener. */
   public void handleIncomingYouTubeMessage(String message, String targetIgn) {
-    handleIncomingListenerMessage(StreamPlatform.YOUTUBE, message, targetIgn);
+    handleIncomingListenerMessage(StreamPlatform.YOUTUBE, message, targetIgn, false);
   }
 
   /** Handles chat lines emitted by the TikTok listener. */
   public void handleIncomingTikTokMessage(String message, String targetIgn) {
-    handleIncomingListenerMessage(StreamPlatform.TIKTOK, message, targetIgn);
+    handleIncomingListenerMessage(StreamPlatform.TIKTOK, message, targetIgn, false);
   }
 
+  /**
+   * Handles one listener line. A multiplexed line is routed by its {@code platform} tag, falling
+   * back to {@code platform} when untagged, and is sent to that platform's target player.
+   */
   private void handleIncomingListenerMessage(
-      StreamPlatform platform, String message, String targetIgn) {
+      StreamPlatform platform, String message, String targetIgn, boolean multiplexed) {
     if (message == null || message.isBlank()) {
       return;
     }
 
     String trimmed = message.trim();
-    if (handleStructuredListenerPayload(trimmed, targetIgn, platform)) {
+    PayloadParseEvent parseEvent =
+        PayloadParseEvent.start(multiplexed ? "multiplexed" : platform.id(), trimmed.length());
+    String structuredType =
+        handleStructuredListenerPayload(trimmed, targetIgn, platform, multiplexed);
+    if (structuredType != null) {
+      parseEvent.finish(structuredType, true);
       return;
     }
+    recordPayload(platform, "plain");
 
     String author = platform.displayName();
     String content = trimmed;
@@ -650,26 +1233,54 @@ public class ExamplePlugin extends JavaPlugin {
       }
     }
 
+    parseEvent.finish("plain", false);
     if (content.isEmpty()) {
       return;
     }
 
-    publishChatMessage(platform, author, content, Instant.now(), null, targetIgn);
+    String target = multiplexed ? resolveListenerTarget(platform) : targetIgn;
+    publishChatMessage(platform, author, content, Instant.now(), null, target);
+  }
+
+  /**
+   * Handles one listener event that arrived already decoded, e.g. from a binary frame. Routed the
+   * same way as {@link #handleIncomingListenerMessage}.
+   */
+  private void handleIncomingListenerEvent(
+      StreamPlatform platform, JsonObject event, String targetIgn, boolean multiplexed) {
+    PayloadParseEvent parseEvent =
+        PayloadParseEvent.start(multiplexed ? "multiplexed" : platform.id(), 0);
+    String structuredType = dispatchListenerPayload(event, targetIgn, platform, multiplexed);
+    parseEvent.finish(structuredType != null ? structuredType : "unknown", true);
   }
 
-  private boolean handleStructuredListenerPayload(
-      String payload, String targetIgn, StreamPlatform fallbackPlatform) {
+  /**
+   * Routes a JSON listener payload to its handler.
+   *
+   * @return the handled payload type, or {@code null} when the line is not a structured payload
+   */
+  private String handleStructuredListenerPayload(
+      String payload, String targetIgn, StreamPlatform fallbackPlatform, boolean multiplexed) {
     JsonObject root;
     try {
       JsonElement parsed = JsonParser.parseString(payload);
       if (!parsed.isJsonObject()) {
-        return false;
+        return null;
       }
       root = parsed.getAsJsonObject();
     } catch (JsonSyntaxException ex) {
-      return false;
+      return null;
     }
+    return dispatchListenerPayload(root, targetIgn, fallbackPlatform, multiplexed);
+  }
 
+  /**
+   * Routes a decoded listener payload to its handler.
+   *
+   * @return the handled payload type, or {@code null} when the payload has no known type
+   */
+  private String dispatchListenerPayload(
+      JsonObject root, String targetIgn, StreamPlatform fallbackPlatform, boolean multiplexed) {
     String type = jsonString(root, "type");
     StreamPlatform platform =
         root.has("platform")
@@ -693,42 +1304,41 @@ public class ExamplePlugin extends JavaPlugin {
       }
       platform = fallbackPlatform;
       if (platform == null) {
-        return false;
+        return null;
       }
     }
     if (type == null || type.isBlank()) {
-      return false;
+      return null;
     }
 
-    switch (type.toLowerCase(Locale.ROOT)) {
-      case "chat" -> {
-        handleStructuredChat(platform, root, targetIgn);
-        return true;
-      }
-      case "subscriber" -> {
-        handleStructuredSubscriber(platform, root);
-        return true;
-      }
-      case "donation" -> {
-        handleStructuredDonation(platform, root);
-        return true;
-      }
-      case "milestone" -> {
-        handleStructuredMilestone(platform, root);
-        return true;
-      }
-      case "log", "status", "heartbeat" -> {
-        handleStructuredLog(platform, root, Level.INFO);
-        return true;
-      }
-      case "error" -> {
-        handleStructuredLog(platform, root, Level.SEVERE);
-        return true;
-      }
+    String normalizedType = type.toLowerCase(Locale.ROOT);
+    switch (normalizedType) {
+      case "chat" ->
+          handleStructuredChat(
+              platform, root, multiplexed ? resolveListenerTarget(platform) : targetIgn);
+      case "subscriber" -> handleStructuredSubscriber(platform, root);
+      case "donation" -> handleStructuredDonation(platform, root);
+      case "milestone" -> handleStructuredMilestone(platform, root);
+      case "log", "status", "heartbeat" -> handleStructuredLog(platform, root, Level.INFO);
+      case "error" -> handleStructuredLog(platform, root, Level.SEVERE);
       default -> {
-        return false;
+        return null;
       }
     }
+    recordPayload(platform, normalizedType);
+    return normalizedType;
+  }
+
+  private void recordPayload(StreamPlatform platform, String type) {
+    metrics.increment(Family.LISTENER_PAYLOADS, 1L, "platform", platform.id(), "type", type);
+  }
+
+  private void recordEffect(StreamPlatform platform, String effect) {
+    metrics.increment(Family.EFFECT_TRIGGERS, 1L, "platform", platform.id(), "effect", effect);
+  }
+
+  private void recordTntSpawned(StreamPlatform platform, String effect, int count) {
+    metrics.increment(Family.TNT_SPAWNED, count, "platform", platform.id(), "effect", effect);
   }
 
   private void handleStructuredChat(
@@ -785,16 +1395,11 @@ public class ExamplePlugin extends JavaPlugin {
       return;
     }
 
-    OrbitalStrikeSettings orbitalStrike = donationSettings.orbitalStrike();
-    if (orbitalStrike == null || !orbitalStrike.enabled()) {
-      return;
-    }
-
     Double amount = jsonDouble(payload, "amount");
     if (amount == null) {
       amount = jsonDouble(payload, "total");
     }
-    if (amount == null || amount < orbitalStrike.minAmount()) {
+    if (amount == null) {
       return;
     }
 
@@ -802,10 +1407,29 @@ public class ExamplePlugin extends JavaPlugin {
         Optional.ofNullable(jsonString(payload, "currency"))
             .map(String::trim)
             .orElse("");
-    if (orbitalStrike.currency() != null && !orbitalStrike.currency().isBlank()) {
-      if (currency.isBlank() || !orbitalStrike.currency().equalsIgnoreCase(currency)) {
-        return;
-      }
+    OrbitalStrikeSettings orbitalStrike = donationSettings.orbitalStrike();
+    // Totals are only meaningful in one currency, so the ledger shares the strike's filter.
+    if (orbitalStrike != null && !orbitalStrike.acceptsCurrency(currency)) {
+      return;
+    }
+
+    String donor = Objects.requireNonNullElse(jsonString(payload, "author"), "Supporter");
+    DonationLedger ledger = donationLedgers.get(platform);
+    DonationLedger.Receipt receipt = ledger == null ? null : ledger.record(donor, amount);
+
+    if (orbitalStrike == null || !orbitalStrike.enabled()) {
+      return;
+    }
+
+    long strikes = amount >= orbitalStrike.minAmount() ? 1L : 0L;
+    if (receipt != null) {
+      strikes +=
+          Math.min(
+              MAX_CUMULATIVE_STRIKES_PER_DONATION,
+              receipt.thresholdsCrossed(donationSettings.cumulativeStrikeEvery()));
+    }
+    if (strikes <= 0L) {
+      return;
     }
 
     Optional<Player> target = resolveConfiguredPlayer(settings);
@@ -814,7 +1438,6 @@ public class ExamplePlugin extends JavaPlugin {
     }
 
     Player player = target.get();
-    String donor = Objects.requireNonNullElse(jsonString(payload, "author"), "Supporter");
     String donorMessage = jsonString(payload, "message");
     String formattedAmount = jsonString(payload, "formattedAmount");
 
@@ -827,9 +1450,12 @@ public class ExamplePlugin extends JavaPlugin {
             formattedAmount,
             amount,
             currency,
-            orbitalStrike);
+            orbitalStrike,
+            receipt);
 
-    runOnMainThread(() -> triggerOrbitalStrike(invocation));
+    for (long i = 0; i < strikes; i++) {
+      runOnMainThread(() -> triggerOrbitalStrike(invocation));
+    }
   }
 
   private void handleStructuredMilestone(StreamPlatform platform, JsonObject payload) {
@@ -870,6 +1496,7 @@ public class ExamplePlugin extends JavaPlugin {
       Instant timestamp,
       String channelId,
       String targetIgn) {
+    ChatFanOutEvent fanOutEvent = ChatFanOutEvent.start(platform.id());
     String resolvedAuthor =
         author == null || author.isBlank() ? platform.displayName() : author;
     PlatformChatBridge bridgeInstance = activeBridges.get(platform);
@@ -883,10 +1510,11 @@ public class ExamplePlugin extends JavaPlugin {
               channelId));
     }
 
-    deliverChatToPlayers(platform, resolvedAuthor, content, targetIgn);
+    int recipients = deliverChatToPlayers(platform, resolvedAuthor, content, targetIgn);
+    fanOutEvent.finish(recipients);
   }
 
-  private void deliverChatToPlayers(
+  private int deliverChatToPlayers(
       StreamPlatform platform, String author, String content, String targetIgn) {
     String resolvedAuthor =
         author == null || author.isBlank() ? platform.displayName() : author;
@@ -912,13 +1540,18 @@ public class ExamplePlugin extends JavaPlugin {
       Player player = Bukkit.getPlayerExact(targetIgn);
       if (player != null && player.isOnline() && player.hasPermission(permission)) {
         player.sendMessage(formatted);
-        return;
+        return 1;
       }
     }
 
-    Bukkit.getOnlinePlayers().stream()
-        .filter(player -> player.hasPermission(permission))
-        .forEach(player -> player.sendMessage(formatted));
+    int recipients = 0;
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      if (player.hasPermission(permission)) {
+        player.sendMessage(formatted);
+        recipients++;
+      }
+    }
+    return recipients;
   }
 
   private BridgeSettings getBridgeSettings(StreamPlatform platform) {
@@ -1087,6 +1720,8 @@ public class ExamplePlugin extends JavaPlugin {
 
     Player player = target.get();
     if (spawnSingleTnt(settings, player.getLocation())) {
+      recordEffect(platform, "chat_tnt");
+      recordTntSpawned(platform, "chat_tnt", 1);
       player
           .getWorld()
           .playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 1.0f, 1.0f);
@@ -1100,12 +1735,6 @@ public class ExamplePlugin extends JavaPlugin {
       return;
     }
 
-    boolean subscriberCountChanged =
-        updateKnownSubscriberCount(platform, notification.totalSubscribers());
-    if (subscriberCountChanged) {
-      persistSubscriberState(platform);
-    }
-
     if (!settings.enabled || !settings.subscriberKillEnabled) {
       return;
     }
@@ -1130,17 +1759,26 @@ public class ExamplePlugin extends JavaPlugin {
               if (!isWorldAllowed(target.getWorld(), settings)) {
                 return;
               }
+              recordEffect(platform, "subscriber_kill");
               target.setHealth(0.0);
             });
   }
 
+  private void handleSubscriberCount(StreamPlatform platform, long totalSubscribers) {
+    if (updateKnownSubscriberCount(platform, totalSubscribers)) {
+      requestSubscriberStateSave(platform);
+    }
+  }
+
   private void handleMilestone(StreamPlatform platform, SubscriberMilestone milestone) {
     BridgeSettings settings = getBridgeSettings(platform);
     if (settings == null) {
       return;
     }
 
-    updateKnownSubscriberCount(platform, milestone.totalSubscribers());
+    if (updateKnownSubscriberCount(platform, milestone.totalSubscribers())) {
+      requestSubscriberStateSave(platform);
+    }
 
     if (!settings.enabled || !settings.milestoneEnabled) {
       return;
@@ -1151,15 +1789,61 @@ public class ExamplePlugin extends JavaPlugin {
       return;
     }
 
-    Optional<Player> target = resolveConfiguredPlayer(settings);
-    if (target.isEmpty()) {
+    recordLastCelebratedMilestone(platform, milestone.totalSubscribers());
+    requestSubscriberStateSave(platform);
+    pendingCelebrations.computeIfAbsent(platform, ignored -> new ArrayDeque<>()).add(milestone);
+    if (celebratingPlatforms.add(platform)) {
+      playNextMilestoneCelebration(platform);
+    }
+  }
+
+  /**
+   * Plays queued milestone celebrations one at a time so a burst that crosses several boundaries
+   * produces one celebration per boundary without stacking the TNT waves.
+   */
+  private void playNextMilestoneCelebration(StreamPlatform platform) {
+    ArrayDeque<SubscriberMilestone> queue = pendingCelebrations.get(platform);
+    SubscriberMilestone milestone = queue == null ? null : queue.poll();
+    if (milestone == null) {
+      celebratingPlatforms.remove(platform);
       return;
     }
 
-    Player player = target.get();
-    spawnMilestoneCelebration(settings, player, milestone);
-    recordLastCelebratedMilestone(platform, milestone.totalSubscribers());
-    persistSubscriberState(platform);
+    long delayTicks = 1L;
+    BridgeSettings settings = getBridgeSettings(platform);
+    if (settings != null && settings.enabled && settings.milestoneEnabled) {
+      Optional<Player> target = resolveConfiguredPlayer(settings);
+      if (target.isPresent()) {
+        spawnMilestoneCelebration(platform, settings, target.get(), milestone);
+        MilestoneSettings milestoneSettings = settings.milestoneSettings;
+        long waves =
+            (milestoneSettings.tntCount() + milestoneSettings.perTick() - 1L)
+                / milestoneSettings.perTick();
+        delayTicks =
+            Math.max(1L, waves * milestoneSettings.tickInterval() + milestoneSettings.fuseTicks());
+      }
+    }
+    getServer()
+        .getScheduler()
+        .runTaskLater(this, () -> playNextMilestoneCelebration(platform), delayTicks);
+  }
+
+  /** Coalesces subscriber state writes so a burst of updates saves the config once. */
+  private void requestSubscriberStateSave(StreamPlatform platform) {
+    boolean firstRequest = dirtySubscriberState.isEmpty();
+    dirtySubscriberState.add(platform);
+    if (!firstRequest) {
+      return;
+    }
+    getServer()
+        .getScheduler()
+        .runTask(
+            this,
+            () -> {
+              List<StreamPlatform> dirty = new ArrayList<>(dirtySubscriberState);
+              dirtySubscriberState.clear();
+              dirty.forEach(this::persistSubscriberState);
+            });
   }
 
   private Optional<Player> resolveConfiguredPlayer(BridgeSettings settings) {
@@ -1234,7 +1918,10 @@ public class ExamplePlugin extends JavaPlugin {
   }
 
   private void spawnMilestoneCelebration(
-      BridgeSettings settings, Player player, SubscriberMilestone milestone) {
+      StreamPlatform platform,
+      BridgeSettings settings,
+      Player player,
+      SubscriberMilestone milestone) {
     MilestoneSettings milestoneSettings = settings.milestoneSettings;
     if (milestoneSettings.tntCount() <= 0) {
       return;
@@ -1271,12 +1958,11 @@ public class ExamplePlugin extends JavaPlugin {
       return;
     }
 
+    recordEffect(platform, "milestone");
     String mainTitle =
-        applyMilestoneTitlePlaceholders(
-            milestoneSettings.titleMain(), milestone, spawnLocations.size());
+        renderMilestoneTitle(milestoneSettings.titleMain(), milestone, spawnLocations.size());
     String subTitle =
-        applyMilestoneTitlePlaceholders(
-            milestoneSettings.titleSubtitle(), milestone, spawnLocations.size());
+        renderMilestoneTitle(milestoneSettings.titleSubtitle(), milestone, spawnLocations.size());
     if (!mainTitle.isEmpty() || !subTitle.isEmpty()) {
       player.sendTitle(
           mainTitle,
@@ -1296,6 +1982,7 @@ public class ExamplePlugin extends JavaPlugin {
           return;
         }
 
+        TntWaveEvent waveEvent = TntWaveEvent.start(platform.id(), "milestone");
         int spawnedThisTick = 0;
         while (index < spawnLocations.size()
             && spawnedThisTick < milestoneSettings.perTick()) {
@@ -1303,6 +1990,8 @@ public class ExamplePlugin extends JavaPlugin {
           spawnPrimedTnt(location, milestoneSettings.fuseTicks());
           spawnedThisTick++;
         }
+        waveEvent.finish(spawnedThisTick, spawnLocations.size() - index);
+        recordTntSpawned(platform, "milestone", spawnedThisTick);
 
         if (index >= spawnLocations.size()) {
           cancel();
@@ -1332,6 +2021,13 @@ public class ExamplePlugin extends JavaPlugin {
     }
 
     OrbitalStrikeSettings orbital = invocation.settings();
+    OrbitalStrikeEvent strikeEvent =
+        OrbitalStrikeEvent.start(
+            invocation.platform().id(),
+            invocation.donor(),
+            invocation.amount() == null ? Double.NaN : invocation.amount(),
+            invocation.currency(),
+            orbital.tntCount());
     double cappedRadius = Math.max(0.0D, orbital.radius());
     double baseY =
         Math.max(
@@ -1353,6 +2049,7 @@ public class ExamplePlugin extends JavaPlugin {
     }
 
     if (spawnLocations.isEmpty()) {
+      strikeEvent.finish(0);
       getLogger()
           .log(
               Level.FINE,
@@ -1361,24 +2058,10 @@ public class ExamplePlugin extends JavaPlugin {
       return;
     }
 
-    String mainTitle =
-        applyTitlePlaceholders(
-            orbital.titleMain(),
-            invocation.donor(),
-            invocation.amount(),
-            invocation.formattedAmount(),
-            invocation.currency(),
-            invocation.donorMessage(),
-            spawnLocations.size());
+    recordEffect(invocation.platform(), "orbital_strike");
+    String mainTitle = renderOrbitalTitle(orbital.titleMain(), invocation, spawnLocations.size());
     String subTitle =
-        applyTitlePlaceholders(
-            orbital.titleSubtitle(),
-            invocation.donor(),
-            invocation.amount(),
-            invocation.formattedAmount(),
-            invocation.currency(),
-            invocation.donorMessage(),
-            spawnLocations.size());
+        renderOrbitalTitle(orbital.titleSubtitle(), invocation, spawnLocations.size());
 
     if (!mainTitle.isEmpty() || !subTitle.isEmpty()) {
       player.sendTitle(
@@ -1399,18 +2082,23 @@ public class ExamplePlugin extends JavaPlugin {
           return;
         }
 
+        TntWaveEvent waveEvent =
+            TntWaveEvent.start(invocation.platform().id(), "orbital_strike");
         int spawned = 0;
         while (index < spawnLocations.size() && spawned < orbital.waveSize()) {
           Location location = spawnLocations.get(index++);
           spawnPrimedTnt(location, orbital.fuseTicks());
           spawned++;
         }
+        waveEvent.finish(spawned, spawnLocations.size() - index);
+        recordTntSpawned(invocation.platform(), "orbital_strike", spawned);
 
         if (index >= spawnLocations.size()) {
           cancel();
         }
       }
     }.runTaskTimer(this, 0L, orbital.tickInterval());
+    strikeEvent.finish(spawnLocations.size());
   }
 
   /** Reloads cached configuration values from {@code config.yml}. */
@@ -1425,6 +2113,17 @@ public class ExamplePlugin extends JavaPlugin {
     tikTokListenerSettings = ListenerSettings.from(config, "tiktok");
     listenerScriptPaths.put(StreamPlatform.YOUTUBE, youtubeListenerSettings.listenerScript());
     listenerScriptPaths.put(StreamPlatform.TIKTOK, tikTokListenerSettings.listenerScript());
+    multiplexLocalListeners = config.getBoolean("multiplex-local-listeners", false);
+    listenerTransport =
+        "unix-socket".equalsIgnoreCase(config.getString("listener-transport", "stdio").trim())
+            ? com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge.Transport.UNIX_SOCKET
+            : com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge.Transport.STDIO;
+    listenerBinaryFrames =
+        "binary".equalsIgnoreCase(config.getString("listener-frame-format", "json").trim());
+    applyListenerTransport();
+    if (messageRegistry != null) {
+      messageRegistry.load(config.getConfigurationSection("messages"));
+    }
 
     if (youtubeBridge != null) {
       youtubeBridge.setSubscriberMilestoneInterval(youtube.subscriberMilestoneInterval());
@@ -1512,7 +2211,8 @@ public class ExamplePlugin extends JavaPlugin {
             finalFormattedAmount,
             finalAmount,
             finalCurrency,
-            orbitalStrike);
+            orbitalStrike,
+            null);
 
     runOnMainThread(() -> triggerOrbitalStrike(invocation));
 
@@ -1545,7 +2245,9 @@ public class ExamplePlugin extends JavaPlugin {
 
   private boolean checkListenerProcess(List<String> messages) {
     com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process =
-        listenerProcesses.get(StreamPlatform.YOUTUBE);
+        usesMultiplexedListener(StreamPlatform.YOUTUBE)
+            ? multiplexedListener
+            : listenerProcesses.get(StreamPlatform.YOUTUBE);
     if (process == null) {
       messages.add(ChatColor.RED + "Listener process is not available. Monitoring cannot start.");
       return false;
@@ -1727,7 +2429,8 @@ public class ExamplePlugin extends JavaPlugin {
       String formattedAmount,
       Double amount,
       String currency,
-      OrbitalStrikeSettings settings) {}
+      OrbitalStrikeSettings settings,
+      DonationLedger.Receipt receipt) {}
 
   private void loadSubscriberState() {
     FileConfiguration config = getConfig();
@@ -1749,6 +2452,11 @@ public class ExamplePlugin extends JavaPlugin {
   }
 
   private void persistSubscriberState(StreamPlatform platform) {
+    SubscriberStateFlushEvent flushEvent =
+        SubscriberStateFlushEvent.start(
+            platform.id(),
+            getKnownSubscriberCount(platform),
+            getLastCelebratedMilestone(platform));
     FileConfiguration config = getConfig();
     String sectionKey =
         platform == StreamPlatform.TIKTOK ? "tiktok-bridge-state" : "youtube-bridge-state";
@@ -1759,6 +2467,7 @@ public class ExamplePlugin extends JavaPlugin {
     state.set("known-subscriber-count", getKnownSubscriberCount(platform));
     state.set("last-celebrated-milestone", getLastCelebratedMilestone(platform));
     saveConfig();
+    flushEvent.finish();
   }
 
   private record ListenerSettings(
@@ -1772,7 +2481,49 @@ public class ExamplePlugin extends JavaPlugin {
       String listenerControlToken,
       boolean localListenerEnabled,
       boolean autoMonitorWhenRecipientsOnline,
-      int idleTimeoutSeconds) {
+      int idleTimeoutSeconds,
+      boolean warmStandby) {
+
+    /**
+     * Returns {@code true} when moving to {@code next} needs a new listener process or poller.
+     * Target, control token and recipient-gating changes never do.
+     */
+    boolean requiresRestart(ListenerSettings next) {
+      if (next == null) {
+        return true;
+      }
+      if (!listenerUrl.equals(next.listenerUrl)
+          || pollingIntervalSeconds != next.pollingIntervalSeconds) {
+        return true;
+      }
+      if (!listenerUrl.isBlank()) {
+        // External polling only depends on the URL and cadence.
+        return false;
+      }
+      return localListenerEnabled != next.localListenerEnabled
+          || !streamIdentifier.equals(next.streamIdentifier)
+          || !pythonExecutable.equals(next.pythonExecutable)
+          || !listenerScript.equals(next.listenerScript)
+          || !streamlabsSocketToken.equals(next.streamlabsSocketToken)
+          || warmStandby != next.warmStandby;
+    }
+
+    /**
+     * Returns {@code true} when a running local listener can move to {@code next} over its control
+     * channel, i.e. only the stream identifier or polling interval changed.
+     */
+    boolean canSwitchInPlace(ListenerSettings next) {
+      return next != null
+          && listenerUrl.isBlank()
+          && next.listenerUrl.isBlank()
+          && localListenerEnabled
+          && next.localListenerEnabled
+          && !next.streamIdentifier.isBlank()
+          && pythonExecutable.equals(next.pythonExecutable)
+          && listenerScript.equals(next.listenerScript)
+          && streamlabsSocketToken.equals(next.streamlabsSocketToken)
+          && warmStandby == next.warmStandby;
+    }
 
     static ListenerSettings from(FileConfiguration config, String sectionKey) {
       ConfigurationSection root = config.getConfigurationSection(sectionKey);
@@ -1830,6 +2581,7 @@ public class ExamplePlugin extends JavaPlugin {
       boolean autoMonitorWhenRecipientsOnline =
           root.getBoolean("auto-monitor-when-recipients-online", false);
       int idleTimeoutSeconds = Math.max(0, root.getInt("idle-timeout-seconds", 300));
+      boolean warmStandby = root.getBoolean("warm-standby", false);
 
       return new ListenerSettings(
           streamIdentifier,
@@ -1842,85 +2594,98 @@ public class ExamplePlugin extends JavaPlugin {
           listenerControlToken,
           localListenerEnabled,
           autoMonitorWhenRecipientsOnline,
-          idleTimeoutSeconds);
+          idleTimeoutSeconds,
+          warmStandby);
     }
   }
 
-  private void startRecipientAwareMonitoring() {
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (listenerProcesses.isEmpty()) {
-          return;
-        }
-        for (StreamPlatform platform : StreamPlatform.values()) {
-          updateRecipientAwareMonitoring(platform);
-        }
+  private void startRecipientTracking() {
+    List<String> permissions = new ArrayList<>();
+    for (StreamPlatform platform : StreamPlatform.values()) {
+      permissions.add(platform.monitorPermission());
+    }
+    recipientTracker = new RecipientTracker(permissions, this::handleRecipientPresenceChange);
+    recipientTracker.refreshAll(getServer().getOnlinePlayers());
+    getServer().getPluginManager().registerEvents(recipientTracker, this);
+  }
+
+  private void handleRecipientPresenceChange(String permission, boolean present) {
+    for (StreamPlatform platform : StreamPlatform.values()) {
+      if (platform.monitorPermission().equals(permission)) {
+        updateRecipientAwareMonitoring(platform);
       }
-    }.runTaskTimer(this, 20L, 20L * 30L);
+    }
   }
 
+  /**
+   * Starts a gated listener as soon as a recipient is online, and arms the idle deadline that
+   * stops it once the last recipient has been gone for the configured timeout.
+   */
   private void updateRecipientAwareMonitoring(StreamPlatform platform) {
     ListenerSettings settings = getListenerSettings(platform);
-    if (settings == null || !settings.autoMonitorWhenRecipientsOnline()) {
-      return;
-    }
-
     com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process =
         listenerProcesses.get(platform);
-    if (process == null) {
-      return;
-    }
-
-    boolean hasRecipients = hasMonitoringRecipients(platform, settings);
-    long now = System.currentTimeMillis();
-
-    if (hasRecipients) {
-      lastRecipientSeenMillis.put(platform, now);
-      if (!process.isRunning()) {
-        restartMonitoring(platform);
-      }
+    if (settings == null || !settings.autoMonitorWhenRecipientsOnline() || process == null) {
+      cancelIdleDeadline(platform);
       return;
     }
 
-    long lastSeen = lastRecipientSeenMillis.getOrDefault(platform, 0L);
-    if (lastSeen == 0L) {
-      if (process.isRunning()) {
-        lastRecipientSeenMillis.put(platform, now);
+    if (hasMonitoringRecipients(platform)) {
+      cancelIdleDeadline(platform);
+      if (!isMonitoring(platform)) {
+        if (usesMultiplexedListener(platform)) {
+          updateMultiplexedSessions();
+        } else {
+          restartMonitoring(platform);
+        }
       }
       return;
     }
 
-    long timeoutMillis = Math.max(0L, settings.idleTimeoutSeconds()) * 1000L;
-    if (timeoutMillis <= 0L) {
+    long timeoutTicks = Math.max(0L, settings.idleTimeoutSeconds()) * 20L;
+    if (timeoutTicks <= 0L || !isMonitoring(platform) || idleDeadlines.containsKey(platform)) {
       return;
     }
-    if (process.isRunning() && now - lastSeen >= timeoutMillis) {
-      stopListenerProcessAsync(process, null);
+    idleDeadlines.put(
+        platform,
+        getServer()
+            .getScheduler()
+            .runTaskLater(
+                this,
+                () -> {
+                  idleDeadlines.remove(platform);
+                  if (hasMonitoringRecipients(platform) || !isMonitoring(platform)) {
+                    return;
+                  }
+                  if (usesMultiplexedListener(platform)) {
+                    // Stops this platform's session in place and keeps the others running.
+                    updateMultiplexedSessions();
+                  } else {
+                    stopListenerProcess(process);
+                  }
+                },
+                timeoutTicks));
+  }
+
+  private boolean isMonitoring(StreamPlatform platform) {
+    if (usesMultiplexedListener(platform)) {
+      return multiplexedSessions.contains(platform) && multiplexedListener.isRunning();
     }
+    com.crimsonwarpedcraft.exampleplugin.service.YouTubeChatBridge process =
+        listenerProcesses.get(platform);
+    return process != null && process.isRunning();
   }
 
-  private boolean hasMonitoringRecipients(StreamPlatform platform, ListenerSettings settings) {
-    if (platform == null || settings == null) {
-      return false;
-    }
-
-    String permission = platform.monitorPermission();
-
-    String configuredTarget = settings.targetIgn();
-    BridgeSettings bridge = getBridgeSettings(platform);
-    if ((configuredTarget == null || configuredTarget.isBlank()) && bridge != null) {
-      configuredTarget = bridge.targetPlayer();
-    }
-
-    if (configuredTarget != null && !configuredTarget.isBlank()) {
-      Player player = Bukkit.getPlayerExact(configuredTarget);
-      if (player != null && player.isOnline() && player.hasPermission(permission)) {
-        return true;
-      }
+  private void cancelIdleDeadline(StreamPlatform platform) {
+    BukkitTask deadline = idleDeadlines.remove(platform);
+    if (deadline != null) {
+      deadline.cancel();
     }
+  }
 
-    return Bukkit.getOnlinePlayers().stream().anyMatch(player -> player.hasPermission(permission));
+  private boolean hasMonitoringRecipients(StreamPlatform platform) {
+    return recipientTracker != null
+        && recipientTracker.hasRecipients(platform.monitorPermission());
   }
 
   /**
@@ -2154,14 +2919,16 @@ public class ExamplePlugin extends JavaPlugin {
       if (milestoneTitle == null) {
         milestoneTitle = milestone.createSection("title");
       }
-      final String milestoneTitleMain =
-          Objects.requireNonNullElse(
-              milestoneTitle.getString("main"),
-              "&b{total_subscribers} Subscribers!");
-      final String milestoneTitleSubtitle =
-          Objects.requireNonNullElse(
-              milestoneTitle.getString("subtitle"),
-              "&eMilestone interval reached!");
+      final LegacyTemplate milestoneTitleMain =
+          LegacyTemplate.compile(
+              Objects.requireNonNullElse(
+                  milestoneTitle.getString("main"), "&b{total_subscribers} Subscribers!"),
+              MILESTONE_TITLE_SLOTS);
+      final LegacyTemplate milestoneTitleSubtitle =
+          LegacyTemplate.compile(
+              Objects.requireNonNullElse(
+                  milestoneTitle.getString("subtitle"), "&eMilestone interval reached!"),
+              MILESTONE_TITLE_SLOTS);
       final int milestoneTitleFadeIn = Math.max(0, milestoneTitle.getInt("fade-in", 10));
       final int milestoneTitleStay = Math.max(0, milestoneTitle.getInt("stay", 60));
       final int milestoneTitleFadeOut = Math.max(0, milestoneTitle.getInt("fade-out", 20));
@@ -2193,17 +2960,28 @@ public class ExamplePlugin extends JavaPlugin {
       if (orbitalStrikeTitle == null) {
         orbitalStrikeTitle = orbitalStrike.createSection("title");
       }
-      final String orbitalStrikeTitleMain = Objects.requireNonNullElse(
-          orbitalStrikeTitle.getString("main"),
-          "&c{donor} armed the Orbital Strike Cannon!");
-      final String orbitalStrikeTitleSubtitle = Objects.requireNonNullElse(
-          orbitalStrikeTitle.getString("subtitle"),
-          "&eBrace for {tnt_count} TNT!");
+      final LegacyTemplate orbitalStrikeTitleMain =
+          LegacyTemplate.compile(
+              Objects.requireNonNullElse(
+                  orbitalStrikeTitle.getString("main"),
+                  "&c{donor} armed the Orbital Strike Cannon!"),
+              ORBITAL_TITLE_SLOTS);
+      final LegacyTemplate orbitalStrikeTitleSubtitle =
+          LegacyTemplate.compile(
+              Objects.requireNonNullElse(
+                  orbitalStrikeTitle.getString("subtitle"), "&eBrace for {tnt_count} TNT!"),
+              ORBITAL_TITLE_SLOTS);
       final int orbitalStrikeTitleFadeIn =
           Math.max(0, orbitalStrikeTitle.getInt("fade-in", 10));
       final int orbitalStrikeTitleStay = Math.max(0, orbitalStrikeTitle.getInt("stay", 40));
       final int orbitalStrikeTitleFadeOut =
           Math.max(0, orbitalStrikeTitle.getInt("fade-out", 20));
+      ConfigurationSection cumulativeStrike =
+          donations.getConfigurationSection("cumulative-strike");
+      final double cumulativeStrikeEvery =
+          cumulativeStrike == null
+              ? 0.0D
+              : Math.max(0.0D, cumulativeStrike.getDouble("every-amount", 0.0D));
 
       DonationSettings donationSettings =
           new DonationSettings(
@@ -2222,7 +3000,8 @@ public class ExamplePlugin extends JavaPlugin {
                   orbitalStrikeTitleSubtitle,
                   orbitalStrikeTitleFadeIn,
                   orbitalStrikeTitleStay,
-                  orbitalStrikeTitleFadeOut));
+                  orbitalStrikeTitleFadeOut),
+              cumulativeStrikeEvery);
 
       return new BridgeSettings(
           enabled,
@@ -2257,13 +3036,14 @@ public class ExamplePlugin extends JavaPlugin {
       int fuseTicks,
       int perTick,
       long tickInterval,
-      String titleMain,
-      String titleSubtitle,
+      LegacyTemplate titleMain,
+      LegacyTemplate titleSubtitle,
       int titleFadeIn,
       int titleStay,
       int titleFadeOut) {}
 
-  private record DonationSettings(boolean enabled, OrbitalStrikeSettings orbitalStrike) {}
+  private record DonationSettings(
+      boolean enabled, OrbitalStrikeSettings orbitalStrike, double cumulativeStrikeEvery) {}
 
   private record OrbitalStrikeSettings(
       boolean enabled,
@@ -2275,11 +3055,19 @@ public class ExamplePlugin extends JavaPlugin {
       int fuseTicks,
       int waveSize,
       long tickInterval,
-      String titleMain,
-      String titleSubtitle,
+      LegacyTemplate titleMain,
+      LegacyTemplate titleSubtitle,
       int titleFadeIn,
       int titleStay,
-      int titleFadeOut) {}
+      int titleFadeOut) {
+
+    boolean acceptsCurrency(String candidate) {
+      if (currency == null || currency.isBlank()) {
+        return true;
+      }
+      return candidate != null && !candidate.isBlank() && currency.equalsIgnoreCase(candidate);
+    }
+  }
 
   /**
    * Helper used by tests or debug scripts to emulate an incoming chat message without the
@@ -4,8 +4,10 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
@@ -17,14 +19,26 @@ import org.jetbrains.annotations.Nullable;
  */
 public abstract class PlatformChatBridge {
 
+  // Largest increase one notification can account for, e.g. a bundle of gifted memberships. A
+  // bigger jump means the count source changed, such as a fallback count replaced by the real
+  // total, and is taken as a new baseline instead of a run of milestones.
+  static final long MAX_SUBSCRIBERS_PER_NOTIFICATION = 100L;
+
   private final Plugin plugin;
   private final List<Consumer<ChatMessage>> chatConsumers = new CopyOnWriteArrayList<>();
   private final List<Consumer<SubscriberNotification>> subscriberConsumers =
       new CopyOnWriteArrayList<>();
   private final List<Consumer<SubscriberMilestone>> milestoneConsumers =
       new CopyOnWriteArrayList<>();
+  private final List<LongConsumer> subscriberCountConsumers = new CopyOnWriteArrayList<>();
 
   private final AtomicLong milestoneInterval = new AtomicLong(100L);
+  private final AtomicLong pendingSubscriberTotal = new AtomicLong(-1L);
+  private final AtomicLong pendingNotifications = new AtomicLong();
+  private final AtomicBoolean subscriberFlushScheduled = new AtomicBoolean();
+  private volatile String pendingChannelId;
+  // Only read and written on the main thread; -1 until seeded or first observed.
+  private long appliedSubscriberTotal = -1L;
 
   /** Creates a new platform bridge bound to the supplied plugin. */
   protected PlatformChatBridge(@NotNull Plugin plugin) {
@@ -50,6 +64,25 @@ public abstract class PlatformChatBridge {
     return () -> milestoneConsumers.remove(consumer);
   }
 
+  /**
+   * Registers a consumer that receives the coalesced subscriber total, at most once per tick and
+   * only when the total increased.
+   */
+  public Registration registerSubscriberCountListener(@NotNull LongConsumer consumer) {
+    subscriberCountConsumers.add(Objects.requireNonNull(consumer, "consumer"));
+    return () -> subscriberCountConsumers.remove(consumer);
+  }
+
+  /**
+   * Sets the subscriber total that milestone crossings are measured from, typically the persisted
+   * count. Must be called on the main thread before notifications arrive.
+   */
+  public void seedSubscriberCount(long totalSubscribers) {
+    if (totalSubscribers > appliedSubscriberTotal) {
+      appliedSubscriberTotal = totalSubscribers;
+    }
+  }
+
   /** Updates the milestone interval used when generating milestone callbacks. */
   public void setSubscriberMilestoneInterval(long interval) {
     if (interval <= 0) {
@@ -74,7 +107,10 @@ public abstract class PlatformChatBridge {
         });
   }
 
-  /** Accepts a subscriber notification payload. */
+  /**
+   * Accepts a subscriber notification payload. Consumers see every notification, while the
+   * subscriber total and milestones are aggregated and applied once on the next tick.
+   */
   public void emitSubscriberNotification(@NotNull SubscriberNotification notification) {
     Objects.requireNonNull(notification, "notification");
     runOnMainThread(
@@ -82,7 +118,15 @@ public abstract class PlatformChatBridge {
           subscriberConsumers.forEach(listener -> listener.accept(notification));
           dispatchSubscriberEvent(notification);
         });
-    maybeEmitMilestone(notification.totalSubscribers(), notification.channelId());
+
+    pendingSubscriberTotal.accumulateAndGet(notification.totalSubscribers(), Math::max);
+    pendingNotifications.incrementAndGet();
+    if (notification.channelId() != null) {
+      pendingChannelId = notification.channelId();
+    }
+    if (subscriberFlushScheduled.compareAndSet(false, true)) {
+      Bukkit.getScheduler().runTask(plugin, this::flushSubscriberTotal);
+    }
   }
 
   /** Explicitly emits a milestone notification. */
@@ -104,16 +148,64 @@ public abstract class PlatformChatBridge {
   /** Dispatches the subscriber milestone as a Bukkit event. */
   protected abstract void dispatchMilestoneEvent(@NotNull SubscriberMilestone milestone);
 
-  private void maybeEmitMilestone(long totalSubscribers, @Nullable String channelId) {
-    long interval = milestoneInterval.get();
-    if (interval <= 0) {
+  private void flushSubscriberTotal() {
+    subscriberFlushScheduled.set(false);
+    long notifications = pendingNotifications.getAndSet(0L);
+    long total = pendingSubscriberTotal.get();
+    long previous = appliedSubscriberTotal;
+    if (total <= previous || total <= 0) {
       return;
     }
-    if (totalSubscribers > 0 && totalSubscribers % interval == 0) {
-      emitMilestone(new SubscriberMilestone(totalSubscribers, interval, channelId, Instant.now()));
+    appliedSubscriberTotal = total;
+
+    long interval = milestoneInterval.get();
+    if (isImplausibleJump(previous, total, notifications)) {
+      plugin
+          .getLogger()
+          .info(
+              "Subscriber total jumped from "
+                  + previous
+                  + " to "
+                  + total
+                  + " in one update; using it as the new baseline without milestones.");
+    } else if (interval > 0) {
+      emitCrossedMilestones(previous, total, interval, pendingChannelId);
+    }
+    subscriberCountConsumers.forEach(listener -> listener.accept(total));
+  }
+
+  private void emitCrossedMilestones(
+      long previous, long total, long interval, @Nullable String channelId) {
+    long first = firstCrossedMilestone(previous, total, interval);
+    long last = total / interval;
+    Instant now = Instant.now();
+    for (long step = first; step <= last; step++) {
+      emitMilestone(new SubscriberMilestone(step * interval, interval, channelId, now));
     }
   }
 
+  /**
+   * Returns the index of the first milestone crossed going from {@code previous} to {@code total};
+   * milestones {@code first..total / interval} are crossed, so a result above that means none.
+   * With no previous total ({@code previous < 0}) only an exact boundary counts.
+   */
+  static long firstCrossedMilestone(long previous, long total, long interval) {
+    if (previous < 0) {
+      // Nothing to measure a crossing from yet.
+      return total % interval == 0 ? total / interval : Long.MAX_VALUE;
+    }
+    return previous / interval + 1;
+  }
+
+  /**
+   * Returns {@code true} if going from {@code previous} to {@code total} over {@code
+   * notifications} coalesced notifications is more than those notifications can explain.
+   */
+  static boolean isImplausibleJump(long previous, long total, long notifications) {
+    return previous >= 0
+        && total - previous > Math.max(1L, notifications) * MAX_SUBSCRIBERS_PER_NOTIFICATION;
+  }
+
   private void runOnMainThread(Runnable runnable) {
     if (Bukkit.isPrimaryThread()) {
       runnable.run();
@@ -1,21 +1,25 @@
 package com.crimsonwarpedcraft.exampleplugin.command;
 
 import com.crimsonwarpedcraft.exampleplugin.ExamplePlugin;
+import com.crimsonwarpedcraft.exampleplugin.service.MessageRegistry;
+import com.crimsonwarpedcraft.exampleplugin.service.PunishmentJournal;
+import com.crimsonwarpedcraft.exampleplugin.service.PunishmentJournal.Punishment;
+import com.crimsonwarpedcraft.exampleplugin.service.PunishmentJournal.State;
+import com.crimsonwarpedcraft.exampleplugin.service.TimingWheel;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
-import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.ComponentLike;
 import org.bukkit.Bukkit;
 import org.bukkit.GameRule;
 import org.bukkit.World;
@@ -24,24 +28,59 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Command that forces a world to stay at night while periodically eliminating a target player.
+ *
+ * <p>Punishments and the daylight-cycle gamerules they override are written behind to a
+ * {@link PunishmentJournal}, so curses survive restarts and a crash never leaves a world frozen.
+ * A frozen world that is not loaded during recovery is restored when it loads, or when it is
+ * cursed again first.
  */
-public class NightPunishCommand implements CommandExecutor, TabCompleter {
+public class NightPunishCommand implements CommandExecutor, TabCompleter, Listener {
 
   private static final int TICKS_PER_MINUTE = 60 * 20;
+  private static final long MILLIS_PER_TICK = 50L;
+  private static final int WHEEL_SLOTS = 4096;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final String STATE_DIRECTORY = "night-punish";
+  private static final String MSG_NO_PERMISSION = "night-punish.no-permission";
+  private static final String MSG_USAGE = "night-punish.usage";
+  private static final String MSG_START_USAGE = "night-punish.start-usage";
+  private static final String MSG_STOP_USAGE = "night-punish.stop-usage";
+  private static final String MSG_NOT_ONLINE = "night-punish.not-online";
+  private static final String MSG_INVALID_MINUTES = "night-punish.invalid-minutes";
+  private static final String MSG_MINUTES_NOT_POSITIVE = "night-punish.minutes-not-positive";
+  private static final String MSG_ALREADY_ACTIVE = "night-punish.already-active";
+  private static final String MSG_STARTED = "night-punish.started";
+  private static final String MSG_CURSED = "night-punish.cursed";
+  private static final String MSG_PUNISHED = "night-punish.punished";
+  private static final String MSG_NOT_ACTIVE = "night-punish.not-active";
+  private static final String MSG_STOPPED = "night-punish.stopped";
+  private static final String MSG_LIFTED = "night-punish.lifted";
+  private static final String MSG_LEFT_REALM = "night-punish.left-realm";
 
   private final ExamplePlugin plugin;
-  private final MiniMessage miniMessage = MiniMessage.miniMessage();
-  private final Map<UUID, BukkitTask> activePunishments = new HashMap<>();
+  private final MessageRegistry messages;
+  private final TimingWheel punishmentWheel = new TimingWheel(WHEEL_SLOTS);
+  // Bound once so the per-tick wheel task does not create a method reference every tick.
+  private final IntConsumer punishAction = this::punish;
+  private final Map<UUID, Integer> activePunishments = new HashMap<>();
+  private UUID[] punishedPlayers = new UUID[INITIAL_CAPACITY];
+  private Component[] casters = new Component[INITIAL_CAPACITY];
+  private BukkitTask wheelTask;
   private final Map<UUID, World> trackedWorlds = new HashMap<>();
   private final Map<World, Integer> worldNightLocks = new HashMap<>();
   private final Map<World, Boolean> originalDaylightCycle = new HashMap<>();
+  // Recovered originals of frozen worlds that were not loaded yet, by world name.
+  private final Map<String, Boolean> unappliedOriginals = new HashMap<>();
   private final Map<UUID, String> lastKnownNames = new HashMap<>();
+  private final PunishmentJournal journal;
 
   /**
    * Creates a new command executor bound to the owning plugin instance.
@@ -51,6 +90,78 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public NightPunishCommand(ExamplePlugin plugin) {
     this.plugin = plugin;
+    this.messages = plugin.getMessageRegistry();
+    defineMessages(messages);
+    this.journal =
+        new PunishmentJournal(
+            plugin.getDataFolder().toPath().resolve(STATE_DIRECTORY), plugin.getLogger());
+  }
+
+  /**
+   * Restores punishments and frozen worlds left by a previous run. The state is read on the
+   * journal's writer thread and applied on the main thread once loaded, so enabling the plugin
+   * never waits on disk.
+   */
+  public void restoreState() {
+    journal
+        .recover()
+        .whenComplete(
+            (state, failure) -> {
+              if (failure != null) {
+                plugin
+                    .getLogger()
+                    .log(Level.WARNING, "Failed to restore night punishments.", failure);
+                return;
+              }
+              if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> applyRestoredState(state));
+              }
+            });
+  }
+
+  private void applyRestoredState(State state) {
+    for (Entry<String, Boolean> entry : state.lockedWorlds().entrySet()) {
+      World world = Bukkit.getWorld(entry.getKey());
+      if (world == null) {
+        // Keep the record so the gamerule is restored once the world is loaded again.
+        unappliedOriginals.put(entry.getKey(), entry.getValue());
+        continue;
+      }
+      if (worldNightLocks.containsKey(world)) {
+        // Locked again before recovery finished; restore the real original on release.
+        originalDaylightCycle.put(world, entry.getValue());
+        continue;
+      }
+      world.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, entry.getValue());
+      journal.recordUnlock(world.getName());
+    }
+
+    long now = System.currentTimeMillis();
+    int restored = 0;
+    for (Punishment punishment : state.punishments()) {
+      if (activePunishments.containsKey(punishment.target())) {
+        continue;
+      }
+      Component caster =
+          punishment.casterName().isEmpty()
+              ? Component.text("the void")
+              : Component.text(punishment.casterName());
+      // A target still offline when the next punishment is due loses the curse, as if they had
+      // quit mid-curse; one who is online gets their world locked again straight away.
+      schedulePunishment(
+          punishment.target(), caster, punishment.remainingTicks(now), punishment.intervalTicks());
+      rememberName(punishment.target(), punishment.targetName());
+      Player target = Bukkit.getPlayer(punishment.target());
+      if (target != null && target.isOnline()) {
+        World world = target.getWorld();
+        applyNightLock(world);
+        trackedWorlds.put(punishment.target(), world);
+      }
+      restored++;
+    }
+    if (restored > 0) {
+      plugin.getLogger().info("Restored " + restored + " night punishment(s).");
+    }
   }
 
   @Override
@@ -60,7 +171,7 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
       @NotNull String label,
       String[] args) {
     if (!sender.hasPermission("example.nightpunish.use")) {
-      sendMessage(sender, "<red>You do not have permission to use this command.</red>");
+      sendMessage(sender, MSG_NO_PERMISSION);
       return true;
     }
 
@@ -88,16 +199,13 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
 
   private boolean handleStart(CommandSender sender, String[] args) {
     if (args.length < 3) {
-      sendMessage(sender, "<red>Usage: /nightpunish start <player> <minutes></red>");
+      sendMessage(sender, MSG_START_USAGE);
       return true;
     }
 
     Player target = Bukkit.getPlayerExact(args[1]);
     if (target == null) {
-      sendMessage(
-          sender,
-          "<red>Player <yellow><target></yellow> is not online.</red>",
-          Placeholder.unparsed("target", args[1]));
+      sendMessage(sender, MSG_NOT_ONLINE, Component.text(args[1]));
       return true;
     }
 
@@ -105,22 +213,18 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
     try {
       minutes = Double.parseDouble(args[2]);
     } catch (NumberFormatException ex) {
-      sendMessage(sender, "<red>Minutes must be a positive number.</red>");
+      sendMessage(sender, MSG_INVALID_MINUTES);
       return true;
     }
 
     if (minutes <= 0) {
-      sendMessage(sender, "<red>Minutes must be greater than zero.</red>");
+      sendMessage(sender, MSG_MINUTES_NOT_POSITIVE);
       return true;
     }
 
     UUID targetId = target.getUniqueId();
     if (activePunishments.containsKey(targetId)) {
-      sendMessage(
-          sender,
-          "<red>A punishment task already exists for <yellow><target></yellow>."
-              + " Use /nightpunish stop to cancel it.</red>",
-          Placeholder.unparsed("target", target.getName()));
+      sendMessage(sender, MSG_ALREADY_ACTIVE, Component.text(target.getName()));
       return true;
     }
 
@@ -128,61 +232,25 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
     World world = target.getWorld();
     applyNightLock(world);
     trackedWorlds.put(targetId, world);
-    lastKnownNames.put(targetId, target.getName());
-
-    BukkitTask task =
-        new BukkitRunnable() {
-          @Override
-          public void run() {
-            Player onlineTarget = Bukkit.getPlayer(targetId);
-            if (onlineTarget == null || !onlineTarget.isOnline()) {
-              cancelPunishment(targetId, false);
-              return;
-            }
-
-            World currentWorld = onlineTarget.getWorld();
-            World lockedWorld = trackedWorlds.get(targetId);
-            if (lockedWorld == null) {
-              trackedWorlds.put(targetId, currentWorld);
-              applyNightLock(currentWorld);
-              lockedWorld = currentWorld;
-            }
-
-            if (!lockedWorld.equals(currentWorld)) {
-              // Update world tracking if the player changes dimensions.
-              releaseNightLock(lockedWorld);
-              applyNightLock(currentWorld);
-              trackedWorlds.put(targetId, currentWorld);
-            }
-
-            onlineTarget.setHealth(0.0);
-            onlineTarget.sendMessage(
-                miniMessage.deserialize(
-                    "<dark_purple>The night claims you again. Survive until daylight to break the"
-                        + " curse!</dark_purple><gray> (Cast by <caster></gray>)",
-                    TagResolver.resolver(Placeholder.component("caster", casterDisplay(sender)))));
-          }
-        }.runTaskTimer(plugin, intervalTicks, intervalTicks);
-
-    activePunishments.put(targetId, task);
-
-    sendMessage(
-        sender,
-        "<green>Night punishment started for <yellow><target></yellow> <green>every"
-            + " <yellow><minutes></yellow> <green>minutes.</green>",
-        Placeholder.unparsed("target", target.getName()),
-        Placeholder.unparsed("minutes", formatMinutes(minutes)));
-    sendMessage(
-        target,
-        "<dark_red>An eerie chill locks the world in eternal night. You will fall every"
-            + " <minutes> minutes until the curse is lifted!</dark_red>",
-        Placeholder.unparsed("minutes", formatMinutes(minutes)));
+    rememberName(targetId, target.getName());
+    schedulePunishment(targetId, casterDisplay(sender), intervalTicks, intervalTicks);
+    journal.recordPunishment(
+        new Punishment(
+            targetId,
+            target.getName(),
+            sender instanceof Player player ? player.getName() : "",
+            intervalTicks,
+            System.currentTimeMillis() + intervalTicks * MILLIS_PER_TICK));
+
+    Component minutesText = Component.text(formatMinutes(minutes));
+    sendMessage(sender, MSG_STARTED, Component.text(target.getName()), minutesText);
+    sendMessage(target, MSG_CURSED, minutesText);
     return true;
   }
 
   private boolean handleStop(CommandSender sender, String[] args) {
     if (args.length < 2) {
-      sendMessage(sender, "<red>Usage: /nightpunish stop <player></red>");
+      sendMessage(sender, MSG_STOP_USAGE);
       return true;
     }
 
@@ -190,10 +258,7 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
     UUID targetId = target != null ? target.getUniqueId() : findTargetId(args[1]);
 
     if (targetId == null || !activePunishments.containsKey(targetId)) {
-      sendMessage(
-          sender,
-          "<red>No active punishment for <yellow><target></yellow>.</red>",
-          Placeholder.unparsed("target", args[1]));
+      sendMessage(sender, MSG_NOT_ACTIVE, Component.text(args[1]));
       return true;
     }
 
@@ -202,28 +267,84 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
 
     cancelPunishment(targetId, true);
 
-    sendMessage(
-        sender,
-        "<green>Night punishment removed for <yellow><target></yellow>.</green>",
-        Placeholder.unparsed("target", displayName));
+    sendMessage(sender, MSG_STOPPED, Component.text(displayName));
     if (target != null && target.isOnline()) {
-      sendMessage(target, "<green>The night curse fades and daylight may return.</green>");
+      sendMessage(target, MSG_LIFTED);
     }
     return true;
   }
 
   private void sendUsage(CommandSender sender, String label) {
-    sendMessage(
-        sender,
-        "<red>Usage:</red> /<label> start <player> <minutes> <gray>or</gray>"
-            + " /<label> stop <player>",
-        Placeholder.unparsed("label", label));
+    sendMessage(sender, MSG_USAGE, Component.text(label));
+  }
+
+  private void schedulePunishment(
+      UUID targetId, Component caster, long delayTicks, long intervalTicks) {
+    int punishmentId = punishmentWheel.schedule(delayTicks, intervalTicks);
+    if (punishmentId >= punishedPlayers.length) {
+      int capacity = Math.max(punishmentId + 1, punishedPlayers.length * 2);
+      punishedPlayers = Arrays.copyOf(punishedPlayers, capacity);
+      casters = Arrays.copyOf(casters, capacity);
+    }
+    punishedPlayers[punishmentId] = targetId;
+    casters[punishmentId] = caster;
+    activePunishments.put(targetId, punishmentId);
+    startWheel();
+  }
+
+  /** Starts the single per-tick task that drives every punishment, if it is not running. */
+  private void startWheel() {
+    if (wheelTask == null) {
+      wheelTask =
+          Bukkit.getScheduler()
+              .runTaskTimer(plugin, () -> punishmentWheel.tick(punishAction), 1L, 1L);
+    }
+  }
+
+  private void stopWheel() {
+    if (wheelTask != null) {
+      wheelTask.cancel();
+      wheelTask = null;
+    }
+  }
+
+  private void punish(int punishmentId) {
+    UUID targetId = punishedPlayers[punishmentId];
+    Player onlineTarget = Bukkit.getPlayer(targetId);
+    if (onlineTarget == null || !onlineTarget.isOnline()) {
+      cancelPunishment(targetId, false);
+      return;
+    }
+
+    World currentWorld = onlineTarget.getWorld();
+    World lockedWorld = trackedWorlds.get(targetId);
+    if (lockedWorld == null) {
+      trackedWorlds.put(targetId, currentWorld);
+      applyNightLock(currentWorld);
+      lockedWorld = currentWorld;
+    }
+
+    if (!lockedWorld.equals(currentWorld)) {
+      // Update world tracking if the player changes dimensions.
+      releaseNightLock(lockedWorld);
+      applyNightLock(currentWorld);
+      trackedWorlds.put(targetId, currentWorld);
+    }
+
+    onlineTarget.setHealth(0.0);
+    sendMessage(onlineTarget, MSG_PUNISHED, casters[punishmentId]);
   }
 
   private void cancelPunishment(UUID targetId, boolean explicit) {
-    BukkitTask task = activePunishments.remove(targetId);
-    if (task != null) {
-      task.cancel();
+    Integer punishmentId = activePunishments.remove(targetId);
+    if (punishmentId != null) {
+      punishmentWheel.cancel(punishmentId);
+      punishedPlayers[punishmentId] = null;
+      casters[punishmentId] = null;
+      journal.recordCancel(targetId);
+    }
+    if (activePunishments.isEmpty()) {
+      stopWheel();
     }
 
     World world = trackedWorlds.remove(targetId);
@@ -231,12 +352,14 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
       releaseNightLock(world);
     }
 
-    lastKnownNames.remove(targetId);
+    if (lastKnownNames.remove(targetId) != null) {
+      plugin.getPlayerNameIndex().release(targetId);
+    }
 
     if (!explicit) {
       Player target = Bukkit.getPlayer(targetId);
       if (target != null) {
-        sendMessage(target, "<green>The night curse lifts as you leave the realm.</green>");
+        sendMessage(target, MSG_LEFT_REALM);
       }
     }
   }
@@ -245,8 +368,12 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
     world.setTime(18000L);
     int locks = worldNightLocks.getOrDefault(world, 0);
     if (locks == 0) {
-      originalDaylightCycle.putIfAbsent(
-          world, world.getGameRuleValue(GameRule.DO_DAYLIGHT_CYCLE));
+      // A world still frozen by a crash must keep its recovered original, not the frozen value.
+      Boolean recovered = unappliedOriginals.remove(world.getName());
+      Boolean original =
+          recovered != null ? recovered : world.getGameRuleValue(GameRule.DO_DAYLIGHT_CYCLE);
+      originalDaylightCycle.putIfAbsent(world, original);
+      journal.recordLock(world.getName(), original == null || original);
       world.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, false);
     }
     worldNightLocks.put(world, locks + 1);
@@ -262,29 +389,48 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
       worldNightLocks.remove(world);
       Boolean original = originalDaylightCycle.remove(world);
       world.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, original == null || original);
+      journal.recordUnlock(world.getName());
     } else {
       worldNightLocks.put(world, locks - 1);
     }
   }
 
+  /** Restores the daylight cycle of a world that was left frozen while it was not loaded. */
+  @EventHandler
+  public void onWorldLoad(WorldLoadEvent event) {
+    World world = event.getWorld();
+    Boolean original = unappliedOriginals.remove(world.getName());
+    if (original == null || worldNightLocks.containsKey(world)) {
+      return;
+    }
+    world.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, original);
+    journal.recordUnlock(world.getName());
+  }
+
   /**
-   * Cancels any outstanding punishment tasks and restores affected worlds to their default state.
+   * Stops outstanding punishment tasks and restores affected worlds to their default state. The
+   * punishments themselves stay in the journal and resume on the next start.
    */
   public void shutdown() {
-    for (BukkitTask task : new ArrayList<>(activePunishments.values())) {
-      task.cancel();
-    }
+    stopWheel();
+    punishmentWheel.clear();
     activePunishments.clear();
+    Arrays.fill(punishedPlayers, null);
+    Arrays.fill(casters, null);
 
     for (Entry<World, Boolean> entry : new ArrayList<>(originalDaylightCycle.entrySet())) {
       World world = entry.getKey();
       Boolean original = entry.getValue();
       world.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, original == null || original);
+      journal.recordUnlock(world.getName());
     }
     worldNightLocks.clear();
     originalDaylightCycle.clear();
+    unappliedOriginals.clear();
     trackedWorlds.clear();
+    lastKnownNames.keySet().forEach(plugin.getPlayerNameIndex()::release);
     lastKnownNames.clear();
+    journal.close();
   }
 
   @Override
@@ -299,11 +445,11 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
     }
 
     if (args.length == 2 && "stop".equalsIgnoreCase(args[0])) {
-      return filterPlayerNames(args[1], activePunishments.keySet());
+      return plugin.getPlayerNameIndex().complete(args[1], activePunishments.keySet());
     }
 
     if (args.length == 2 && "start".equalsIgnoreCase(args[0])) {
-      return filterPlayerNames(args[1], null);
+      return plugin.getPlayerNameIndex().complete(args[1]);
     }
 
     return Collections.emptyList();
@@ -320,46 +466,6 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
     return matches;
   }
 
-  private List<String> filterPlayerNames(String prefix, Iterable<UUID> includeOnly) {
-    String lower = prefix.toLowerCase(Locale.ROOT);
-    Set<String> matches = new LinkedHashSet<>();
-    for (Player player : Bukkit.getOnlinePlayers()) {
-      if (includeOnly != null && !containsUuid(includeOnly, player.getUniqueId())) {
-        continue;
-      }
-      String name = player.getName();
-      if (name.toLowerCase(Locale.ROOT).startsWith(lower)) {
-        matches.add(name);
-      }
-    }
-
-    if (includeOnly != null) {
-      for (Entry<UUID, String> entry : lastKnownNames.entrySet()) {
-        if (!containsUuid(includeOnly, entry.getKey())) {
-          continue;
-        }
-        String name = entry.getValue();
-        if (name != null
-            && name.toLowerCase(Locale.ROOT).startsWith(lower)) {
-          matches.add(name);
-        }
-      }
-    }
-    return new ArrayList<>(matches);
-  }
-
-  private boolean containsUuid(Iterable<UUID> uuids, UUID candidate) {
-    if (uuids instanceof java.util.Collection<?>) {
-      return ((java.util.Collection<?>) uuids).contains(candidate);
-    }
-    for (UUID uuid : uuids) {
-      if (uuid.equals(candidate)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   private UUID findTargetId(String name) {
     if (name == null || name.isEmpty()) {
       return null;
@@ -370,17 +476,62 @@ public class NightPunishCommand implements CommandExecutor, TabCompleter {
       return online.getUniqueId();
     }
 
-    for (Entry<UUID, String> entry : lastKnownNames.entrySet()) {
-      String storedName = entry.getValue();
-      if (storedName != null && storedName.equalsIgnoreCase(name)) {
-        return entry.getKey();
-      }
-    }
-    return null;
+    return plugin.getPlayerNameIndex().find(name, activePunishments.keySet()).orElse(null);
+  }
+
+  private void rememberName(UUID targetId, String name) {
+    lastKnownNames.put(targetId, name);
+    plugin.getPlayerNameIndex().retain(targetId, name);
   }
 
-  private void sendMessage(CommandSender recipient, String template, TagResolver... resolvers) {
-    recipient.sendMessage(miniMessage.deserialize(template, TagResolver.resolver(resolvers)));
+  private void sendMessage(CommandSender recipient, String key, ComponentLike... values) {
+    recipient.sendMessage(messages.render(key, values));
+  }
+
+  private static void defineMessages(MessageRegistry messages) {
+    messages.define(
+        MSG_NO_PERMISSION, "<red>You do not have permission to use this command.</red>");
+    messages.define(
+        MSG_USAGE,
+        "<red>Usage:</red> /<label> start <player> <minutes> <gray>or</gray>"
+            + " /<label> stop <player>",
+        "label");
+    messages.define(MSG_START_USAGE, "<red>Usage: /nightpunish start <player> <minutes></red>");
+    messages.define(MSG_STOP_USAGE, "<red>Usage: /nightpunish stop <player></red>");
+    messages.define(
+        MSG_NOT_ONLINE, "<red>Player <yellow><target></yellow> is not online.</red>", "target");
+    messages.define(MSG_INVALID_MINUTES, "<red>Minutes must be a positive number.</red>");
+    messages.define(MSG_MINUTES_NOT_POSITIVE, "<red>Minutes must be greater than zero.</red>");
+    messages.define(
+        MSG_ALREADY_ACTIVE,
+        "<red>A punishment task already exists for <yellow><target></yellow>."
+            + " Use /nightpunish stop to cancel it.</red>",
+        "target");
+    messages.define(
+        MSG_STARTED,
+        "<green>Night punishment started for <yellow><target></yellow> <green>every"
+            + " <yellow><minutes></yellow> <green>minutes.</green>",
+        "target",
+        "minutes");
+    messages.define(
+        MSG_CURSED,
+        "<dark_red>An eerie chill locks the world in eternal night. You will fall every"
+            + " <minutes> minutes until the curse is lifted!</dark_red>",
+        "minutes");
+    messages.define(
+        MSG_PUNISHED,
+        "<dark_purple>The night claims you again. Survive until daylight to break the"
+            + " curse!</dark_purple><gray> (Cast by <caster></gray>)",
+        "caster");
+    messages.define(
+        MSG_NOT_ACTIVE, "<red>No active punishment for <yellow><target></yellow>.</red>", "target");
+    messages.define(
+        MSG_STOPPED,
+        "<green>Night punishment removed for <yellow><target></yellow>.</green>",
+        "target");
+    messages.define(MSG_LIFTED, "<green>The night curse fades and daylight may return.</green>");
+    messages.define(
+        MSG_LEFT_REALM, "<green>The night curse lifts as you leave the realm.</green>");
   }
 
   private Component casterDisplay(CommandSender sender) {
@@ -16,7 +16,8 @@ import org.bukkit.entity.Player;
 /** Command handler that controls the TikTok chat integration. */
 public class TikTokIntegrationCommand implements CommandExecutor, TabCompleter {
 
-  private static final List<String> SUBCOMMANDS = Arrays.asList("setchat", "settarget", "reload");
+  private static final List<String> SUBCOMMANDS =
+      Arrays.asList("setchat", "settarget", "reload", "donors");
   private final ExamplePlugin plugin;
 
   /** Creates a new TikTok integration command handler. */
@@ -45,10 +46,11 @@ public class TikTokIntegrationCommand implements CommandExecutor, TabCompleter {
         return handleSetTarget(sender, args);
       case "reload":
         plugin.reloadConfig();
-        plugin.loadSettingsFromConfig();
-        plugin.restartMonitoring();
+        plugin.applyConfigurationChanges();
         sender.sendMessage(ChatColor.GREEN + "Reloaded TikTok stream configuration.");
         return true;
+      case "donors":
+        return handleDonors(sender, args);
       default:
         sendUsage(sender, label);
         return true;
@@ -91,14 +93,30 @@ public class TikTokIntegrationCommand implements CommandExecutor, TabCompleter {
     return true;
   }
 
+  private boolean handleDonors(CommandSender sender, String[] args) {
+    if (args.length >= 2 && "reset".equalsIgnoreCase(args[1])) {
+      if (plugin.resetDonationSession("tiktok")) {
+        sender.sendMessage(ChatColor.GREEN + "Reset the TikTok donation session totals.");
+      } else {
+        sender.sendMessage(ChatColor.RED + "The TikTok donation ledger is not available.");
+      }
+      return true;
+    }
+
+    String donor = args.length >= 2 ? args[1] : null;
+    for (String line : plugin.describeDonations("tiktok", donor)) {
+      sender.sendMessage(line);
+    }
+    return true;
+  }
+
   private void updateConfigValueAndReload(String key, String value) {
     plugin.getConfig().set(key, value);
     if ("tiktok.target-player-ign".equals(key)) {
       plugin.getConfig().set("tiktok-bridge.target-player", value);
     }
     plugin.saveConfig();
-    plugin.loadSettingsFromConfig();
-    plugin.restartMonitoring();
+    plugin.applyConfigurationChanges();
   }
 
   private void sendUsage(CommandSender sender, String label) {
@@ -106,7 +124,7 @@ public class TikTokIntegrationCommand implements CommandExecutor, TabCompleter {
         ChatColor.RED
             + "Usage: /"
             + label
-            + " <setchat|settarget|reload>");
+            + " <setchat|settarget|reload|donors> [donor|reset]");
   }
 
   @Override
@@ -128,14 +146,7 @@ public class TikTokIntegrationCommand implements CommandExecutor, TabCompleter {
     }
 
     if (args.length == 2 && "settarget".equalsIgnoreCase(args[0])) {
-      String prefix = args[1].toLowerCase();
-      List<String> suggestions = new ArrayList<>();
-      for (Player player : plugin.getServer().getOnlinePlayers()) {
-        String name = player.getName();
-        if (name.toLowerCase().startsWith(prefix)) {
-          suggestions.add(name);
-        }
-      }
+      List<String> suggestions = plugin.getPlayerNameIndex().complete(args[1]);
       if (sender instanceof Player && suggestions.isEmpty()) {
         suggestions.add(((Player) sender).getName());
       }
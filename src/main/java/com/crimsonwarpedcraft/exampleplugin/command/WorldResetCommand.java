@@ -0,0 +1,152 @@
+package com.crimsonwarpedcraft.exampleplugin.command;
+
+import com.crimsonwarpedcraft.exampleplugin.ExamplePlugin;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Administrative command for the scheduled world reset.
+ */
+public class WorldResetCommand implements CommandExecutor, TabCompleter {
+
+  private static final int DEFAULT_STATS_LIMIT = 3;
+
+  private final ExamplePlugin plugin;
+  private final MiniMessage miniMessage = MiniMessage.miniMessage();
+
+  /**
+   * Creates a new command executor bound to the owning plugin instance.
+   *
+   * @param plugin the plugin registering the command
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public WorldResetCommand(ExamplePlugin plugin) {
+    this.plugin = plugin;
+  }
+
+  @Override
+  public boolean onCommand(
+      @NotNull CommandSender sender,
+      @NotNull Command command,
+      @NotNull String label,
+      String[] args) {
+    if (!sender.hasPermission("example.worldreset.use")) {
+      sendMessage(sender, "<red>You do not have permission to use this command.</red>");
+      return true;
+    }
+
+    if (args.length == 0) {
+      sendUsage(sender, label);
+      return true;
+    }
+
+    String subcommand = args[0].toLowerCase(Locale.ROOT);
+    if (subcommand.equals("pack")) {
+      return handlePack(sender, args);
+    }
+    if (subcommand.equals("stats")) {
+      return handleStats(sender, args);
+    }
+
+    sendUsage(sender, label);
+    return true;
+  }
+
+  private boolean handlePack(CommandSender sender, String[] args) {
+    if (args.length < 2) {
+      sendMessage(sender, "<red>Usage: /worldreset pack <world></red>");
+      return true;
+    }
+
+    sendMessage(
+        sender,
+        "<gray>Packing the template for <yellow><world></yellow>...</gray>",
+        Placeholder.unparsed("world", args[1]));
+    plugin
+        .buildWorldTemplatePack(args[1])
+        .thenAccept(
+            lines ->
+                Bukkit.getScheduler()
+                    .runTask(plugin, () -> lines.forEach(line -> deliver(sender, line))));
+    return true;
+  }
+
+  private boolean handleStats(CommandSender sender, String[] args) {
+    int limit = DEFAULT_STATS_LIMIT;
+    if (args.length >= 2) {
+      try {
+        limit = Integer.parseInt(args[1]);
+      } catch (NumberFormatException ex) {
+        sendMessage(sender, "<red>Count must be a whole number.</red>");
+        return true;
+      }
+      if (limit <= 0) {
+        sendMessage(sender, "<red>Count must be greater than zero.</red>");
+        return true;
+      }
+    }
+
+    plugin.describeWorldResetHistory(limit).forEach(sender::sendMessage);
+    return true;
+  }
+
+  private void deliver(CommandSender sender, String line) {
+    if (sender instanceof Player player && !player.isOnline()) {
+      return;
+    }
+    sender.sendMessage(line);
+  }
+
+  private void sendUsage(CommandSender sender, String label) {
+    sendMessage(
+        sender,
+        "<red>Usage:</red> /<label> pack <world> <gray>or</gray> /<label> stats [count]",
+        Placeholder.unparsed("label", label));
+  }
+
+  @Override
+  public List<String> onTabComplete(
+      @NotNull CommandSender sender, Command command, @NotNull String alias, String[] args) {
+    if (!sender.hasPermission("example.worldreset.use")) {
+      return Collections.emptyList();
+    }
+
+    if (args.length == 1) {
+      return filterSuggestions(args[0], List.of("pack", "stats"));
+    }
+
+    if (args.length == 2 && "pack".equalsIgnoreCase(args[0])) {
+      return filterSuggestions(args[1], plugin.worldResetTargetNames());
+    }
+
+    return Collections.emptyList();
+  }
+
+  private List<String> filterSuggestions(String input, List<String> options) {
+    String lower = input.toLowerCase(Locale.ROOT);
+    List<String> matches = new ArrayList<>();
+    for (String option : options) {
+      if (option.toLowerCase(Locale.ROOT).startsWith(lower)) {
+        matches.add(option);
+      }
+    }
+    return matches;
+  }
+
+  private void sendMessage(CommandSender recipient, String template, TagResolver... resolvers) {
+    recipient.sendMessage(miniMessage.deserialize(template, TagResolver.resolver(resolvers)));
+  }
+}
@@ -19,7 +19,7 @@ import org.bukkit.entity.Player;
 public class YouTubeIntegrationCommand implements CommandExecutor, TabCompleter {
 
   private static final List<String> SUBCOMMANDS =
-      Arrays.asList("setchat", "settarget", "reload", "test");
+      Arrays.asList("setchat", "settarget", "reload", "test", "donors");
   private static final String ORBITAL_STRIKE_SCENARIO = "orbitalstrike";
   private final ExamplePlugin plugin;
 
@@ -53,15 +53,16 @@ public class YouTubeIntegrationCommand implements CommandExecutor, TabCompleter
         return handleSetTarget(sender, args);
       case "reload":
         plugin.reloadConfig();
-        plugin.loadSettingsFromConfig();
-        plugin.restartMonitoring();
+        plugin.applyConfigurationChanges();
         sender.sendMessage(
             ChatColor.GREEN
                 + "Reloaded YouTube stream configuration and "
-                + "restarted monitoring.");
+                + "applied listener changes.");
         return true;
       case "test":
         return handleSelfTest(sender, args);
+      case "donors":
+        return handleDonors(sender, args);
       default:
         sendUsage(sender, label);
         return true;
@@ -105,6 +106,23 @@ public class YouTubeIntegrationCommand implements CommandExecutor, TabCompleter
     return true;
   }
 
+  private boolean handleDonors(CommandSender sender, String[] args) {
+    if (args.length >= 2 && "reset".equalsIgnoreCase(args[1])) {
+      if (plugin.resetDonationSession("youtube")) {
+        sender.sendMessage(ChatColor.GREEN + "Reset the YouTube donation session totals.");
+      } else {
+        sender.sendMessage(ChatColor.RED + "The YouTube donation ledger is not available.");
+      }
+      return true;
+    }
+
+    String donor = args.length >= 2 ? args[1] : null;
+    for (String line : plugin.describeDonations("youtube", donor)) {
+      sender.sendMessage(line);
+    }
+    return true;
+  }
+
   private void updateConfigValueAndRestart(String key, String value) {
     plugin.getConfig().set(key, value);
     // Also update the legacy bridge setting to keep them in sync.
@@ -112,8 +130,7 @@ public class YouTubeIntegrationCommand implements CommandExecutor, TabCompleter
       plugin.getConfig().set("youtube-bridge.target-player", value);
     }
     plugin.saveConfig();
-    plugin.loadSettingsFromConfig();
-    plugin.restartMonitoring();
+    plugin.applyConfigurationChanges();
   }
 
   private void sendUsage(CommandSender sender, String label) {
@@ -121,7 +138,7 @@ public class YouTubeIntegrationCommand implements CommandExecutor, TabCompleter
         ChatColor.RED
             + "Usage: /"
             + label
-            + " <setchat|settarget|reload|test> [scenario]"
+            + " <setchat|settarget|reload|test|donors> [scenario|donor|reset]"
             + ChatColor.YELLOW
             + " (try /"
             + label
@@ -149,14 +166,7 @@ public class YouTubeIntegrationCommand implements CommandExecutor, TabCompleter
     }
 
     if (args.length == 2 && "settarget".equalsIgnoreCase(args[0])) {
-      String prefix = args[1].toLowerCase();
-      List<String> suggestions = new ArrayList<>();
-      for (Player player : plugin.getServer().getOnlinePlayers()) {
-        String name = player.getName();
-        if (name.toLowerCase().startsWith(prefix)) {
-          suggestions.add(name);
-        }
-      }
+      List<String> suggestions = plugin.getPlayerNameIndex().complete(args[1]);
       if (sender instanceof Player && suggestions.isEmpty()) {
         suggestions.add(((Player) sender).getName());
       }
@@ -0,0 +1,48 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event covering delivery of one stream chat message to players. */
+@Name("com.crimsonwarpedcraft.streambridge.ChatFanOut")
+@Label("Chat Fan-Out")
+@Category({"Stream Bridge", "Chat"})
+@Description("Time spent dispatching a chat message to bridge listeners and online players.")
+public final class ChatFanOutEvent extends Event {
+
+  @Label("Platform")
+  private String platform;
+
+  @Label("Recipients")
+  private int recipients;
+
+  /**
+   * Starts timing a chat fan-out.
+   *
+   * @param platform platform label the message was received for
+   * @return the started event
+   */
+  public static ChatFanOutEvent start(String platform) {
+    ChatFanOutEvent event = new ChatFanOutEvent();
+    event.platform = platform;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes and commits the event.
+   *
+   * @param recipients number of players the message was sent to
+   */
+  public void finish(int recipients) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.recipients = recipients;
+    commit();
+  }
+}
@@ -0,0 +1,43 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event emitted for every line read from a listener process or poll. */
+@Name("com.crimsonwarpedcraft.streambridge.ListenerLine")
+@Label("Listener Line Received")
+@Category({"Stream Bridge", "Listener"})
+@Description("A raw line was received from a listener and queued for the main thread.")
+public final class ListenerLineEvent extends Event {
+
+  @Label("Platform")
+  private String platform;
+
+  @Label("Source")
+  private String source;
+
+  @Label("Line Length")
+  @Description("Number of characters in the line.")
+  private int length;
+
+  /**
+   * Commits an instant event describing a received line.
+   *
+   * @param platform platform label, e.g. {@code youtube}
+   * @param source where the line came from, {@code stdout} or {@code http}
+   * @param length number of characters in the line
+   */
+  public static void emit(String platform, String source, int length) {
+    ListenerLineEvent event = new ListenerLineEvent();
+    if (!event.isEnabled()) {
+      return;
+    }
+    event.platform = platform;
+    event.source = source;
+    event.length = length;
+    event.commit();
+  }
+}
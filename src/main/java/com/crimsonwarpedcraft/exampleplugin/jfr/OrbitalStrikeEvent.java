@@ -0,0 +1,70 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event covering the planning of an orbital strike. */
+@Name("com.crimsonwarpedcraft.streambridge.OrbitalStrike")
+@Label("Orbital Strike")
+@Category({"Stream Bridge", "Effects"})
+@Description("Time spent selecting spawn locations and scheduling an orbital strike.")
+public final class OrbitalStrikeEvent extends Event {
+
+  @Label("Platform")
+  private String platform;
+
+  @Label("Donor")
+  private String donor;
+
+  @Label("Amount")
+  private double amount;
+
+  @Label("Currency")
+  private String currency;
+
+  @Label("Requested TNT")
+  private int requested;
+
+  @Label("Scheduled TNT")
+  @Description("TNT locations that passed the safety checks.")
+  private int scheduled;
+
+  /**
+   * Starts timing an orbital strike.
+   *
+   * @param platform platform label that triggered the strike
+   * @param donor donor display name
+   * @param amount donation amount, or {@code NaN} when unknown
+   * @param currency donation currency code
+   * @param requested number of TNT requested by the configuration
+   * @return the started event
+   */
+  public static OrbitalStrikeEvent start(
+      String platform, String donor, double amount, String currency, int requested) {
+    OrbitalStrikeEvent event = new OrbitalStrikeEvent();
+    event.platform = platform;
+    event.donor = donor;
+    event.amount = amount;
+    event.currency = currency;
+    event.requested = requested;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes and commits the event.
+   *
+   * @param scheduled number of TNT locations scheduled for spawning
+   */
+  public void finish(int scheduled) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.scheduled = scheduled;
+    commit();
+  }
+}
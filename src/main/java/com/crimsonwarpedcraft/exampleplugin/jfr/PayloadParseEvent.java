@@ -0,0 +1,59 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event covering the parse and dispatch of one listener payload. */
+@Name("com.crimsonwarpedcraft.streambridge.PayloadParse")
+@Label("Listener Payload Parse")
+@Category({"Stream Bridge", "Listener"})
+@Description("Time spent parsing a listener line and routing it to the matching handler.")
+public final class PayloadParseEvent extends Event {
+
+  @Label("Platform")
+  private String platform;
+
+  @Label("Payload Type")
+  private String payloadType;
+
+  @Label("Structured")
+  @Description("Whether the line was a JSON payload rather than plain chat text.")
+  private boolean structured;
+
+  @Label("Payload Length")
+  private int length;
+
+  /**
+   * Starts timing a payload parse.
+   *
+   * @param platform platform label the payload was received for
+   * @param length number of characters in the payload
+   * @return the started event
+   */
+  public static PayloadParseEvent start(String platform, int length) {
+    PayloadParseEvent event = new PayloadParseEvent();
+    event.platform = platform;
+    event.length = length;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes and commits the event.
+   *
+   * @param payloadType resolved payload type, e.g. {@code chat} or {@code plain}
+   * @param structured whether the payload was structured JSON
+   */
+  public void finish(String payloadType, boolean structured) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.payloadType = payloadType;
+    this.structured = structured;
+    commit();
+  }
+}
@@ -0,0 +1,50 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event covering a write of the persisted subscriber state. */
+@Name("com.crimsonwarpedcraft.streambridge.SubscriberStateFlush")
+@Label("Subscriber State Flush")
+@Category({"Stream Bridge", "Subscribers"})
+@Description("Time spent persisting subscriber counts and the last celebrated milestone.")
+public final class SubscriberStateFlushEvent extends Event {
+
+  @Label("Platform")
+  private String platform;
+
+  @Label("Known Subscribers")
+  private long knownSubscribers;
+
+  @Label("Last Celebrated Milestone")
+  private long lastMilestone;
+
+  /**
+   * Starts timing a subscriber state flush.
+   *
+   * @param platform platform label whose state is being written
+   * @param knownSubscribers subscriber count being persisted
+   * @param lastMilestone milestone value being persisted
+   * @return the started event
+   */
+  public static SubscriberStateFlushEvent start(
+      String platform, long knownSubscribers, long lastMilestone) {
+    SubscriberStateFlushEvent event = new SubscriberStateFlushEvent();
+    event.platform = platform;
+    event.knownSubscribers = knownSubscribers;
+    event.lastMilestone = lastMilestone;
+    event.begin();
+    return event;
+  }
+
+  /** Finishes and commits the event. */
+  public void finish() {
+    end();
+    if (shouldCommit()) {
+      commit();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event covering one tick of a multi-tick TNT spawn effect. */
+@Name("com.crimsonwarpedcraft.streambridge.TntWave")
+@Label("TNT Wave Spawn")
+@Category({"Stream Bridge", "Effects"})
+@Description("Time spent spawning one wave of primed TNT for a milestone or orbital strike.")
+public final class TntWaveEvent extends Event {
+
+  @Label("Platform")
+  private String platform;
+
+  @Label("Effect")
+  private String effect;
+
+  @Label("Spawned")
+  private int spawned;
+
+  @Label("Remaining")
+  private int remaining;
+
+  /**
+   * Starts timing a TNT wave.
+   *
+   * @param platform platform label that triggered the effect
+   * @param effect effect name, e.g. {@code milestone} or {@code orbital_strike}
+   * @return the started event
+   */
+  public static TntWaveEvent start(String platform, String effect) {
+    TntWaveEvent event = new TntWaveEvent();
+    event.platform = platform;
+    event.effect = effect;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes and commits the event.
+   *
+   * @param spawned number of TNT entities spawned in this wave
+   * @param remaining number of TNT entities still queued for later waves
+   */
+  public void finish(int spawned, int remaining) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.spawned = spawned;
+    this.remaining = remaining;
+    commit();
+  }
+}
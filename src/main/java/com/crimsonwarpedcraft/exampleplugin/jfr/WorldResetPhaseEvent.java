@@ -0,0 +1,80 @@
+package com.crimsonwarpedcraft.exampleplugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event covering one phase of a scheduled world reset. */
+@Name("com.crimsonwarpedcraft.streambridge.WorldResetPhase")
+@Label("World Reset Phase")
+@Category({"Stream Bridge", "World Reset"})
+@Description("Time spent in one world reset phase such as evacuate, delete, copy or create.")
+public final class WorldResetPhaseEvent extends Event {
+
+  /** Moving players out of the target worlds. */
+  public static final String EVACUATE = "evacuate";
+  /** Unloading the live world. */
+  public static final String SAVE_UNLOAD = "save_unload";
+  /** Deleting the old world folder. */
+  public static final String DELETE = "delete";
+  /** Copying the template into place. */
+  public static final String COPY = "copy";
+  /** Renaming a pre-staged template copy into place. */
+  public static final String PROMOTE = "promote";
+  /** Rewriting only the files that differ from the template. */
+  public static final String RESTORE = "restore";
+  /** Preparing the next reset's template copy in the background. */
+  public static final String STAGE = "stage";
+  /** Recreating the world through Bukkit. */
+  public static final String CREATE = "create";
+  /** Generating chunks around spawn and saved player positions before players return. */
+  public static final String WARM_UP = "warm_up";
+  /** Teleporting evacuated players back. */
+  public static final String RETURN = "return";
+
+  @Label("World")
+  private String world;
+
+  @Label("Phase")
+  private String phase;
+
+  @Label("Items")
+  @Description("Players moved or files touched during the phase, when applicable.")
+  private long items;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+
+  /**
+   * Starts timing a world reset phase.
+   *
+   * @param world world name, or {@code *} for phases spanning every target
+   * @param phase phase name, one of the constants on this class
+   * @return the started event
+   */
+  public static WorldResetPhaseEvent start(String world, String phase) {
+    WorldResetPhaseEvent event = new WorldResetPhaseEvent();
+    event.world = world;
+    event.phase = phase;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes and commits the event.
+   *
+   * @param items number of players or files handled during the phase
+   * @param succeeded whether the phase completed without error
+   */
+  public void finish(long items, boolean succeeded) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.items = items;
+    this.succeeded = succeeded;
+    commit();
+  }
+}
@@ -0,0 +1,391 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Running donation totals for a single platform, indexed by donor.
+ *
+ * <p>Donors are interned to dense integer ids the first time they are seen, so per-donor
+ * aggregates live in primitive arrays and totals are O(1) lookups. Lifetime and session rankings
+ * are kept in sorted sets that are updated on every donation, which makes top-N queries
+ * O(log n + N) without scanning history. Amounts are stored in hundredths to avoid drift.
+ *
+ * <p>All methods are thread-safe. {@link #snapshot()} copies the live state under the lock so the
+ * copy can be written to disk off the server thread; the ledger stays dirty until {@link
+ * #markClean(Snapshot)} confirms that copy was written.
+ */
+public final class DonationLedger {
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final String FILE_HEADER = "# streambridge donation ledger v1";
+
+  private final Map<String, Integer> donorIds = new HashMap<>();
+  private String[] names = new String[INITIAL_CAPACITY];
+  private long[] lifetimeCents = new long[INITIAL_CAPACITY];
+  private long[] sessionCents = new long[INITIAL_CAPACITY];
+  private int[] donationCounts = new int[INITIAL_CAPACITY];
+  private int donorCount;
+  private long lifetimeTotalCents;
+  private long sessionTotalCents;
+  private long revision;
+  private long cleanRevision;
+  private Snapshot lastSnapshot;
+  private long lastSnapshotRevision;
+
+  private final TreeSet<Integer> lifetimeRanking =
+      new TreeSet<>(rankingBy(id -> lifetimeCents[id]));
+  private final TreeSet<Integer> sessionRanking =
+      new TreeSet<>(rankingBy(id -> sessionCents[id]));
+
+  /**
+   * Adds a donation to the ledger.
+   *
+   * @param donor display name of the donor
+   * @param amount donated amount in major currency units; non-positive amounts are ignored
+   * @return totals after the donation was applied
+   */
+  public synchronized Receipt record(String donor, double amount) {
+    long cents = toCents(amount);
+    if (cents <= 0L || Double.isNaN(amount)) {
+      return new Receipt(0L, 0L, sessionTotalCents, sessionTotalCents);
+    }
+
+    int id = internDonor(donor);
+    lifetimeRanking.remove(id);
+    sessionRanking.remove(id);
+    lifetimeCents[id] += cents;
+    sessionCents[id] += cents;
+    donationCounts[id]++;
+    lifetimeRanking.add(id);
+    sessionRanking.add(id);
+
+    long sessionBefore = sessionTotalCents;
+    lifetimeTotalCents += cents;
+    sessionTotalCents += cents;
+    revision++;
+    return new Receipt(lifetimeCents[id], sessionCents[id], sessionBefore, sessionTotalCents);
+  }
+
+  /**
+   * Looks up a single donor's totals.
+   *
+   * @param donor donor name, matched case-insensitively
+   * @return the donor's totals, or empty when they have never donated
+   */
+  public synchronized Optional<DonorTotal> lookup(String donor) {
+    if (donor == null) {
+      return Optional.empty();
+    }
+    Integer id = donorIds.get(normalize(donor));
+    return id == null ? Optional.empty() : Optional.of(totalFor(id));
+  }
+
+  /**
+   * Returns the highest lifetime donors.
+   *
+   * @param limit maximum number of donors to return
+   */
+  public synchronized List<DonorTotal> topLifetime(int limit) {
+    return top(lifetimeRanking, id -> lifetimeCents[id], limit);
+  }
+
+  /**
+   * Returns the highest donors of the current stream session.
+   *
+   * @param limit maximum number of donors to return
+   */
+  public synchronized List<DonorTotal> topSession(int limit) {
+    return top(sessionRanking, id -> sessionCents[id], limit);
+  }
+
+  /** Returns the total donated across every session, in major currency units. */
+  public synchronized double lifetimeTotal() {
+    return lifetimeTotalCents / 100.0D;
+  }
+
+  /** Returns the total donated during the current session, in major currency units. */
+  public synchronized double sessionTotal() {
+    return sessionTotalCents / 100.0D;
+  }
+
+  /** Clears session totals while keeping lifetime totals. */
+  public synchronized void resetSession() {
+    Arrays.fill(sessionCents, 0, donorCount, 0L);
+    sessionRanking.clear();
+    sessionTotalCents = 0L;
+    revision++;
+  }
+
+  /** Returns {@code true} if the ledger changed since the last snapshot marked clean. */
+  public synchronized boolean isDirty() {
+    return revision != cleanRevision;
+  }
+
+  /** Copies the ledger state without changing whether it is dirty. */
+  public synchronized Snapshot snapshot() {
+    List<DonorTotal> donors = new ArrayList<>(donorCount);
+    for (int id = 0; id < donorCount; id++) {
+      donors.add(totalFor(id));
+    }
+    lastSnapshot = new Snapshot(donors);
+    lastSnapshotRevision = revision;
+    return lastSnapshot;
+  }
+
+  /**
+   * Marks the ledger clean up to the state captured by {@code snapshot}. Call this only after the
+   * snapshot was written; changes made after it was taken keep the ledger dirty.
+   *
+   * @param snapshot the most recent result of {@link #snapshot()}; older snapshots are ignored
+   */
+  public synchronized void markClean(Snapshot snapshot) {
+    if (snapshot == lastSnapshot) {
+      cleanRevision = lastSnapshotRevision;
+    }
+  }
+
+  /**
+   * Replaces the ledger contents with the totals stored in {@code file}. A missing file leaves the
+   * ledger empty, and when a donor appears on several rows the last row wins.
+   *
+   * @param file ledger file previously written by {@link Snapshot#writeTo(Path)}
+   * @throws IOException if the file exists but cannot be read
+   */
+  public synchronized void load(Path file) throws IOException {
+    clear();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] parts = line.split("\t", 4);
+        if (parts.length < 4) {
+          continue;
+        }
+        try {
+          long lifetime = Long.parseLong(parts[0]);
+          long session = Long.parseLong(parts[1]);
+          int count = Integer.parseInt(parts[2]);
+          int id = internDonor(parts[3]);
+          // A repeated donor row replaces the earlier one instead of adding to it.
+          lifetimeRanking.remove(id);
+          sessionRanking.remove(id);
+          lifetimeTotalCents -= lifetimeCents[id];
+          sessionTotalCents -= sessionCents[id];
+          lifetimeCents[id] = lifetime;
+          sessionCents[id] = session;
+          donationCounts[id] = count;
+          lifetimeTotalCents += lifetime;
+          sessionTotalCents += session;
+          lifetimeRanking.add(id);
+          if (session > 0L) {
+            sessionRanking.add(id);
+          }
+        } catch (NumberFormatException ignored) {
+          // Skip malformed rows rather than discarding the whole ledger.
+        }
+      }
+    } catch (NoSuchFileException ignored) {
+      // First run: nothing to restore.
+    }
+    cleanRevision = revision;
+  }
+
+  private void clear() {
+    donorIds.clear();
+    lifetimeRanking.clear();
+    sessionRanking.clear();
+    Arrays.fill(names, 0, donorCount, null);
+    Arrays.fill(lifetimeCents, 0, donorCount, 0L);
+    Arrays.fill(sessionCents, 0, donorCount, 0L);
+    Arrays.fill(donationCounts, 0, donorCount, 0);
+    donorCount = 0;
+    lifetimeTotalCents = 0L;
+    sessionTotalCents = 0L;
+  }
+
+  private int internDonor(String donor) {
+    String displayName = sanitize(donor);
+    Integer existing = donorIds.get(normalize(displayName));
+    if (existing != null) {
+      names[existing] = displayName;
+      return existing;
+    }
+
+    if (donorCount == names.length) {
+      int capacity = names.length * 2;
+      names = Arrays.copyOf(names, capacity);
+      lifetimeCents = Arrays.copyOf(lifetimeCents, capacity);
+      sessionCents = Arrays.copyOf(sessionCents, capacity);
+      donationCounts = Arrays.copyOf(donationCounts, capacity);
+    }
+    int id = donorCount++;
+    names[id] = displayName;
+    donorIds.put(normalize(displayName), id);
+    return id;
+  }
+
+  private DonorTotal totalFor(int id) {
+    return new DonorTotal(names[id], lifetimeCents[id], sessionCents[id], donationCounts[id]);
+  }
+
+  private List<DonorTotal> top(TreeSet<Integer> ranking, IdToLong key, int limit) {
+    List<DonorTotal> result = new ArrayList<>(Math.max(0, Math.min(limit, ranking.size())));
+    Iterator<Integer> iterator = ranking.iterator();
+    while (result.size() < limit && iterator.hasNext()) {
+      int id = iterator.next();
+      if (key.applyAsLong(id) <= 0L) {
+        break;
+      }
+      result.add(totalFor(id));
+    }
+    return result;
+  }
+
+  private static Comparator<Integer> rankingBy(IdToLong key) {
+    return (left, right) -> {
+      int byAmount = Long.compare(key.applyAsLong(right), key.applyAsLong(left));
+      return byAmount != 0 ? byAmount : Integer.compare(left, right);
+    };
+  }
+
+  private static long toCents(double amount) {
+    return Math.round(amount * 100.0D);
+  }
+
+  private static String sanitize(String donor) {
+    String name = donor == null || donor.isBlank() ? "Supporter" : donor.trim();
+    return name.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+  }
+
+  private static String normalize(String donor) {
+    return sanitize(donor).toLowerCase(Locale.ROOT);
+  }
+
+  @FunctionalInterface
+  private interface IdToLong {
+    long applyAsLong(int id);
+  }
+
+  /**
+   * Totals after a donation was recorded.
+   *
+   * @param donorLifetimeCents the donor's lifetime total in hundredths
+   * @param donorSessionCents the donor's session total in hundredths
+   * @param sessionTotalBeforeCents session total before the donation in hundredths
+   * @param sessionTotalAfterCents session total after the donation in hundredths
+   */
+  public record Receipt(
+      long donorLifetimeCents,
+      long donorSessionCents,
+      long sessionTotalBeforeCents,
+      long sessionTotalAfterCents) {
+
+    /**
+     * Returns how many multiples of {@code step} the session total crossed with this donation.
+     *
+     * @param step threshold in major currency units; non-positive values disable thresholds
+     */
+    public long thresholdsCrossed(double step) {
+      long stepCents = toCents(step);
+      if (stepCents <= 0L) {
+        return 0L;
+      }
+      return sessionTotalAfterCents / stepCents - sessionTotalBeforeCents / stepCents;
+    }
+
+    /** Returns the donor's lifetime total in major currency units. */
+    public double donorLifetime() {
+      return donorLifetimeCents / 100.0D;
+    }
+
+    /** Returns the session total in major currency units. */
+    public double sessionTotal() {
+      return sessionTotalAfterCents / 100.0D;
+    }
+  }
+
+  /**
+   * Aggregated totals for one donor.
+   *
+   * @param name the donor's most recent display name
+   * @param lifetimeCents lifetime total in hundredths
+   * @param sessionCents session total in hundredths
+   * @param donations number of donations recorded
+   */
+  public record DonorTotal(String name, long lifetimeCents, long sessionCents, int donations) {
+
+    /** Returns the lifetime total in major currency units. */
+    public double lifetime() {
+      return lifetimeCents / 100.0D;
+    }
+
+    /** Returns the session total in major currency units. */
+    public double session() {
+      return sessionCents / 100.0D;
+    }
+  }
+
+  /** Immutable copy of the ledger that can be written without holding the ledger lock. */
+  public record Snapshot(List<DonorTotal> donors) {
+
+    /** Copies the supplied donors so the snapshot stays immutable. */
+    public Snapshot {
+      donors = List.copyOf(donors);
+    }
+
+    /**
+     * Writes the snapshot to {@code file}, replacing it atomically where supported.
+     *
+     * @param file destination file
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        writer.write(FILE_HEADER);
+        writer.newLine();
+        for (DonorTotal donor : donors) {
+          writer.write(
+              donor.lifetimeCents()
+                  + "\t"
+                  + donor.sessionCents()
+                  + "\t"
+                  + donor.donations()
+                  + "\t"
+                  + donor.name());
+          writer.newLine();
+        }
+      }
+      try {
+        Files.move(
+            temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+  }
+}
@@ -0,0 +1,363 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Restores a world folder to its template by rewriting only the files that differ.
+ *
+ * <p>A manifest of the template (relative path, size, modification time and CRC32C) is cached
+ * between resets, so only template files that changed are re-hashed. After each restore the size
+ * and modification time of every restored live file is cached as well. On the next reset a live
+ * file that still matches that record was never written by the server and is skipped without
+ * being read. Other files are compared by size and then by hash. Files missing from the template
+ * are deleted. Hashing and copying run on a bounded worker pool, and each worker reuses one hash
+ * buffer. Manifests are replaced atomically where the filesystem supports it.
+ */
+public final class IncrementalRestorer implements AutoCloseable {
+
+  private static final int HASH_BUFFER_BYTES = 1 << 20;
+  private static final String TEMPLATE_MANIFEST_SUFFIX = ".template.manifest";
+  private static final String LIVE_MANIFEST_SUFFIX = ".live.manifest";
+
+  private final ExecutorService workers;
+  private final Path cacheDirectory;
+  private final ThreadLocal<ByteBuffer> hashBuffers =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(HASH_BUFFER_BYTES));
+
+  /**
+   * Creates a restorer.
+   *
+   * @param parallelism maximum number of files hashed or copied at once
+   * @param cacheDirectory directory holding cached manifests
+   */
+  public IncrementalRestorer(int parallelism, Path cacheDirectory) {
+    this.cacheDirectory = Objects.requireNonNull(cacheDirectory, "cacheDirectory");
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.workers =
+        Executors.newFixedThreadPool(
+            Math.max(1, parallelism),
+            runnable -> {
+              String name = "StreamBridge-Restore-" + threadIndex.incrementAndGet();
+              Thread thread = new Thread(runnable, name);
+              thread.setDaemon(true);
+              thread.setPriority(Thread.NORM_PRIORITY - 1);
+              return thread;
+            });
+  }
+
+  /**
+   * Brings {@code live} in line with {@code template}. Blocks until done, so call it off the main
+   * thread and only while the world is unloaded.
+   *
+   * @param world world name, used to key the cached manifests
+   * @param template template directory
+   * @param live world folder to restore
+   * @return statistics describing the restore
+   * @throws IOException if scanning, hashing or copying fails
+   */
+  public RestoreResult restore(String world, Path template, Path live) throws IOException {
+    long startedNanos = System.nanoTime();
+    Path templateCache = cacheDirectory.resolve(world + TEMPLATE_MANIFEST_SUFFIX);
+    Path liveCache = cacheDirectory.resolve(world + LIVE_MANIFEST_SUFFIX);
+
+    Map<String, Entry> templateManifest = hashTemplate(template, readManifest(templateCache));
+    Map<String, Entry> previousLive = readManifest(liveCache);
+    Map<String, FileState> liveFiles = scan(live);
+    Files.createDirectories(live);
+
+    AtomicLong restoredBytes = new AtomicLong();
+    AtomicLong restoredFiles = new AtomicLong();
+    Map<String, Entry> restoredLive = new HashMap<>();
+    List<Callable<Entry>> tasks = new ArrayList<>();
+    for (Entry expected : templateManifest.values()) {
+      FileState current = liveFiles.get(expected.path());
+      Entry recorded = previousLive.get(expected.path());
+      tasks.add(
+          () -> {
+            Path livePath = live.resolve(expected.path());
+            if (current != null && current.size() == expected.size()) {
+              boolean untouched =
+                  recorded != null
+                      && recorded.hash() == expected.hash()
+                      && recorded.size() == current.size()
+                      && recorded.modifiedMillis() == current.modifiedMillis();
+              if (untouched || hash(livePath) == expected.hash()) {
+                return new Entry(
+                    expected.path(), current.size(), current.modifiedMillis(), expected.hash());
+              }
+            }
+            Path parent = livePath.getParent();
+            if (parent != null) {
+              Files.createDirectories(parent);
+            }
+            Files.copy(
+                template.resolve(expected.path()), livePath, StandardCopyOption.REPLACE_EXISTING);
+            restoredFiles.incrementAndGet();
+            restoredBytes.addAndGet(expected.size());
+            return new Entry(
+                expected.path(),
+                expected.size(),
+                Files.getLastModifiedTime(livePath).toMillis(),
+                expected.hash());
+          });
+    }
+
+    for (Entry entry : runAll(tasks)) {
+      restoredLive.put(entry.path(), entry);
+    }
+
+    long deletedFiles = deleteExtras(live, liveFiles.keySet(), templateManifest.keySet());
+
+    Files.createDirectories(cacheDirectory);
+    writeManifest(templateCache, templateManifest);
+    writeManifest(liveCache, restoredLive);
+    return new RestoreResult(
+        templateManifest.size(),
+        restoredFiles.get(),
+        deletedFiles,
+        restoredBytes.get(),
+        System.nanoTime() - startedNanos);
+  }
+
+  /** Stops the worker threads. */
+  @Override
+  public void close() {
+    workers.shutdownNow();
+  }
+
+  private Map<String, Entry> hashTemplate(Path template, Map<String, Entry> cached)
+      throws IOException {
+    Map<String, FileState> files = scan(template);
+    List<Callable<Entry>> tasks = new ArrayList<>(files.size());
+    for (Map.Entry<String, FileState> file : files.entrySet()) {
+      String path = file.getKey();
+      FileState state = file.getValue();
+      Entry previous = cached.get(path);
+      tasks.add(
+          () -> {
+            if (previous != null
+                && previous.size() == state.size()
+                && previous.modifiedMillis() == state.modifiedMillis()) {
+              return previous;
+            }
+            return new Entry(
+                path, state.size(), state.modifiedMillis(), hash(template.resolve(path)));
+          });
+    }
+    Map<String, Entry> manifest = new HashMap<>();
+    for (Entry entry : runAll(tasks)) {
+      manifest.put(entry.path(), entry);
+    }
+    return manifest;
+  }
+
+  private <T> List<T> runAll(List<Callable<T>> tasks) throws IOException {
+    List<Future<T>> futures = new ArrayList<>(tasks.size());
+    for (Callable<T> task : tasks) {
+      futures.add(workers.submit(task));
+    }
+    List<T> results = new ArrayList<>(futures.size());
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new IOException("Interrupted while restoring world", ex);
+    } catch (ExecutionException ex) {
+      futures.forEach(future -> future.cancel(true));
+      if (ex.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("World restore failed", ex.getCause());
+    }
+    return results;
+  }
+
+  private static long deleteExtras(Path live, Set<String> liveFiles, Set<String> templateFiles)
+      throws IOException {
+    long deleted = 0L;
+    Set<String> templateDirectories = new HashSet<>();
+    for (String path : templateFiles) {
+      for (Path parent = Path.of(path).getParent(); parent != null; parent = parent.getParent()) {
+        templateDirectories.add(parent.toString());
+      }
+    }
+    for (String path : liveFiles) {
+      if (!templateFiles.contains(path) && Files.deleteIfExists(live.resolve(path))) {
+        deleted++;
+      }
+    }
+    if (Files.notExists(live)) {
+      return deleted;
+    }
+    Files.walkFileTree(
+        live,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult postVisitDirectory(Path dir, IOException exc)
+              throws IOException {
+            if (exc != null) {
+              throw exc;
+            }
+            String relative = live.relativize(dir).toString();
+            if (!relative.isEmpty() && !templateDirectories.contains(relative)) {
+              try (Stream<Path> children = Files.list(dir)) {
+                if (children.findAny().isEmpty()) {
+                  Files.delete(dir);
+                }
+              }
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return deleted;
+  }
+
+  private static Map<String, FileState> scan(Path root) throws IOException {
+    Map<String, FileState> files = new HashMap<>();
+    if (Files.notExists(root)) {
+      return files;
+    }
+    Files.walkFileTree(
+        root,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            files.put(
+                root.relativize(file).toString(),
+                new FileState(attrs.size(), attrs.lastModifiedTime().toMillis()));
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return files;
+  }
+
+  private long hash(Path file) throws IOException {
+    CRC32C crc = new CRC32C();
+    ByteBuffer buffer = hashBuffers.get();
+    buffer.clear();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        crc.update(buffer);
+        buffer.clear();
+      }
+    }
+    return crc.getValue();
+  }
+
+  private static Map<String, Entry> readManifest(Path file) throws IOException {
+    Map<String, Entry> manifest = new HashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] parts = line.split("\t", 4);
+        if (parts.length < 4) {
+          continue;
+        }
+        try {
+          manifest.put(
+              parts[3],
+              new Entry(
+                  parts[3],
+                  Long.parseLong(parts[0]),
+                  Long.parseLong(parts[1]),
+                  Long.parseLong(parts[2], 16)));
+        } catch (NumberFormatException ignored) {
+          // A bad row only costs a re-hash of that file.
+        }
+      }
+    } catch (NoSuchFileException ex) {
+      // No cache yet; everything is hashed.
+    }
+    return manifest;
+  }
+
+  private static void writeManifest(Path file, Map<String, Entry> manifest) throws IOException {
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+      for (Entry entry : manifest.values()) {
+        writer.write(
+            entry.size()
+                + "\t"
+                + entry.modifiedMillis()
+                + "\t"
+                + Long.toHexString(entry.hash())
+                + "\t"
+                + entry.path());
+        writer.newLine();
+      }
+    }
+    try {
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException ex) {
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private record FileState(long size, long modifiedMillis) {}
+
+  private record Entry(String path, long size, long modifiedMillis, long hash) {}
+
+  /**
+   * Outcome of an incremental restore.
+   *
+   * @param templateFiles number of files in the template
+   * @param restoredFiles number of live files rewritten from the template
+   * @param deletedFiles number of live files removed because the template lacks them
+   * @param restoredBytes bytes copied from the template
+   * @param elapsedNanos wall-clock duration of the restore
+   */
+  public record RestoreResult(
+      long templateFiles,
+      long restoredFiles,
+      long deletedFiles,
+      long restoredBytes,
+      long elapsedNanos) {
+
+    /** Returns a short human-readable summary for logs. */
+    public String describe() {
+      return String.format(
+          Locale.ROOT,
+          "%d of %d files restored (%.1f MiB), %d removed in %.2fs",
+          restoredFiles,
+          templateFiles,
+          restoredBytes / 1048576.0D,
+          deletedFiles,
+          elapsedNanos / 1_000_000_000.0D);
+    }
+  }
+}
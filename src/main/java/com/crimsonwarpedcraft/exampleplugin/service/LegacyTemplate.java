@@ -0,0 +1,104 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.bukkit.ChatColor;
+
+/**
+ * A legacy {@code &}-coded text template such as a title, parsed once into literal segments and
+ * {@code {placeholder}} slots.
+ *
+ * <p>Colour codes are translated in the literal segments when the template is compiled, so
+ * rendering is a single concatenation of literals and slot values. Values are inserted as-is and
+ * their {@code &} characters are never treated as colour codes. Unknown placeholders are kept
+ * verbatim.
+ */
+public final class LegacyTemplate {
+
+  private static final LegacyTemplate EMPTY = new LegacyTemplate(new String[] {""}, new int[0]);
+
+  private final String[] literals;
+  private final int[] slotIndexes;
+  private final int literalLength;
+
+  private LegacyTemplate(String[] literals, int[] slotIndexes) {
+    this.literals = literals;
+    this.slotIndexes = slotIndexes;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  /**
+   * Parses a template.
+   *
+   * @param source template text, or {@code null} for an empty template
+   * @param slots placeholder names without braces, in the order values are passed to
+   *     {@link #render}
+   * @return the compiled template
+   */
+  public static LegacyTemplate compile(String source, String... slots) {
+    if (source == null || source.isEmpty()) {
+      return EMPTY;
+    }
+    List<String> names = List.of(slots);
+    List<String> literals = new ArrayList<>();
+    List<Integer> indexes = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int position = 0;
+    while (position < source.length()) {
+      int open = source.indexOf('{', position);
+      int close = open < 0 ? -1 : source.indexOf('}', open + 1);
+      if (close < 0) {
+        break;
+      }
+      int slot = names.indexOf(source.substring(open + 1, close));
+      if (slot < 0) {
+        literal.append(source, position, open + 1);
+        position = open + 1;
+        continue;
+      }
+      literal.append(source, position, open);
+      literals.add(ChatColor.translateAlternateColorCodes('&', literal.toString()));
+      indexes.add(slot);
+      literal.setLength(0);
+      position = close + 1;
+    }
+    literal.append(source, position, source.length());
+    literals.add(ChatColor.translateAlternateColorCodes('&', literal.toString()));
+
+    int[] slotIndexes = new int[indexes.size()];
+    for (int i = 0; i < slotIndexes.length; i++) {
+      slotIndexes[i] = indexes.get(i);
+    }
+    return new LegacyTemplate(literals.toArray(new String[0]), slotIndexes);
+  }
+
+  /** Returns {@code true} if the template renders nothing regardless of its values. */
+  public boolean isEmpty() {
+    return slotIndexes.length == 0 && literalLength == 0;
+  }
+
+  /**
+   * Renders the template.
+   *
+   * @param values one value per slot, in slot order; missing or {@code null} values render as
+   *     empty
+   * @return the rendered text
+   */
+  public String render(String... values) {
+    if (slotIndexes.length == 0) {
+      return literals[0];
+    }
+    StringBuilder builder = new StringBuilder(literalLength + slotIndexes.length * 16);
+    for (int i = 0; i < slotIndexes.length; i++) {
+      builder.append(literals[i]);
+      int slot = slotIndexes[i];
+      builder.append(Objects.requireNonNullElse(slot < values.length ? values[slot] : null, ""));
+    }
+    return builder.append(literals[slotIndexes.length]).toString();
+  }
+}
@@ -0,0 +1,274 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of listener events, negotiated as an alternative to JSON frames on a
+ * {@link ListenerSocket}. Must match {@code _encode_binary_event} in {@code chat_listener.py}.
+ *
+ * <p>Schema version {@value #SCHEMA_VERSION}:
+ *
+ * <pre>
+ * frame  := typeTag:u8 fieldCount:varint field*
+ * field  := keyId:varint [key:string when keyId is 0] valueTag:u8 value
+ * string := byteLength:varint UTF-8 bytes
+ * value  := string (0) | zigzag varint (1) | big-endian float64 (2) | true (3) | false (4)
+ *         | null (5) | JSON text as string (6)
+ * </pre>
+ *
+ * <p>Type tags and key ids are positions in fixed tables of common event types and keys; type tag
+ * 0 means the type, if any, is carried as an ordinary {@code type} field and key id 0 that the key
+ * follows as a string. Type tags stay below {@code '{'}, so a binary frame is never mistaken for a
+ * JSON one. Decoding yields the same {@link JsonObject} the JSON frame would have parsed to.
+ */
+public final class ListenerFrameCodec {
+
+  /** Binary schema version announced by the listener in its hello frame. */
+  public static final int SCHEMA_VERSION = 1;
+
+  private static final String[] TYPES = {
+    null, "chat", "subscriber", "donation", "milestone", "log", "error", "status", "heartbeat"
+  };
+
+  private static final String[] KEYS = {
+    null,
+    "author",
+    "message",
+    "timestamp",
+    "platform",
+    "channelId",
+    "messageId",
+    "totalSubscribers",
+    "amount",
+    "currency",
+    "formattedAmount",
+    "level",
+    "raw",
+    "streamIdentifier",
+    "error",
+    "inGameName",
+    "ign",
+    "subscriberCount",
+    "total",
+    "milestoneInterval"
+  };
+
+  private static final int VALUE_STRING = 0;
+  private static final int VALUE_INTEGER = 1;
+  private static final int VALUE_DOUBLE = 2;
+  private static final int VALUE_TRUE = 3;
+  private static final int VALUE_FALSE = 4;
+  private static final int VALUE_NULL = 5;
+  private static final int VALUE_JSON = 6;
+
+  private static final Map<String, Integer> TYPE_TAGS = indexOf(TYPES);
+  private static final Map<String, Integer> KEY_IDS = indexOf(KEYS);
+
+  private ListenerFrameCodec() {}
+
+  /**
+   * Returns {@code true} if {@code frame} holds a binary event rather than JSON text. Does not move
+   * the buffer's position.
+   *
+   * @param frame a complete frame
+   */
+  public static boolean isBinary(ByteBuffer frame) {
+    return frame.hasRemaining() && frame.get(frame.position()) != '{';
+  }
+
+  /**
+   * Decodes one binary frame, consuming the buffer.
+   *
+   * @param frame a complete frame
+   * @return the event as the equivalent JSON object
+   * @throws IllegalArgumentException if the frame is malformed
+   */
+  public static JsonObject decode(ByteBuffer frame) {
+    try {
+      JsonObject event = new JsonObject();
+      int typeTag = Byte.toUnsignedInt(frame.get());
+      if (typeTag >= TYPES.length) {
+        throw new IllegalArgumentException("Unknown listener event type " + typeTag);
+      }
+      if (typeTag != 0) {
+        event.addProperty("type", TYPES[typeTag]);
+      }
+      long fieldCount = readVarint(frame);
+      for (long i = 0; i < fieldCount; i++) {
+        long keyId = readVarint(frame);
+        String key;
+        if (keyId == 0) {
+          key = readString(frame);
+        } else if (keyId > 0 && keyId < KEYS.length) {
+          key = KEYS[(int) keyId];
+        } else {
+          throw new IllegalArgumentException("Unknown listener event key " + keyId);
+        }
+        event.add(key, readValue(frame));
+      }
+      if (frame.hasRemaining()) {
+        throw new IllegalArgumentException("Trailing bytes in listener frame");
+      }
+      return event;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated listener frame", e);
+    }
+  }
+
+  /**
+   * Encodes an event the way the listener does.
+   *
+   * @param event event to encode
+   * @return the binary frame body
+   */
+  public static byte[] encode(JsonObject event) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+    JsonElement type = event.get("type");
+    Integer typeTag =
+        type != null && type.isJsonPrimitive() ? TYPE_TAGS.get(type.getAsString()) : null;
+    out.write(typeTag == null ? 0 : typeTag);
+    int fieldCount = event.size() - (typeTag == null ? 0 : 1);
+    writeVarint(out, fieldCount);
+    for (Map.Entry<String, JsonElement> entry : event.entrySet()) {
+      if (typeTag != null && entry.getKey().equals("type")) {
+        continue;
+      }
+      Integer keyId = KEY_IDS.get(entry.getKey());
+      writeVarint(out, keyId == null ? 0 : keyId);
+      if (keyId == null) {
+        writeString(out, entry.getKey());
+      }
+      writeValue(out, entry.getValue());
+    }
+    return out.toByteArray();
+  }
+
+  private static JsonElement readValue(ByteBuffer frame) {
+    int valueTag = Byte.toUnsignedInt(frame.get());
+    return switch (valueTag) {
+      case VALUE_STRING -> new JsonPrimitive(readString(frame));
+      case VALUE_INTEGER -> {
+        long zigzag = readVarint(frame);
+        yield new JsonPrimitive((zigzag >>> 1) ^ -(zigzag & 1));
+      }
+      case VALUE_DOUBLE -> new JsonPrimitive(frame.getDouble());
+      case VALUE_TRUE -> new JsonPrimitive(true);
+      case VALUE_FALSE -> new JsonPrimitive(false);
+      case VALUE_NULL -> JsonNull.INSTANCE;
+      case VALUE_JSON -> {
+        try {
+          yield JsonParser.parseString(readString(frame));
+        } catch (JsonParseException e) {
+          throw new IllegalArgumentException("Malformed JSON value in listener frame", e);
+        }
+      }
+      default -> throw new IllegalArgumentException("Unknown listener value type " + valueTag);
+    };
+  }
+
+  private static void writeValue(ByteArrayOutputStream out, JsonElement value) {
+    if (value == null || value.isJsonNull()) {
+      out.write(VALUE_NULL);
+      return;
+    }
+    if (!value.isJsonPrimitive()) {
+      out.write(VALUE_JSON);
+      writeString(out, value.toString());
+      return;
+    }
+    JsonPrimitive primitive = value.getAsJsonPrimitive();
+    if (primitive.isBoolean()) {
+      out.write(primitive.getAsBoolean() ? VALUE_TRUE : VALUE_FALSE);
+    } else if (primitive.isString()) {
+      out.write(VALUE_STRING);
+      writeString(out, primitive.getAsString());
+    } else if (isIntegral(primitive)) {
+      long number = primitive.getAsLong();
+      out.write(VALUE_INTEGER);
+      writeVarint(out, (number << 1) ^ (number >> 63));
+    } else {
+      out.write(VALUE_DOUBLE);
+      long bits = Double.doubleToLongBits(primitive.getAsDouble());
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        out.write((int) (bits >>> shift));
+      }
+    }
+  }
+
+  private static boolean isIntegral(JsonPrimitive number) {
+    String text = number.getAsString();
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if ((c < '0' || c > '9') && !(i == 0 && c == '-')) {
+        return false;
+      }
+    }
+    // Longer values may not fit a long; 18 digits always do.
+    return text.length() <= 18;
+  }
+
+  private static String readString(ByteBuffer frame) {
+    long length = readVarint(frame);
+    if (length < 0 || length > frame.remaining()) {
+      throw new IllegalArgumentException("String runs past the end of the listener frame");
+    }
+    int size = (int) length;
+    String value;
+    if (frame.hasArray()) {
+      value =
+          new String(
+              frame.array(), frame.arrayOffset() + frame.position(), size, StandardCharsets.UTF_8);
+      frame.position(frame.position() + size);
+    } else {
+      byte[] bytes = new byte[size];
+      frame.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return value;
+  }
+
+  private static void writeString(ByteArrayOutputStream out, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarint(out, bytes.length);
+    out.write(bytes, 0, bytes.length);
+  }
+
+  private static long readVarint(ByteBuffer frame) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = Byte.toUnsignedInt(frame.get());
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Varint too long in listener frame");
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static Map<String, Integer> indexOf(String[] names) {
+    Map<String, Integer> index = new HashMap<>();
+    for (int i = 1; i < names.length; i++) {
+      index.put(names[i], i);
+    }
+    return index;
+  }
+}
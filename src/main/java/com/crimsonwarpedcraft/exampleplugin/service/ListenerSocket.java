@@ -0,0 +1,185 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unix domain socket between the plugin and one local listener process.
+ *
+ * <p>The plugin binds the socket and the listener connects to it. Both directions carry frames of
+ * a 4-byte big-endian length followed by that many bytes of UTF-8 JSON: events from the listener,
+ * control commands to it. Event frames may instead use the {@link ListenerFrameCodec} encoding
+ * once negotiated. Only one connection is accepted. Closing the socket unblocks a pending
+ * {@link #accept()} or {@link #readFrame()} and removes the socket file.
+ *
+ * <p>{@link #readFrame()} must only be called from one thread; {@link #writeFrame} may be called
+ * from any thread.
+ */
+public final class ListenerSocket implements AutoCloseable {
+
+  /** Largest frame accepted in either direction, matching the listener's limit. */
+  public static final int MAX_FRAME_BYTES = 1 << 20;
+
+  private final Path path;
+  private final ServerSocketChannel server;
+  private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+  private final Object writeLock = new Object();
+  private ByteBuffer body = ByteBuffer.allocate(4096);
+  private volatile SocketChannel channel;
+
+  private ListenerSocket(Path path, ServerSocketChannel server) {
+    this.path = path;
+    this.server = server;
+  }
+
+  /**
+   * Binds a new socket at {@code path}, replacing a stale socket file left by a previous run.
+   *
+   * @param path socket file to create
+   * @return the bound socket
+   * @throws IOException if the socket cannot be bound, e.g. because the path is too long
+   */
+  public static ListenerSocket bind(Path path) throws IOException {
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    Files.deleteIfExists(path);
+    ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    try {
+      server.bind(UnixDomainSocketAddress.of(path));
+    } catch (IOException | RuntimeException e) {
+      server.close();
+      throw e;
+    }
+    return new ListenerSocket(path, server);
+  }
+
+  /** Returns the socket file the listener should connect to. */
+  public Path path() {
+    return path;
+  }
+
+  /**
+   * Blocks until the listener connects.
+   *
+   * @throws IOException if the socket was closed while waiting
+   */
+  public void accept() throws IOException {
+    channel = server.accept();
+  }
+
+  /** Returns {@code true} once the listener has connected. */
+  public boolean isConnected() {
+    SocketChannel current = channel;
+    return current != null && current.isOpen();
+  }
+
+  /**
+   * Reads the next frame as text.
+   *
+   * @return the frame text, or {@code null} if the listener closed the connection between frames
+   * @throws IOException if the connection fails, closes mid-frame or a frame is too large
+   */
+  public String readFrame() throws IOException {
+    ByteBuffer frame = readFrameBytes();
+    return frame == null
+        ? null
+        : new String(frame.array(), 0, frame.remaining(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads the next frame without decoding it.
+   *
+   * @return the frame body, valid until the next read, or {@code null} if the listener closed the
+   *     connection between frames
+   * @throws IOException if the connection fails, closes mid-frame or a frame is too large
+   */
+  public ByteBuffer readFrameBytes() throws IOException {
+    SocketChannel current = channel;
+    if (current == null) {
+      throw new IllegalStateException("Listener has not connected");
+    }
+    header.clear();
+    if (!readFully(current, header, true)) {
+      return null;
+    }
+    int length = header.getInt(0);
+    if (length < 0 || length > MAX_FRAME_BYTES) {
+      throw new IOException("Invalid listener frame length " + length);
+    }
+    if (body.capacity() < length) {
+      body = ByteBuffer.allocate(Math.max(length, body.capacity() * 2));
+    }
+    body.clear().limit(length);
+    readFully(current, body, false);
+    return body.flip();
+  }
+
+  /**
+   * Writes one frame.
+   *
+   * @param text frame text
+   * @return {@code false} if the listener is not connected or the write failed
+   */
+  public boolean writeFrame(String text) {
+    SocketChannel current = channel;
+    if (current == null) {
+      return false;
+    }
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+    frame.putInt(bytes.length).put(bytes).flip();
+    synchronized (writeLock) {
+      try {
+        while (frame.hasRemaining()) {
+          current.write(frame);
+        }
+        return true;
+      } catch (IOException e) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Fills {@code buffer} from {@code source}.
+   *
+   * @return {@code false} if the stream ended before the first byte and {@code endAllowed} is set
+   */
+  private static boolean readFully(SocketChannel source, ByteBuffer buffer, boolean endAllowed)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (source.read(buffer) < 0) {
+        if (endAllowed && buffer.position() == 0) {
+          return false;
+        }
+        throw new EOFException("Listener closed the socket mid-frame");
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    try {
+      SocketChannel current = channel;
+      if (current != null) {
+        current.close();
+      }
+      server.close();
+    } catch (IOException ignored) {
+      // Closing only releases resources; there is nothing left to flush.
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException ignored) {
+      // A stale socket file is replaced by the next bind.
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Compiled MiniMessage templates for player-facing messages.
+ *
+ * <p>Components define each message once with a built-in default and its placeholder names. The
+ * text can be overridden under the {@code messages} section of {@code config.yml}; every template
+ * is compiled when it is defined and again on each {@link #load}, so sending a message never
+ * parses MiniMessage. A configured template that fails to compile falls back to its default.
+ */
+public final class MessageRegistry {
+
+  private final Logger logger;
+  private final MiniMessage miniMessage = MiniMessage.miniMessage();
+  private final Map<String, Definition> definitions = new LinkedHashMap<>();
+  private final Map<String, MessageTemplate> templates = new HashMap<>();
+  private ConfigurationSection overrides;
+
+  /**
+   * Creates an empty registry.
+   *
+   * @param logger logger for templates that fail to compile
+   */
+  public MessageRegistry(Logger logger) {
+    this.logger = Objects.requireNonNull(logger, "logger");
+  }
+
+  /**
+   * Defines a message and compiles it against the current configuration.
+   *
+   * @param key configuration path below {@code messages}, e.g. {@code night-punish.started}
+   * @param defaultSource MiniMessage text used when the configuration has no override
+   * @param slots placeholder names, in the order values are passed to {@link #render}
+   */
+  public synchronized void define(String key, String defaultSource, String... slots) {
+    Definition definition = new Definition(defaultSource, slots.clone());
+    definitions.put(key, definition);
+    templates.put(key, compile(key, definition));
+  }
+
+  /**
+   * Recompiles every defined message from {@code section}.
+   *
+   * @param section the {@code messages} configuration section, or {@code null} to use defaults
+   */
+  public synchronized void load(ConfigurationSection section) {
+    overrides = section;
+    for (Map.Entry<String, Definition> entry : definitions.entrySet()) {
+      templates.put(entry.getKey(), compile(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  /**
+   * Renders a defined message.
+   *
+   * @param key message key passed to {@link #define}
+   * @param values one value per slot, in slot order
+   * @return the rendered message
+   * @throws IllegalArgumentException if {@code key} was never defined
+   */
+  public Component render(String key, ComponentLike... values) {
+    MessageTemplate template;
+    synchronized (this) {
+      template = templates.get(key);
+    }
+    if (template == null) {
+      throw new IllegalArgumentException("Unknown message " + key);
+    }
+    return template.render(values);
+  }
+
+  private MessageTemplate compile(String key, Definition definition) {
+    String configured = overrides == null ? null : overrides.getString(key);
+    if (configured != null) {
+      try {
+        return MessageTemplate.compile(miniMessage, configured, definition.slots());
+      } catch (RuntimeException ex) {
+        logger.log(
+            Level.WARNING, "Invalid message template messages." + key + "; using the default.", ex);
+      }
+    }
+    return MessageTemplate.compile(miniMessage, definition.defaultSource(), definition.slots());
+  }
+
+  private record Definition(String defaultSource, String[] slots) {}
+}
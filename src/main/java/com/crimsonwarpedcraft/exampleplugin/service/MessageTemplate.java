@@ -0,0 +1,98 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+/**
+ * A MiniMessage template parsed once, with its named placeholders left as slots.
+ *
+ * <p>Compiling resolves each {@code <slot>} tag to a marker component, so the parsed tree keeps
+ * the styles around it. Rendering swaps the markers for the supplied values and copies only the
+ * nodes above them; templates without slots return the same component every time. Slots are
+ * filled in text content only, not inside hover or click arguments.
+ */
+public final class MessageTemplate {
+
+  private static final String SLOT_KEY_PREFIX = "streambridge.slot.";
+
+  private final String source;
+  private final List<String> slots;
+  private final Component compiled;
+
+  private MessageTemplate(String source, List<String> slots, Component compiled) {
+    this.source = source;
+    this.slots = slots;
+    this.compiled = compiled;
+  }
+
+  /**
+   * Parses a template.
+   *
+   * @param miniMessage parser to use
+   * @param source MiniMessage source
+   * @param slots placeholder names, in the order values are passed to {@link #render}
+   * @return the compiled template
+   */
+  public static MessageTemplate compile(MiniMessage miniMessage, String source, String... slots) {
+    Objects.requireNonNull(source, "source");
+    List<TagResolver> resolvers = new ArrayList<>(slots.length);
+    for (int i = 0; i < slots.length; i++) {
+      resolvers.add(
+          TagResolver.resolver(
+              slots[i], Tag.selfClosingInserting(Component.translatable(SLOT_KEY_PREFIX + i))));
+    }
+    return new MessageTemplate(
+        source, List.of(slots), miniMessage.deserialize(source, TagResolver.resolver(resolvers)));
+  }
+
+  /** Returns the MiniMessage source the template was compiled from. */
+  public String source() {
+    return source;
+  }
+
+  /** Returns the placeholder names in slot order. */
+  public List<String> slots() {
+    return slots;
+  }
+
+  /**
+   * Renders the template.
+   *
+   * @param values one value per slot, in slot order; missing values render as empty
+   * @return the rendered component
+   */
+  public Component render(ComponentLike... values) {
+    return slots.isEmpty() ? compiled : fill(compiled, values);
+  }
+
+  private static Component fill(Component component, ComponentLike[] values) {
+    if (component instanceof TranslatableComponent marker
+        && marker.key().startsWith(SLOT_KEY_PREFIX)) {
+      int index = Integer.parseInt(marker.key().substring(SLOT_KEY_PREFIX.length()));
+      return index < values.length && values[index] != null
+          ? values[index].asComponent()
+          : Component.empty();
+    }
+
+    List<Component> children = component.children();
+    List<Component> filled = null;
+    for (int i = 0; i < children.size(); i++) {
+      Component child = children.get(i);
+      Component replaced = fill(child, values);
+      if (replaced != child) {
+        if (filled == null) {
+          filled = new ArrayList<>(children);
+        }
+        filled.set(i, replaced);
+      }
+    }
+    return filled == null ? component : component.children(filled);
+  }
+}
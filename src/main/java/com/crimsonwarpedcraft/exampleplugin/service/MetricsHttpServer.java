@@ -0,0 +1,122 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves {@link PluginMetrics} in the Prometheus text format on the loopback interface.
+ *
+ * <p>Requests are handled on a dedicated daemon thread and rendered from a
+ * {@link PluginMetrics#snapshot()}, so scrapes never wait on the server thread.
+ */
+public class MetricsHttpServer {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final PluginMetrics metrics;
+  private final Logger logger;
+  private HttpServer server;
+  private ExecutorService executor;
+
+  /**
+   * Creates a new metrics endpoint.
+   *
+   * @param metrics the registry to expose
+   * @param logger logger used for lifecycle messages
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "The registry is shared with the plugin that records into it.")
+  public MetricsHttpServer(PluginMetrics metrics, Logger logger) {
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+    this.logger = Objects.requireNonNull(logger, "logger");
+  }
+
+  /**
+   * Binds the endpoint to {@code 127.0.0.1} on the supplied port.
+   *
+   * @param port TCP port to listen on
+   * @param path request path that serves the metrics, e.g. {@code /metrics}
+   */
+  public synchronized void start(int port, String path) {
+    stop();
+
+    String contextPath = path == null || path.isBlank() ? "/metrics" : path.trim();
+    if (!contextPath.startsWith("/")) {
+      contextPath = "/" + contextPath;
+    }
+
+    InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    try {
+      HttpServer created = HttpServer.create(address, 0);
+      created.createContext(contextPath, this::handleScrape);
+      executor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "StreamBridge-Metrics");
+                thread.setDaemon(true);
+                return thread;
+              });
+      created.setExecutor(executor);
+      created.start();
+      server = created;
+      logger.info(
+          "Metrics endpoint listening on http://"
+              + address.getAddress().getHostAddress()
+              + ":"
+              + port
+              + contextPath);
+    } catch (IOException ex) {
+      logger.log(Level.WARNING, "Failed to start metrics endpoint on port " + port, ex);
+      stop();
+    }
+  }
+
+  /** Stops the endpoint if it is running. */
+  public synchronized void stop() {
+    if (server != null) {
+      server.stop(0);
+      server = null;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  private void handleScrape(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      String method = exchange.getRequestMethod();
+      if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method)) {
+        exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+
+      byte[] body = metrics.snapshot().toPrometheusText().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.getResponseHeaders().set("Cache-Control", "no-store");
+      if ("HEAD".equalsIgnoreCase(method)) {
+        exchange.sendResponseHeaders(200, -1);
+        return;
+      }
+      exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+      if (body.length > 0) {
+        try (OutputStream output = exchange.getResponseBody()) {
+          output.write(body);
+        }
+      }
+    }
+  }
+}
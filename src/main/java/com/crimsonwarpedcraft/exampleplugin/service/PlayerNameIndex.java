@@ -0,0 +1,249 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Plugin-wide index of player names for tab completion and exact name lookups.
+ *
+ * <p>Names are kept lower-cased in a sorted array alongside their display spelling and UUID, so a
+ * completion is a binary search for the prefix followed by a scan over the matching range only.
+ * Online players are added and removed on join and quit; components can also retain offline
+ * players they still refer to, such as the targets of a running punishment. An entry stays in the
+ * index while it is online or retained.
+ *
+ * <p>The index is not thread-safe and is meant to be used from the server thread only.
+ */
+public final class PlayerNameIndex implements Listener {
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final byte ONLINE = 1;
+  private static final byte RETAINED = 2;
+
+  private final Map<UUID, String> keysById = new HashMap<>();
+  private String[] keys = new String[INITIAL_CAPACITY];
+  private String[] names = new String[INITIAL_CAPACITY];
+  private UUID[] ids = new UUID[INITIAL_CAPACITY];
+  private byte[] flags = new byte[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Adds players who were already online when the index was created, e.g. after a reload.
+   *
+   * @param players currently online players
+   */
+  public void seed(Collection<? extends Player> players) {
+    for (Player player : players) {
+      mark(player.getUniqueId(), player.getName(), ONLINE);
+    }
+  }
+
+  /** Indexes a player as they join. */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    Player player = event.getPlayer();
+    mark(player.getUniqueId(), player.getName(), ONLINE);
+  }
+
+  /** Drops a player from the online set as they leave. */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    unmark(event.getPlayer().getUniqueId(), ONLINE);
+  }
+
+  /**
+   * Keeps a player's name in the index while they are offline.
+   *
+   * @param id player UUID
+   * @param name last known name
+   */
+  public void retain(UUID id, String name) {
+    mark(id, name, RETAINED);
+  }
+
+  /**
+   * Releases a name kept by {@link #retain}. Online players stay indexed until they quit.
+   *
+   * @param id player UUID
+   */
+  public void release(UUID id) {
+    unmark(id, RETAINED);
+  }
+
+  /**
+   * Returns the names of online players starting with {@code prefix}, ignoring case, in
+   * alphabetical order.
+   *
+   * @param prefix typed prefix
+   */
+  public List<String> complete(String prefix) {
+    return complete(prefix, null);
+  }
+
+  /**
+   * Returns the names starting with {@code prefix}, ignoring case, in alphabetical order.
+   *
+   * @param prefix typed prefix
+   * @param among if non-null, only online or retained players in this set are returned; if null,
+   *     only online players are returned
+   */
+  public List<String> complete(String prefix, Set<UUID> among) {
+    String key = prefix.toLowerCase(Locale.ROOT);
+    List<String> matches = new ArrayList<>();
+    String previous = null;
+    for (int i = lowerBound(key); i < size && keys[i].startsWith(key); i++) {
+      boolean included = among == null ? (flags[i] & ONLINE) != 0 : among.contains(ids[i]);
+      if (included && !names[i].equals(previous)) {
+        matches.add(names[i]);
+        previous = names[i];
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Looks up a player by their full name, ignoring case, with a binary search.
+   *
+   * @param name exact name to find
+   * @param among if non-null, only online or retained players in this set match; if null, only
+   *     online players match
+   * @return the matching player's UUID, or empty when no such player is indexed
+   */
+  public Optional<UUID> find(String name, Set<UUID> among) {
+    String key = name.toLowerCase(Locale.ROOT);
+    for (int i = lowerBound(key); i < size && keys[i].equals(key); i++) {
+      if (among == null ? (flags[i] & ONLINE) != 0 : among.contains(ids[i])) {
+        return Optional.of(ids[i]);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Returns the number of indexed players. */
+  public int size() {
+    return size;
+  }
+
+  /** Removes every entry. */
+  public void clear() {
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(names, 0, size, null);
+    Arrays.fill(ids, 0, size, null);
+    keysById.clear();
+    size = 0;
+  }
+
+  private void mark(UUID id, String name, byte flag) {
+    String key = name.toLowerCase(Locale.ROOT);
+    String existing = keysById.get(id);
+    byte carried = 0;
+    if (existing != null) {
+      int slot = indexOf(existing, id);
+      if (existing.equals(key)) {
+        names[slot] = name;
+        flags[slot] |= flag;
+        return;
+      }
+      // Renamed: move the entry to its new position.
+      carried = flags[slot];
+      removeAt(slot);
+    }
+    insert(key, name, id, (byte) (carried | flag));
+  }
+
+  private void unmark(UUID id, byte flag) {
+    String key = keysById.get(id);
+    if (key == null) {
+      return;
+    }
+    int slot = indexOf(key, id);
+    flags[slot] &= (byte) ~flag;
+    if (flags[slot] == 0) {
+      removeAt(slot);
+      keysById.remove(id);
+    }
+  }
+
+  private void insert(String key, String name, UUID id, byte flag) {
+    if (size == keys.length) {
+      int capacity = size * 2;
+      keys = Arrays.copyOf(keys, capacity);
+      names = Arrays.copyOf(names, capacity);
+      ids = Arrays.copyOf(ids, capacity);
+      flags = Arrays.copyOf(flags, capacity);
+    }
+    int slot = -indexOf(key, id) - 1;
+    int moved = size - slot;
+    System.arraycopy(keys, slot, keys, slot + 1, moved);
+    System.arraycopy(names, slot, names, slot + 1, moved);
+    System.arraycopy(ids, slot, ids, slot + 1, moved);
+    System.arraycopy(flags, slot, flags, slot + 1, moved);
+    keys[slot] = key;
+    names[slot] = name;
+    ids[slot] = id;
+    flags[slot] = flag;
+    keysById.put(id, key);
+    size++;
+  }
+
+  private void removeAt(int slot) {
+    int moved = size - slot - 1;
+    System.arraycopy(keys, slot + 1, keys, slot, moved);
+    System.arraycopy(names, slot + 1, names, slot, moved);
+    System.arraycopy(ids, slot + 1, ids, slot, moved);
+    System.arraycopy(flags, slot + 1, flags, slot, moved);
+    size--;
+    keys[size] = null;
+    names[size] = null;
+    ids[size] = null;
+  }
+
+  /** Binary search ordered by key, then UUID; returns {@code -(insertion point) - 1} if absent. */
+  private int indexOf(String key, UUID id) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int order = keys[mid].compareTo(key);
+      if (order == 0) {
+        order = ids[mid].compareTo(id);
+      }
+      if (order < 0) {
+        low = mid + 1;
+      } else if (order > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -low - 1;
+  }
+
+  private int lowerBound(String key) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (keys[mid].compareTo(key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
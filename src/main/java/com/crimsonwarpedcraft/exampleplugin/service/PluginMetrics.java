@@ -0,0 +1,280 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free metric registry shared by the bridge, effect and world reset code paths.
+ *
+ * <p>Writers only touch {@link LongAdder}s and atomics, so recording a sample from the main thread
+ * never blocks. Readers take a {@link #snapshot()} and render from that copy.
+ */
+public final class PluginMetrics {
+
+  /** Metric families exported by the plugin. */
+  public enum Family {
+    LISTENER_LINES(
+        "streambridge_listener_lines_total",
+        Type.COUNTER,
+        "Lines received from listener processes or HTTP polling."),
+    LISTENER_PAYLOADS(
+        "streambridge_listener_payloads_total",
+        Type.COUNTER,
+        "Listener payloads handled, by payload type."),
+    LISTENER_STARTS(
+        "streambridge_listener_starts_total",
+        Type.COUNTER,
+        "Listener process or polling starts."),
+    LISTENER_STOPS(
+        "streambridge_listener_stops_total",
+        Type.COUNTER,
+        "Listener process or polling stops."),
+    LISTENER_RUNNING(
+        "streambridge_listener_running",
+        Type.GAUGE,
+        "Whether the listener for a platform is currently running."),
+    POLL_REQUESTS(
+        "streambridge_poll_requests_total",
+        Type.COUNTER,
+        "HTTP polls against external listeners, by outcome."),
+    POLL_DURATION(
+        "streambridge_poll_duration_seconds",
+        Type.SUMMARY,
+        "Time spent waiting for external listener poll responses."),
+    EFFECT_TRIGGERS(
+        "streambridge_effect_triggers_total",
+        Type.COUNTER,
+        "Stream effects triggered in game, by effect."),
+    TNT_SPAWNED(
+        "streambridge_tnt_spawned_total",
+        Type.COUNTER,
+        "Primed TNT entities spawned by stream effects."),
+    WORLD_RESETS(
+        "streambridge_world_resets_total",
+        Type.COUNTER,
+        "World resets attempted, by world and outcome."),
+    WORLD_RESET_DURATION(
+        "streambridge_world_reset_duration_seconds",
+        Type.SUMMARY,
+        "Wall-clock time taken to reset a world."),
+    WORLD_RESET_COPY_BYTES(
+        "streambridge_world_reset_copied_bytes_total",
+        Type.COUNTER,
+        "Template bytes copied into target worlds."),
+    WORLD_RESET_COPY_DURATION(
+        "streambridge_world_reset_copy_duration_seconds",
+        Type.SUMMARY,
+        "Time spent copying a template into a target world."),
+    WORLD_RESET_LAST_SUCCESS(
+        "streambridge_world_reset_last_success_timestamp_seconds",
+        Type.GAUGE,
+        "Unix time of the last successful reset of a world.");
+
+    private final String metricName;
+    private final Type type;
+    private final String help;
+
+    Family(String metricName, Type type, String help) {
+      this.metricName = metricName;
+      this.type = type;
+      this.help = help;
+    }
+
+    /** Returns the exported metric name. */
+    public String metricName() {
+      return metricName;
+    }
+
+    /** Returns the metric type. */
+    public Type type() {
+      return type;
+    }
+
+    /** Returns the help text shown to scrapers. */
+    public String help() {
+      return help;
+    }
+  }
+
+  /** Supported metric types. */
+  public enum Type {
+    COUNTER,
+    GAUGE,
+    SUMMARY;
+
+    /** Returns the type name used in the text exposition format. */
+    public String exposition() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final Map<Series, LongAdder> counters = new ConcurrentHashMap<>();
+  private final Map<Series, AtomicLong> gauges = new ConcurrentHashMap<>();
+  private final Map<Series, SummaryCell> summaries = new ConcurrentHashMap<>();
+
+  /**
+   * Adds {@code delta} to a counter series.
+   *
+   * @param family the counter family
+   * @param delta amount to add, ignored when not positive
+   * @param labels alternating label names and values
+   */
+  public void increment(Family family, long delta, String... labels) {
+    if (delta <= 0) {
+      return;
+    }
+    counters.computeIfAbsent(Series.of(family, labels), ignored -> new LongAdder()).add(delta);
+  }
+
+  /**
+   * Sets a gauge series to the supplied value.
+   *
+   * @param family the gauge family
+   * @param value the new value
+   * @param labels alternating label names and values
+   */
+  public void setGauge(Family family, double value, String... labels) {
+    gauges
+        .computeIfAbsent(Series.of(family, labels), ignored -> new AtomicLong())
+        .set(Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Records a single duration observation for a summary series.
+   *
+   * @param family the summary family
+   * @param nanos elapsed time in nanoseconds
+   * @param labels alternating label names and values
+   */
+  public void observeNanos(Family family, long nanos, String... labels) {
+    SummaryCell cell =
+        summaries.computeIfAbsent(Series.of(family, labels), ignored -> new SummaryCell());
+    cell.count.increment();
+    cell.sumNanos.add(Math.max(0L, nanos));
+  }
+
+  /** Copies every series into an immutable, sorted snapshot. */
+  public Snapshot snapshot() {
+    List<Sample> samples = new ArrayList<>();
+    counters.forEach((series, adder) -> samples.add(new Sample(series, "", adder.sum())));
+    gauges.forEach(
+        (series, bits) ->
+            samples.add(new Sample(series, "", Double.longBitsToDouble(bits.get()))));
+    summaries.forEach(
+        (series, cell) -> {
+          samples.add(new Sample(series, "_count", cell.count.sum()));
+          samples.add(new Sample(series, "_sum", cell.sumNanos.sum() / 1_000_000_000.0D));
+        });
+    samples.sort(Sample.ORDER);
+    return new Snapshot(samples);
+  }
+
+  /** Immutable point-in-time copy of every metric series. */
+  public record Snapshot(List<Sample> samples) {
+
+    /** Copies the supplied samples so the snapshot stays immutable. */
+    public Snapshot {
+      samples = List.copyOf(samples);
+    }
+
+    /** Renders the snapshot in the Prometheus text exposition format. */
+    public String toPrometheusText() {
+      StringBuilder builder = new StringBuilder(samples.size() * 64);
+      Family currentFamily = null;
+      for (Sample sample : samples) {
+        Family family = sample.series().family();
+        if (family != currentFamily) {
+          currentFamily = family;
+          builder.append("# HELP ").append(family.metricName()).append(' ')
+              .append(family.help()).append('\n');
+          builder.append("# TYPE ").append(family.metricName()).append(' ')
+              .append(family.type().exposition()).append('\n');
+        }
+        builder.append(family.metricName()).append(sample.suffix());
+        sample.series().appendLabels(builder);
+        builder.append(' ').append(formatValue(sample.value())).append('\n');
+      }
+      return builder.toString();
+    }
+
+    private static String formatValue(double value) {
+      if (value == Math.rint(value) && !Double.isInfinite(value)) {
+        return Long.toString((long) value);
+      }
+      return Double.toString(value);
+    }
+  }
+
+  /** Single rendered value belonging to a series. */
+  public record Sample(Series series, String suffix, double value) {
+    private static final Comparator<Sample> ORDER =
+        Comparator.comparing((Sample sample) -> sample.series().family())
+            .thenComparing(sample -> sample.series().labelKey())
+            .thenComparing(Sample::suffix);
+  }
+
+  /** Identifies a metric family together with its label values. */
+  public record Series(Family family, List<String> labels) {
+
+    /** Ensures required fields are non-null. */
+    public Series {
+      Objects.requireNonNull(family, "family");
+      labels = List.copyOf(labels);
+    }
+
+    static Series of(Family family, String... labels) {
+      if (labels.length % 2 != 0) {
+        throw new IllegalArgumentException("Labels must be supplied as name/value pairs");
+      }
+      List<String> normalized = new ArrayList<>(labels.length);
+      for (String label : labels) {
+        normalized.add(label == null ? "" : label);
+      }
+      return new Series(family, normalized);
+    }
+
+    String labelKey() {
+      return String.join("\u0000", labels);
+    }
+
+    void appendLabels(StringBuilder builder) {
+      if (labels.isEmpty()) {
+        return;
+      }
+      builder.append('{');
+      for (int i = 0; i < labels.size(); i += 2) {
+        if (i > 0) {
+          builder.append(',');
+        }
+        builder.append(labels.get(i)).append("=\"");
+        escapeLabelValue(builder, labels.get(i + 1));
+        builder.append('"');
+      }
+      builder.append('}');
+    }
+
+    private static void escapeLabelValue(StringBuilder builder, String value) {
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        switch (c) {
+          case '\\' -> builder.append("\\\\");
+          case '"' -> builder.append("\\\"");
+          case '\n' -> builder.append("\\n");
+          default -> builder.append(c);
+        }
+      }
+    }
+  }
+
+  private static final class SummaryCell {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+  }
+}
@@ -0,0 +1,435 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Crash-safe store for night punishments and the daylight-cycle gamerules they override.
+ *
+ * <p>State lives in a compact binary snapshot plus an append-only journal of changes. Callers on
+ * the server thread only enqueue records; a single writer thread appends them to the journal,
+ * flushing and syncing it to disk once per batch, and folds them into its own copy of the state.
+ * When the journal grows past a threshold the writer syncs a fresh snapshot, renames it into place
+ * and only then deletes the journal. A torn record at the end of the journal, left by a crash
+ * mid-write, is ignored on recovery.
+ *
+ * <p>{@link #recover()} runs on the writer thread as well, so reading a large state never blocks
+ * the caller.
+ */
+public final class PunishmentJournal implements AutoCloseable {
+
+  private static final int SNAPSHOT_MAGIC = 0x4E505331;
+  private static final String SNAPSHOT_FILE = "state.bin";
+  private static final String JOURNAL_FILE = "journal.bin";
+  private static final int COMPACT_AFTER_RECORDS = 512;
+  private static final int MAX_RECORD_BYTES = 1 << 16;
+  private static final long MILLIS_PER_TICK = 50L;
+  private static final long CLOSE_TIMEOUT_SECONDS = 5L;
+
+  private static final byte PUNISH = 1;
+  private static final byte CANCEL = 2;
+  private static final byte LOCK = 3;
+  private static final byte UNLOCK = 4;
+
+  private final Path directory;
+  private final Logger logger;
+  private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+  private final Thread writer;
+  private final Map<UUID, Punishment> punishments = new LinkedHashMap<>();
+  private final Map<String, Boolean> lockedWorlds = new LinkedHashMap<>();
+  private FileChannel journalChannel;
+  private DataOutputStream journal;
+  private int journalRecords;
+  private volatile boolean closed;
+
+  /**
+   * Creates a journal and starts its writer thread.
+   *
+   * @param directory directory holding the snapshot and journal
+   * @param logger logger for write failures
+   */
+  public PunishmentJournal(Path directory, Logger logger) {
+    this.directory = Objects.requireNonNull(directory, "directory");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.writer = new Thread(this::runWriter, "StreamBridge-PunishmentJournal");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Loads the persisted state on the writer thread. Records enqueued before this call are applied
+   * on top of the loaded state.
+   *
+   * @return the recovered state
+   */
+  public CompletableFuture<State> recover() {
+    CompletableFuture<State> result = new CompletableFuture<>();
+    submit(
+        () -> {
+          try {
+            closeJournal();
+            punishments.clear();
+            lockedWorlds.clear();
+            readSnapshot();
+            replayJournal();
+            compact();
+            result.complete(
+                new State(List.copyOf(punishments.values()), Map.copyOf(lockedWorlds)));
+          } catch (IOException | RuntimeException ex) {
+            result.completeExceptionally(ex);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Records a new or replaced punishment.
+   *
+   * @param punishment punishment to persist
+   */
+  public void recordPunishment(Punishment punishment) {
+    submit(() -> append(PUNISH, out -> writePunishment(out, punishment)));
+  }
+
+  /**
+   * Records that a punishment ended.
+   *
+   * @param target punished player
+   */
+  public void recordCancel(UUID target) {
+    submit(() -> append(CANCEL, out -> writeUuid(out, target)));
+  }
+
+  /**
+   * Records that a world's daylight cycle was frozen.
+   *
+   * @param world world name
+   * @param originalDaylightCycle the gamerule value to restore
+   */
+  public void recordLock(String world, boolean originalDaylightCycle) {
+    submit(
+        () ->
+            append(
+                LOCK,
+                out -> {
+                  out.writeUTF(world);
+                  out.writeBoolean(originalDaylightCycle);
+                }));
+  }
+
+  /**
+   * Records that a world's daylight cycle was restored.
+   *
+   * @param world world name
+   */
+  public void recordUnlock(String world) {
+    submit(() -> append(UNLOCK, out -> out.writeUTF(world)));
+  }
+
+  /** Flushes pending records and stops the writer thread. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    queue.add(this::closeJournal);
+    queue.add(() -> Thread.currentThread().interrupt());
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void submit(Runnable task) {
+    if (!closed) {
+      queue.add(task);
+    }
+  }
+
+  private void runWriter() {
+    List<Runnable> batch = new ArrayList<>();
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException ex) {
+        break;
+      }
+      queue.drainTo(batch);
+      for (Runnable task : batch) {
+        task.run();
+      }
+      batch.clear();
+      try {
+        if (journal != null) {
+          journal.flush();
+          journalChannel.force(false);
+        }
+        if (journalRecords >= COMPACT_AFTER_RECORDS) {
+          compact();
+        }
+      } catch (IOException ex) {
+        logger.log(Level.WARNING, "Failed to flush the night punishment journal.", ex);
+      }
+    }
+    closeJournal();
+  }
+
+  private void append(byte type, RecordWriter body) {
+    try {
+      byte[] payload = encode(type, body);
+      apply(new DataInputStream(new ByteArrayInputStream(payload)));
+      if (journal == null) {
+        Files.createDirectories(directory);
+        journalChannel =
+            FileChannel.open(
+                directory.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        journal =
+            new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(journalChannel)));
+      }
+      journal.writeInt(payload.length);
+      journal.write(payload);
+      journalRecords++;
+    } catch (IOException ex) {
+      logger.log(Level.WARNING, "Failed to append to the night punishment journal.", ex);
+    }
+  }
+
+  private void apply(DataInputStream in) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case PUNISH -> {
+        Punishment punishment = readPunishment(in);
+        punishments.put(punishment.target(), punishment);
+      }
+      case CANCEL -> punishments.remove(readUuid(in));
+      case LOCK -> {
+        String world = in.readUTF();
+        lockedWorlds.putIfAbsent(world, in.readBoolean());
+      }
+      case UNLOCK -> lockedWorlds.remove(in.readUTF());
+      default -> throw new IOException("Unknown journal record type " + type);
+    }
+  }
+
+  private void readSnapshot() throws IOException {
+    try (DataInputStream in = open(directory.resolve(SNAPSHOT_FILE))) {
+      if (in.readInt() != SNAPSHOT_MAGIC) {
+        throw new IOException("Night punishment snapshot has an unknown format.");
+      }
+      int punishmentCount = in.readInt();
+      for (int i = 0; i < punishmentCount; i++) {
+        Punishment punishment = readPunishment(in);
+        punishments.put(punishment.target(), punishment);
+      }
+      int lockCount = in.readInt();
+      for (int i = 0; i < lockCount; i++) {
+        lockedWorlds.put(in.readUTF(), in.readBoolean());
+      }
+    } catch (NoSuchFileException ignored) {
+      // First run: nothing to restore.
+    }
+  }
+
+  private void replayJournal() throws IOException {
+    try (DataInputStream in = open(directory.resolve(JOURNAL_FILE))) {
+      while (true) {
+        byte[] payload;
+        try {
+          int length = in.readInt();
+          if (length <= 0 || length > MAX_RECORD_BYTES) {
+            // A length torn by a crash; nothing after it can be trusted.
+            return;
+          }
+          payload = new byte[length];
+          in.readFully(payload);
+        } catch (EOFException ex) {
+          // End of the journal, or a record torn by a crash.
+          return;
+        }
+        apply(new DataInputStream(new ByteArrayInputStream(payload)));
+      }
+    } catch (NoSuchFileException ignored) {
+      // No changes since the last snapshot.
+    }
+  }
+
+  private void compact() throws IOException {
+    closeJournal();
+    Files.createDirectories(directory);
+    Path snapshot = directory.resolve(SNAPSHOT_FILE);
+    Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+    try (FileChannel channel =
+            FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeInt(punishments.size());
+      for (Punishment punishment : punishments.values()) {
+        writePunishment(out, punishment);
+      }
+      out.writeInt(lockedWorlds.size());
+      for (Map.Entry<String, Boolean> entry : lockedWorlds.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeBoolean(entry.getValue());
+      }
+      out.flush();
+      // The snapshot must be on disk before it replaces the old one and the journal goes.
+      channel.force(true);
+    }
+    try {
+      Files.move(
+          temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException ex) {
+      Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+    }
+    syncDirectory();
+    Files.deleteIfExists(directory.resolve(JOURNAL_FILE));
+    journalRecords = 0;
+  }
+
+  /** Makes the snapshot rename durable. Not every platform can sync a directory; skip it there. */
+  private void syncDirectory() {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException ignored) {
+      // Directories cannot be opened for syncing on Windows.
+    }
+  }
+
+  private void closeJournal() {
+    if (journal == null) {
+      return;
+    }
+    try {
+      journal.flush();
+      journalChannel.force(false);
+    } catch (IOException ex) {
+      logger.log(Level.WARNING, "Failed to sync the night punishment journal.", ex);
+    }
+    try {
+      journal.close();
+    } catch (IOException ex) {
+      logger.log(Level.WARNING, "Failed to close the night punishment journal.", ex);
+    }
+    journal = null;
+    journalChannel = null;
+  }
+
+  private static DataInputStream open(Path file) throws IOException {
+    InputStream stream = Files.newInputStream(file);
+    return new DataInputStream(new BufferedInputStream(stream));
+  }
+
+  private static byte[] encode(byte type, RecordWriter body) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(type);
+      body.write(out);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void writePunishment(DataOutputStream out, Punishment punishment)
+      throws IOException {
+    writeUuid(out, punishment.target());
+    out.writeUTF(punishment.targetName());
+    out.writeUTF(punishment.casterName());
+    out.writeLong(punishment.intervalTicks());
+    out.writeLong(punishment.firstDueEpochMillis());
+  }
+
+  private static Punishment readPunishment(DataInputStream in) throws IOException {
+    return new Punishment(readUuid(in), in.readUTF(), in.readUTF(), in.readLong(), in.readLong());
+  }
+
+  private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+    out.writeLong(uuid.getMostSignificantBits());
+    out.writeLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(DataInputStream in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  @FunctionalInterface
+  private interface RecordWriter {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  /**
+   * A persisted punishment.
+   *
+   * @param target punished player
+   * @param targetName last known name of the punished player
+   * @param casterName name of the player who cast it, or an empty string for the console
+   * @param intervalTicks ticks between deaths
+   * @param firstDueEpochMillis wall-clock time of the first death; later deaths follow every
+   *     interval
+   */
+  public record Punishment(
+      UUID target,
+      String targetName,
+      String casterName,
+      long intervalTicks,
+      long firstDueEpochMillis) {
+
+    /**
+     * Returns the ticks until the next death at {@code nowEpochMillis}, counting time the server
+     * was offline as elapsed.
+     *
+     * @param nowEpochMillis current wall-clock time
+     */
+    public long remainingTicks(long nowEpochMillis) {
+      long intervalMillis = intervalTicks * MILLIS_PER_TICK;
+      long elapsed = nowEpochMillis - firstDueEpochMillis;
+      long remainingMillis =
+          elapsed < 0L ? -elapsed : intervalMillis - Math.floorMod(elapsed, intervalMillis);
+      return Math.max(1L, (remainingMillis + MILLIS_PER_TICK - 1L) / MILLIS_PER_TICK);
+    }
+  }
+
+  /**
+   * Recovered state.
+   *
+   * @param punishments punishments that were active
+   * @param lockedWorlds worlds whose daylight cycle was frozen, with the value to restore
+   */
+  public record State(List<Punishment> punishments, Map<String, Boolean> lockedWorlds) {}
+}
@@ -0,0 +1,125 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the set of online players holding each tracked permission, updated from player events
+ * instead of periodic scans.
+ *
+ * <p>A player is checked when they join and when they change worlds, which is where per-world
+ * permissions change, and dropped when they quit. Bukkit has no event for other permission
+ * changes, so callers re-check everyone with {@link #refreshAll} after a reload. The callback runs
+ * whenever a permission gains its first holder or loses its last one.
+ *
+ * <p>The tracker is not thread-safe and is meant to be used from the server thread only.
+ */
+public final class RecipientTracker implements Listener {
+
+  private final Map<String, Set<UUID>> holders = new LinkedHashMap<>();
+  private final BiConsumer<String, Boolean> presenceChanged;
+
+  /**
+   * Creates a tracker.
+   *
+   * @param permissions permissions to track
+   * @param presenceChanged receives a permission and {@code true} when its first holder comes
+   *     online, or {@code false} when its last holder leaves
+   */
+  public RecipientTracker(
+      Collection<String> permissions, BiConsumer<String, Boolean> presenceChanged) {
+    for (String permission : permissions) {
+      holders.put(permission, new HashSet<>());
+    }
+    this.presenceChanged = Objects.requireNonNull(presenceChanged, "presenceChanged");
+  }
+
+  /**
+   * Returns the number of online players holding {@code permission}.
+   *
+   * @param permission tracked permission
+   */
+  public int count(String permission) {
+    Set<UUID> players = holders.get(permission);
+    return players == null ? 0 : players.size();
+  }
+
+  /**
+   * Returns {@code true} if any online player holds {@code permission}.
+   *
+   * @param permission tracked permission
+   */
+  public boolean hasRecipients(String permission) {
+    return count(permission) > 0;
+  }
+
+  /**
+   * Re-checks every online player, e.g. after the plugin or a permissions plugin reloads.
+   *
+   * @param online currently online players
+   */
+  public void refreshAll(Collection<? extends Player> online) {
+    Set<UUID> present = new HashSet<>();
+    for (Player player : online) {
+      present.add(player.getUniqueId());
+      refresh(player);
+    }
+    for (Map.Entry<String, Set<UUID>> entry : holders.entrySet()) {
+      Set<UUID> players = entry.getValue();
+      if (players.retainAll(present) && players.isEmpty()) {
+        presenceChanged.accept(entry.getKey(), false);
+      }
+    }
+  }
+
+  /** Counts a player as they join. */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    refresh(event.getPlayer());
+  }
+
+  /** Re-checks a player whose per-world permissions may have changed. */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+    refresh(event.getPlayer());
+  }
+
+  /** Stops counting a player as they leave. */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    UUID id = event.getPlayer().getUniqueId();
+    for (Map.Entry<String, Set<UUID>> entry : holders.entrySet()) {
+      update(entry.getKey(), entry.getValue(), id, false);
+    }
+  }
+
+  private void refresh(Player player) {
+    UUID id = player.getUniqueId();
+    for (Map.Entry<String, Set<UUID>> entry : holders.entrySet()) {
+      update(entry.getKey(), entry.getValue(), id, player.hasPermission(entry.getKey()));
+    }
+  }
+
+  private void update(String permission, Set<UUID> players, UUID id, boolean holds) {
+    if (holds) {
+      if (players.add(id) && players.size() == 1) {
+        presenceChanged.accept(permission, true);
+      }
+    } else if (players.remove(id) && players.isEmpty()) {
+      presenceChanged.accept(permission, false);
+    }
+  }
+}
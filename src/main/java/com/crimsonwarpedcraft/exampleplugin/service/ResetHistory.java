@@ -0,0 +1,278 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolling history of the most recent world reset routines.
+ *
+ * <p>Each entry records the routine's downtime (evacuation to return), the main-thread time it
+ * consumed, and a per-world breakdown of every phase with its duration, item count and bytes
+ * written. The history is small and kept in memory; {@link #writeTo(Path)} persists it as a
+ * line-based text file so it survives restarts.
+ */
+public final class ResetHistory {
+
+  private static final String FILE_HEADER = "# streambridge reset history v1";
+
+  private final int capacity;
+  private final Deque<Entry> entries = new ArrayDeque<>();
+
+  /**
+   * Creates an empty history.
+   *
+   * @param capacity number of routines to keep
+   */
+  public ResetHistory(int capacity) {
+    this.capacity = Math.max(1, capacity);
+  }
+
+  /**
+   * Adds a routine, evicting the oldest once the history is full.
+   *
+   * @param entry routine to record
+   */
+  public synchronized void add(Entry entry) {
+    entries.addLast(entry);
+    while (entries.size() > capacity) {
+      entries.removeFirst();
+    }
+  }
+
+  /**
+   * Returns up to {@code limit} routines, newest first.
+   *
+   * @param limit maximum number of routines to return
+   */
+  public synchronized List<Entry> recent(int limit) {
+    List<Entry> result = new ArrayList<>(Math.min(Math.max(0, limit), entries.size()));
+    Iterator<Entry> iterator = entries.descendingIterator();
+    while (result.size() < limit && iterator.hasNext()) {
+      result.add(iterator.next());
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the history with the routines stored in {@code file}. A missing file leaves the
+   * history empty.
+   *
+   * @param file history file previously written by {@link #writeTo(Path)}
+   * @throws IOException if the file exists but cannot be read
+   */
+  public synchronized void load(Path file) throws IOException {
+    entries.clear();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      Entry routine = null;
+      WorldEntry world = null;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] parts = line.split("\t");
+        try {
+          switch (parts[0]) {
+            case "R" -> {
+              routine =
+                  new Entry(
+                      Long.parseLong(parts[1]),
+                      Long.parseLong(parts[2]),
+                      Long.parseLong(parts[3]),
+                      new ArrayList<>());
+              world = null;
+              add(routine);
+            }
+            case "W" -> {
+              if (routine != null) {
+                world =
+                    new WorldEntry(
+                        parts[1],
+                        parts[2],
+                        Long.parseLong(parts[3]),
+                        Long.parseLong(parts[4]),
+                        new ArrayList<>());
+                routine.worlds().add(world);
+              }
+            }
+            case "P" -> {
+              if (world != null) {
+                world
+                    .phases()
+                    .add(
+                        new Phase(
+                            parts[1],
+                            Long.parseLong(parts[2]),
+                            Long.parseLong(parts[3]),
+                            Long.parseLong(parts[4])));
+              }
+            }
+            default -> {
+              // Unknown record types are ignored so the format can grow.
+            }
+          }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException ignored) {
+          // Skip malformed rows rather than discarding the whole history.
+        }
+      }
+    } catch (NoSuchFileException ignored) {
+      // First run: nothing to restore.
+    }
+  }
+
+  /**
+   * Writes the history to {@code file}, replacing it atomically where supported.
+   *
+   * @param file destination file
+   * @throws IOException if the history cannot be written
+   */
+  public void writeTo(Path file) throws IOException {
+    List<Entry> snapshot;
+    synchronized (this) {
+      snapshot = new ArrayList<>(entries);
+    }
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+      writer.write(FILE_HEADER);
+      writer.newLine();
+      for (Entry entry : snapshot) {
+        writeRow(
+            writer,
+            "R",
+            entry.startedEpochMillis(),
+            entry.downtimeNanos(),
+            entry.mainThreadNanos());
+        for (WorldEntry world : entry.worlds()) {
+          writeRow(
+              writer,
+              "W",
+              world.world(),
+              world.outcome(),
+              world.totalNanos(),
+              world.mainThreadNanos());
+          for (Phase phase : world.phases()) {
+            writeRow(writer, "P", phase.name(), phase.nanos(), phase.items(), phase.bytes());
+          }
+        }
+      }
+    }
+    try {
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException ex) {
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void writeRow(BufferedWriter writer, Object... fields) throws IOException {
+    for (int i = 0; i < fields.length; i++) {
+      if (i > 0) {
+        writer.write('\t');
+      }
+      writer.write(String.valueOf(fields[i]));
+    }
+    writer.newLine();
+  }
+
+  private static String formatMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+  }
+
+  /**
+   * One reset routine.
+   *
+   * @param startedEpochMillis wall-clock time the routine started
+   * @param downtimeNanos time from the start of evacuation until players were returned
+   * @param mainThreadNanos main-thread time consumed by the routine
+   * @param worlds per-world breakdown; the routine-wide phases are listed under {@code *}
+   */
+  public record Entry(
+      long startedEpochMillis, long downtimeNanos, long mainThreadNanos, List<WorldEntry> worlds) {
+
+    /** Returns a one-line summary of the routine. */
+    public String describe() {
+      return String.format(
+          Locale.ROOT,
+          "downtime %s, main thread %s, %d world(s)",
+          formatMillis(downtimeNanos),
+          formatMillis(mainThreadNanos),
+          worlds.stream().filter(world -> !"*".equals(world.world())).count());
+    }
+  }
+
+  /**
+   * Timings for one world within a routine.
+   *
+   * @param world world name, or {@code *} for routine-wide phases
+   * @param outcome final outcome such as {@code success} or {@code failed}
+   * @param totalNanos wall-clock duration of the world's reset
+   * @param mainThreadNanos main-thread time consumed for this world
+   * @param phases phase breakdown in the order the phases first ran
+   */
+  public record WorldEntry(
+      String world, String outcome, long totalNanos, long mainThreadNanos, List<Phase> phases) {
+
+    /** Returns a one-line summary of the world's phases. */
+    public String describe() {
+      StringBuilder builder =
+          new StringBuilder(world)
+              .append(": ")
+              .append(outcome)
+              .append(" in ")
+              .append(formatMillis(totalNanos))
+              .append(" (main thread ")
+              .append(formatMillis(mainThreadNanos))
+              .append(") [");
+      for (int i = 0; i < phases.size(); i++) {
+        if (i > 0) {
+          builder.append(", ");
+        }
+        builder.append(phases.get(i).describe());
+      }
+      return builder.append(']').toString();
+    }
+  }
+
+  /**
+   * One phase's totals.
+   *
+   * @param name phase name as used by the Flight Recorder events
+   * @param nanos wall-clock duration
+   * @param items files, chunks or players processed
+   * @param bytes bytes written
+   */
+  public record Phase(String name, long nanos, long items, long bytes) {
+
+    /** Returns the sum of this phase and another run of the same phase. */
+    public Phase plus(Phase other) {
+      return new Phase(name, nanos + other.nanos, items + other.items, bytes + other.bytes);
+    }
+
+    /** Returns a short summary such as {@code copy 5400 ms (3400 items, 812.0 MiB)}. */
+    public String describe() {
+      String summary = name + " " + formatMillis(nanos);
+      if (bytes > 0L) {
+        return summary
+            + String.format(Locale.ROOT, " (%d items, %.1f MiB)", items, bytes / 1048576.0D);
+      }
+      return items > 0L ? summary + " (" + items + " items)" : summary;
+    }
+  }
+}
@@ -0,0 +1,288 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copies world templates using a bounded pool of worker threads.
+ *
+ * <p>The template tree is enumerated once, directories are created up front, and files are then
+ * copied concurrently, largest first, with {@link FileChannel#transferTo} so the kernel can move
+ * the data without staging it in the JVM heap; if a transfer stops making progress the rest of the
+ * file is copied through a buffer, and a source that ends early fails the copy. Files matching one
+ * of the configured link patterns are hard linked instead of copied when the filesystem allows it.
+ * Only files the server never writes to (for example data packs) are safe to link, because a link
+ * shares storage with the template. Copy-on-write clones (reflinks) are not attempted, since Java
+ * has no portable API for them.
+ *
+ * <p>The source may also be a {@link TemplatePack}, in which case its entries are mapped out of the
+ * pack and written concurrently.
+ */
+public final class TemplateCopier implements AutoCloseable {
+
+  private static final long TRANSFER_CHUNK_BYTES = 8L * 1024L * 1024L;
+  private static final int FALLBACK_BUFFER_BYTES = 1 << 16;
+
+  private final ExecutorService workers;
+  private final List<PathMatcher> linkMatchers;
+
+  /**
+   * Creates a copier.
+   *
+   * @param parallelism maximum number of files copied at once
+   * @param linkPatterns glob patterns, relative to the template root, of files to hard link
+   */
+  public TemplateCopier(int parallelism, List<String> linkPatterns) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.workers =
+        Executors.newFixedThreadPool(
+            Math.max(1, parallelism),
+            runnable -> {
+              String name = "StreamBridge-TemplateCopy-" + threadIndex.incrementAndGet();
+              Thread thread = new Thread(runnable, name);
+              thread.setDaemon(true);
+              thread.setPriority(Thread.NORM_PRIORITY - 1);
+              return thread;
+            });
+    List<PathMatcher> matchers = new ArrayList<>();
+    for (String pattern : linkPatterns) {
+      if (pattern != null && !pattern.isBlank()) {
+        matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern.trim()));
+      }
+    }
+    this.linkMatchers = List.copyOf(matchers);
+  }
+
+  /**
+   * Copies {@code source} into {@code destination}, creating directories as needed and replacing
+   * existing files.
+   *
+   * @param source template directory
+   * @param destination world directory to populate
+   * @return statistics describing the copy
+   * @throws IOException if enumeration or any file copy fails
+   */
+  public CopyResult copy(Path source, Path destination) throws IOException {
+    long startedNanos = System.nanoTime();
+    if (Files.notExists(source)) {
+      return new CopyResult(0L, 0L, 0L, System.nanoTime() - startedNanos);
+    }
+    if (TemplatePack.isPack(source)) {
+      return extract(TemplatePack.open(source), destination, startedNanos);
+    }
+
+    List<FileEntry> files = enumerate(source, destination);
+    files.sort(Comparator.comparingLong(FileEntry::size).reversed());
+
+    AtomicLong bytes = new AtomicLong();
+    AtomicLong linked = new AtomicLong();
+    List<Future<?>> pending = new ArrayList<>(files.size());
+    for (FileEntry entry : files) {
+      pending.add(
+          workers.submit(
+              () -> {
+                Path target = destination.resolve(entry.relative().toString());
+                if (shouldLink(entry.relative()) && tryLink(entry.absolute(), target)) {
+                  linked.incrementAndGet();
+                } else {
+                  bytes.addAndGet(transfer(entry.absolute(), target));
+                }
+                return null;
+              }));
+    }
+    awaitAll(pending);
+    long elapsedNanos = System.nanoTime() - startedNanos;
+    return new CopyResult(files.size(), linked.get(), bytes.get(), elapsedNanos);
+  }
+
+  private CopyResult extract(TemplatePack pack, Path destination, long startedNanos)
+      throws IOException {
+    List<TemplatePack.Entry> entries = new ArrayList<>(pack.entries());
+    entries.sort(Comparator.comparingLong(TemplatePack.Entry::length).reversed());
+    List<Path> targets = new ArrayList<>(entries.size());
+    Set<Path> directories = new HashSet<>();
+    for (TemplatePack.Entry entry : entries) {
+      Path target = TemplatePack.destinationOf(destination, entry);
+      Path parent = target.getParent();
+      if (parent != null && directories.add(parent)) {
+        Files.createDirectories(parent);
+      }
+      targets.add(target);
+    }
+
+    AtomicLong bytes = new AtomicLong();
+    try (FileChannel channel = FileChannel.open(pack.file(), StandardOpenOption.READ)) {
+      List<Future<?>> pending = new ArrayList<>(entries.size());
+      for (int i = 0; i < entries.size(); i++) {
+        TemplatePack.Entry entry = entries.get(i);
+        Path target = targets.get(i);
+        pending.add(
+            workers.submit(
+                () -> {
+                  bytes.addAndGet(TemplatePack.extract(channel, entry, target, true));
+                  return null;
+                }));
+      }
+      awaitAll(pending);
+    }
+    long elapsedNanos = System.nanoTime() - startedNanos;
+    return new CopyResult(entries.size(), 0L, bytes.get(), elapsedNanos);
+  }
+
+  /** Stops the worker threads. In-flight copies are interrupted. */
+  @Override
+  public void close() {
+    workers.shutdownNow();
+  }
+
+  private List<FileEntry> enumerate(Path source, Path destination) throws IOException {
+    List<FileEntry> files = new ArrayList<>();
+    Files.walkFileTree(
+        source,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+              throws IOException {
+            Files.createDirectories(destination.resolve(source.relativize(dir).toString()));
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            files.add(new FileEntry(file, source.relativize(file), attrs.size()));
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return files;
+  }
+
+  private boolean shouldLink(Path relative) {
+    for (PathMatcher matcher : linkMatchers) {
+      if (matcher.matches(relative)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean tryLink(Path source, Path target) {
+    try {
+      Files.deleteIfExists(target);
+      Files.createLink(target, source);
+      return true;
+    } catch (IOException | UnsupportedOperationException | SecurityException ex) {
+      // Cross-device or unsupported filesystems fall back to a regular copy.
+      return false;
+    }
+  }
+
+  private static long transfer(Path source, Path target) throws IOException {
+    try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+        FileChannel out =
+            FileChannel.open(
+                target,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+      long size = in.size();
+      long position = 0L;
+      while (position < size) {
+        long sent = in.transferTo(position, Math.min(TRANSFER_CHUNK_BYTES, size - position), out);
+        if (sent <= 0L) {
+          position = copyRemaining(source, in, out, position, size);
+          break;
+        }
+        position += sent;
+      }
+      return position;
+    }
+  }
+
+  /** Copies {@code in} from {@code position} up to {@code size} through a heap buffer. */
+  private static long copyRemaining(
+      Path source, FileChannel in, FileChannel out, long position, long size) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(FALLBACK_BUFFER_BYTES);
+    while (position < size) {
+      buffer.clear().limit((int) Math.min(buffer.capacity(), size - position));
+      if (in.read(buffer, position) < 0) {
+        throw new IOException(
+            source + " ended after " + position + " of " + size + " bytes while copying");
+      }
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        position += out.write(buffer, position);
+      }
+    }
+    return position;
+  }
+
+  private static void awaitAll(List<Future<?>> pending) throws IOException {
+    try {
+      for (Future<?> future : pending) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      pending.forEach(future -> future.cancel(true));
+      throw new IOException("Interrupted while copying template", ex);
+    } catch (ExecutionException ex) {
+      pending.forEach(future -> future.cancel(true));
+      Throwable cause = ex.getCause();
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("Template copy failed", cause);
+    }
+  }
+
+  private record FileEntry(Path absolute, Path relative, long size) {}
+
+  /**
+   * Outcome of a template copy.
+   *
+   * @param files number of files written or linked
+   * @param linkedFiles number of files hard linked instead of copied
+   * @param bytesCopied bytes transferred for copied files
+   * @param elapsedNanos wall-clock duration of the copy
+   */
+  public record CopyResult(long files, long linkedFiles, long bytesCopied, long elapsedNanos) {
+
+    /** Returns the copy throughput in bytes per second. */
+    public double bytesPerSecond() {
+      return elapsedNanos <= 0L ? 0.0D : bytesCopied * 1_000_000_000.0D / elapsedNanos;
+    }
+
+    /** Returns a short human-readable summary for logs. */
+    public String describe() {
+      return String.format(
+          Locale.ROOT,
+          "%d files (%d linked), %.1f MiB in %.2fs (%.1f MiB/s)",
+          files,
+          linkedFiles,
+          bytesCopied / 1048576.0D,
+          elapsedNanos / 1_000_000_000.0D,
+          bytesPerSecond() / 1048576.0D);
+    }
+  }
+}
@@ -0,0 +1,337 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * A world template stored as one indexed file.
+ *
+ * <p>The file starts with a header listing every entry's relative path, offset, length and CRC32C,
+ * followed by the file contents, each starting on a {@value #ALIGNMENT}-byte boundary. Reading a
+ * pack needs one open and one index read, after which any entry can be mapped straight out of the
+ * pack, so extraction avoids the per-file open and stat work a directory tree costs on the source
+ * side. Entries are independent and can be written out concurrently through a shared channel.
+ */
+public final class TemplatePack {
+
+  /** File name suffix used for packs built from a template directory. */
+  public static final String EXTENSION = ".pack";
+
+  private static final int MAGIC = 0x53425450;
+  private static final int VERSION = 1;
+  private static final int ALIGNMENT = 4096;
+  private static final int FIXED_HEADER_BYTES = Integer.BYTES * 3;
+  private static final int FIXED_ENTRY_BYTES = Short.BYTES + Long.BYTES * 2 + Integer.BYTES;
+  private static final int COPY_BUFFER_BYTES = 1 << 20;
+  private static final long MAX_MAP_BYTES = Integer.MAX_VALUE;
+
+  private final Path file;
+  private final List<Entry> entries;
+
+  private TemplatePack(Path file, List<Entry> entries) {
+    this.file = file;
+    this.entries = List.copyOf(entries);
+  }
+
+  /**
+   * Returns {@code true} if {@code path} is a regular file starting with the pack header.
+   *
+   * @param path candidate template source
+   */
+  public static boolean isPack(Path path) {
+    if (!Files.isRegularFile(path)) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+      return channel.read(magic, 0L) == Integer.BYTES && magic.getInt(0) == MAGIC;
+    } catch (IOException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads the index of an existing pack.
+   *
+   * @param file pack file
+   * @return the opened pack
+   * @throws IOException if the file cannot be read or is not a valid pack
+   */
+  public static TemplatePack open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer fixed = readFully(channel, 0L, FIXED_HEADER_BYTES);
+      if (fixed.getInt() != MAGIC) {
+        throw new IOException(file + " is not a template pack");
+      }
+      int version = fixed.getInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported template pack version " + version + " in " + file);
+      }
+      int count = fixed.getInt();
+      long size = channel.size();
+      // Every entry takes at least FIXED_ENTRY_BYTES, so a larger count cannot be genuine.
+      if (count < 0 || count > (size - FIXED_HEADER_BYTES) / FIXED_ENTRY_BYTES) {
+        throw new IOException("Corrupt template pack index in " + file);
+      }
+
+      long position = FIXED_HEADER_BYTES;
+      List<Entry> entries = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        ByteBuffer lengthBuffer = readFully(channel, position, Short.BYTES);
+        int pathBytes = Short.toUnsignedInt(lengthBuffer.getShort());
+        ByteBuffer record =
+            readFully(channel, position + Short.BYTES, FIXED_ENTRY_BYTES - Short.BYTES + pathBytes);
+        byte[] pathData = new byte[pathBytes];
+        record.get(pathData);
+        Entry entry =
+            new Entry(
+                new String(pathData, StandardCharsets.UTF_8),
+                record.getLong(),
+                record.getLong(),
+                record.getInt());
+        if (entry.offset() < 0L
+            || entry.length() < 0L
+            || (entry.length() > 0L && entry.offset() + entry.length() > size)) {
+          throw new IOException("Entry " + entry.path() + " lies outside " + file);
+        }
+        entries.add(entry);
+        position += FIXED_ENTRY_BYTES + pathBytes;
+      }
+      return new TemplatePack(file, entries);
+    }
+  }
+
+  /**
+   * Packs every file under {@code sourceDirectory} into {@code packFile}, replacing it atomically
+   * where supported. Blocks while reading the whole template, so call it off the main thread.
+   *
+   * @param sourceDirectory template directory to pack
+   * @param packFile destination pack file
+   * @return the newly written pack
+   * @throws IOException if the template cannot be read or the pack cannot be written
+   */
+  public static TemplatePack build(Path sourceDirectory, Path packFile) throws IOException {
+    List<Path> files = new ArrayList<>();
+    Files.walkFileTree(
+        sourceDirectory,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            files.add(file);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    files.sort(Comparator.naturalOrder());
+
+    List<byte[]> paths = new ArrayList<>(files.size());
+    long headerBytes = FIXED_HEADER_BYTES;
+    for (Path file : files) {
+      byte[] path = toEntryPath(sourceDirectory.relativize(file)).getBytes(StandardCharsets.UTF_8);
+      if (path.length > 0xFFFF) {
+        throw new IOException("Template path is too long to pack: " + file);
+      }
+      paths.add(path);
+      headerBytes += FIXED_ENTRY_BYTES + path.length;
+    }
+
+    Path parent = packFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = packFile.resolveSibling(packFile.getFileName() + ".tmp");
+    List<Entry> entries = new ArrayList<>(files.size());
+    try (FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_BYTES);
+      long offset = align(headerBytes);
+      for (int i = 0; i < files.size(); i++) {
+        CRC32C crc = new CRC32C();
+        long length = 0L;
+        try (FileChannel in = FileChannel.open(files.get(i), StandardOpenOption.READ)) {
+          while (in.read(buffer) >= 0) {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+              length += out.write(buffer, offset + length);
+            }
+            buffer.clear();
+          }
+        }
+        entries.add(
+            new Entry(
+                new String(paths.get(i), StandardCharsets.UTF_8),
+                offset,
+                length,
+                (int) crc.getValue()));
+        offset = align(offset + length);
+      }
+
+      ByteBuffer header = ByteBuffer.allocate(Math.toIntExact(headerBytes));
+      header.putInt(MAGIC).putInt(VERSION).putInt(entries.size());
+      for (int i = 0; i < entries.size(); i++) {
+        Entry entry = entries.get(i);
+        byte[] path = paths.get(i);
+        header.putShort((short) path.length).put(path);
+        header.putLong(entry.offset()).putLong(entry.length()).putInt(entry.checksum());
+      }
+      header.flip();
+      long position = 0L;
+      while (header.hasRemaining()) {
+        position += out.write(header, position);
+      }
+      out.force(true);
+    }
+
+    try {
+      Files.move(
+          temp, packFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException ex) {
+      Files.move(temp, packFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+    return new TemplatePack(packFile, entries);
+  }
+
+  /** Returns the pack file. */
+  public Path file() {
+    return file;
+  }
+
+  /** Returns the entries in index order. */
+  public List<Entry> entries() {
+    return entries;
+  }
+
+  /** Returns the combined size of every entry. */
+  public long totalBytes() {
+    long total = 0L;
+    for (Entry entry : entries) {
+      total += entry.length();
+    }
+    return total;
+  }
+
+  /** Returns a short human-readable summary for logs. */
+  public String describe() {
+    return String.format(
+        Locale.ROOT, "%d files, %.1f MiB", entries.size(), totalBytes() / 1048576.0D);
+  }
+
+  /**
+   * Resolves an entry's destination under {@code root}, rejecting paths that would escape it.
+   *
+   * @param root extraction root
+   * @param entry entry to place
+   * @return the destination path
+   * @throws IOException if the entry path points outside {@code root}
+   */
+  public static Path destinationOf(Path root, Entry entry) throws IOException {
+    Path normalizedRoot = root.toAbsolutePath().normalize();
+    Path target = normalizedRoot.resolve(entry.path()).normalize();
+    if (!target.startsWith(normalizedRoot) || target.equals(normalizedRoot)) {
+      throw new IOException("Template pack entry escapes the destination: " + entry.path());
+    }
+    return target;
+  }
+
+  /**
+   * Writes one entry to {@code target} by mapping its bytes out of {@code pack}. Safe to call
+   * from several threads with the same channel.
+   *
+   * @param pack channel opened for reading on this pack's file
+   * @param entry entry to extract
+   * @param target destination file; its parent directory must exist
+   * @param verify whether to check the entry against its stored checksum
+   * @return the number of bytes written
+   * @throws IOException if reading, verifying or writing fails
+   */
+  public static long extract(FileChannel pack, Entry entry, Path target, boolean verify)
+      throws IOException {
+    CRC32C crc = verify ? new CRC32C() : null;
+    try (FileChannel out =
+        FileChannel.open(
+            target,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      long written = 0L;
+      while (written < entry.length()) {
+        long window = Math.min(MAX_MAP_BYTES, entry.length() - written);
+        MappedByteBuffer mapped =
+            pack.map(FileChannel.MapMode.READ_ONLY, entry.offset() + written, window);
+        if (crc != null) {
+          crc.update(mapped.duplicate());
+        }
+        while (mapped.hasRemaining()) {
+          written += out.write(mapped);
+        }
+      }
+    }
+    if (crc != null && (int) crc.getValue() != entry.checksum()) {
+      throw new IOException("Checksum mismatch for template pack entry " + entry.path());
+    }
+    return entry.length();
+  }
+
+  private static ByteBuffer readFully(FileChannel channel, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Template pack header is truncated");
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static long align(long offset) {
+    return (offset + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+  }
+
+  private static String toEntryPath(Path relative) {
+    StringBuilder builder = new StringBuilder();
+    for (Path part : relative) {
+      if (builder.length() > 0) {
+        builder.append('/');
+      }
+      builder.append(part);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * One file stored in a pack.
+   *
+   * @param path path relative to the template root, separated by {@code /}
+   * @param offset position of the contents in the pack file
+   * @param length size of the contents in bytes
+   * @param checksum CRC32C of the contents
+   */
+  public record Entry(String path, long offset, long length, int checksum) {
+
+    /** Validates the entry path. */
+    public Entry {
+      Objects.requireNonNull(path, "path");
+    }
+  }
+}
@@ -0,0 +1,293 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps a verified, ready-to-use copy of each target world's template next to the live worlds.
+ *
+ * <p>Staging copies the template into {@code <staging root>/<world>} in the background and writes a
+ * marker once every staged file's CRC32C matches the template. The marker records the template's
+ * fingerprint, the staged copy's fingerprint and each file's size and checksum. Background
+ * staging re-checksums an existing copy before reusing it. At reset time {@link #promote} only
+ * compares the fingerprints, which reads file metadata but no contents, and then renames the
+ * staged folder into place.
+ *
+ * <p>Staging and promotion are serialized per world.
+ */
+public final class TemplateStager {
+
+  private static final String MARKER_FILE = ".staged-template";
+  private static final int CHECKSUM_BUFFER_BYTES = 1 << 16;
+
+  private final Path stagingRoot;
+  private final TemplateCopier copier;
+  private final WorldTrash trash;
+  private final Map<String, Object> worldLocks = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a stager.
+   *
+   * @param stagingRoot directory holding staged copies; must share a filesystem with the worlds
+   * @param copier copier used to populate staged folders
+   * @param trash trash receiving outdated staged folders, or {@code null} to delete them inline
+   */
+  public TemplateStager(Path stagingRoot, TemplateCopier copier, WorldTrash trash) {
+    this.stagingRoot = Objects.requireNonNull(stagingRoot, "stagingRoot");
+    this.copier = Objects.requireNonNull(copier, "copier");
+    this.trash = trash;
+  }
+
+  /**
+   * Makes sure a verified staged copy of {@code template} exists for {@code world}. Blocks while
+   * copying, so call it off the main thread.
+   *
+   * @param world world name
+   * @param template template directory
+   * @return the copy statistics, or {@code null} if an up-to-date copy was already staged
+   * @throws IOException if the staged copy cannot be produced
+   */
+  public TemplateCopier.CopyResult ensureStaged(String world, Path template) throws IOException {
+    synchronized (lockFor(world)) {
+      Path staged = stagingRoot.resolve(world);
+      Fingerprint templatePrint = Fingerprint.of(template);
+      if (isValid(staged, templatePrint, true)) {
+        return null;
+      }
+
+      discard(staged);
+      Files.createDirectories(staged);
+      TemplateCopier.CopyResult result = copier.copy(template, staged);
+      Map<String, FileCheck> contents = checksums(template);
+      if (!checksums(staged).equals(contents)) {
+        discard(staged);
+        throw new IOException("Staged copy of " + world + " does not match its template");
+      }
+      writeMarker(staged.resolve(MARKER_FILE), templatePrint, Fingerprint.of(staged), contents);
+      return result;
+    }
+  }
+
+  /**
+   * Moves the staged copy for {@code world} into {@code liveFolder} if it is complete and still
+   * matches {@code template}.
+   *
+   * @param world world name
+   * @param template template directory the staged copy must match
+   * @param liveFolder world folder to create; must not exist
+   * @return {@code true} if the staged copy was promoted
+   * @throws IOException if the rename fails
+   */
+  public boolean promote(String world, Path template, Path liveFolder) throws IOException {
+    synchronized (lockFor(world)) {
+      Path staged = stagingRoot.resolve(world);
+      if (!isValid(staged, Fingerprint.of(template), false)) {
+        return false;
+      }
+      Files.move(staged, liveFolder, StandardCopyOption.ATOMIC_MOVE);
+      Files.deleteIfExists(liveFolder.resolve(MARKER_FILE));
+      return true;
+    }
+  }
+
+  private Object lockFor(String world) {
+    return worldLocks.computeIfAbsent(world, ignored -> new Object());
+  }
+
+  /**
+   * Checks the staged copy against its marker. Without {@code verifyContents} only file counts,
+   * sizes and modification times are compared, which is enough to catch a copy that was touched
+   * after staging.
+   */
+  private boolean isValid(Path staged, Fingerprint templatePrint, boolean verifyContents)
+      throws IOException {
+    Path marker = staged.resolve(MARKER_FILE);
+    try (BufferedReader reader = Files.newBufferedReader(marker, StandardCharsets.UTF_8)) {
+      Fingerprint recorded = Fingerprint.parse(reader.readLine());
+      Fingerprint stagedPrint = Fingerprint.parse(reader.readLine());
+      if (recorded == null || !recorded.equals(templatePrint) || stagedPrint == null) {
+        return false;
+      }
+      if (!verifyContents) {
+        return stagedPrint.equals(Fingerprint.of(staged));
+      }
+      Map<String, FileCheck> expected = new HashMap<>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] parts = line.split("\t", 3);
+        if (parts.length != 3) {
+          return false;
+        }
+        expected.put(
+            parts[2],
+            new FileCheck(Long.parseLong(parts[0]), Integer.parseUnsignedInt(parts[1], 16)));
+      }
+      return expected.size() == stagedPrint.files() && checksums(staged).equals(expected);
+    } catch (NoSuchFileException | NumberFormatException ex) {
+      return false;
+    }
+  }
+
+  private static void writeMarker(
+      Path marker,
+      Fingerprint templatePrint,
+      Fingerprint stagedPrint,
+      Map<String, FileCheck> contents)
+      throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(marker, StandardCharsets.UTF_8)) {
+      writer.write(templatePrint.format());
+      writer.newLine();
+      writer.write(stagedPrint.format());
+      writer.newLine();
+      for (Map.Entry<String, FileCheck> entry : contents.entrySet()) {
+        FileCheck check = entry.getValue();
+        writer.write(
+            check.size() + "\t" + Integer.toHexString(check.checksum()) + "\t" + entry.getKey());
+        writer.newLine();
+      }
+    }
+  }
+
+  /** Returns the size and CRC32C of every file under {@code root}, keyed by relative path. */
+  private static Map<String, FileCheck> checksums(Path root) throws IOException {
+    Map<String, FileCheck> checks = new HashMap<>();
+    if (TemplatePack.isPack(root)) {
+      for (TemplatePack.Entry entry : TemplatePack.open(root).entries()) {
+        checks.put(entry.path(), new FileCheck(entry.length(), entry.checksum()));
+      }
+      return checks;
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_BYTES);
+    Files.walkFileTree(
+        root,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+              throws IOException {
+            Path relative = root.relativize(file);
+            if (relative.toString().equals(MARKER_FILE)) {
+              return FileVisitResult.CONTINUE;
+            }
+            CRC32C crc = new CRC32C();
+            long size = 0L;
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+              buffer.clear();
+              while (in.read(buffer) >= 0) {
+                buffer.flip();
+                size += buffer.remaining();
+                crc.update(buffer);
+                buffer.clear();
+              }
+            }
+            checks.put(
+                relative.toString().replace(relative.getFileSystem().getSeparator(), "/"),
+                new FileCheck(size, (int) crc.getValue()));
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return checks;
+  }
+
+  private void discard(Path staged) throws IOException {
+    if (Files.notExists(staged)) {
+      return;
+    }
+    if (trash != null) {
+      try {
+        trash.moveToTrash(staged);
+        return;
+      } catch (IOException ignored) {
+        // Fall through to an inline delete.
+      }
+    }
+    Files.walkFileTree(
+        staged,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+              throws IOException {
+            Files.delete(file);
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult postVisitDirectory(Path dir, IOException exc)
+              throws IOException {
+            if (exc != null) {
+              throw exc;
+            }
+            Files.delete(dir);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+  }
+
+  /**
+   * Metadata summary of a template: file count, total size and newest modification time. Used to
+   * notice that the template changed since it was staged without reading it.
+   */
+  private record Fingerprint(long files, long bytes, long newestModifiedMillis) {
+
+    static Fingerprint of(Path root) throws IOException {
+      if (Files.notExists(root)) {
+        return new Fingerprint(-1L, -1L, -1L);
+      }
+      if (TemplatePack.isPack(root)) {
+        TemplatePack pack = TemplatePack.open(root);
+        return new Fingerprint(
+            pack.entries().size(),
+            pack.totalBytes(),
+            Files.getLastModifiedTime(root).toMillis());
+      }
+      long[] totals = {0L, 0L, 0L};
+      Files.walkFileTree(
+          root,
+          new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+              if (file.getFileName().toString().equals(MARKER_FILE)) {
+                return FileVisitResult.CONTINUE;
+              }
+              totals[0]++;
+              totals[1] += attrs.size();
+              totals[2] = Math.max(totals[2], attrs.lastModifiedTime().toMillis());
+              return FileVisitResult.CONTINUE;
+            }
+          });
+      return new Fingerprint(totals[0], totals[1], totals[2]);
+    }
+
+    String format() {
+      return files + " " + bytes + " " + newestModifiedMillis;
+    }
+
+    static Fingerprint parse(String line) {
+      String[] parts = line == null ? new String[0] : line.trim().split(" ");
+      if (parts.length != 3) {
+        return null;
+      }
+      return new Fingerprint(
+          Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+  }
+
+  /** Size and CRC32C of one file. */
+  private record FileCheck(long size, int checksum) {}
+}
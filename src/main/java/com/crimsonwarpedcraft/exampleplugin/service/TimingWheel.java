@@ -0,0 +1,241 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Hashed timing wheel for many periodic timers driven by a single tick source.
+ *
+ * <p>Timers are identified by small integer ids and stored in parallel primitive arrays: absolute
+ * deadline, period, and the links of an intrusive doubly linked list per wheel slot. A timer lives
+ * in slot {@code deadline & mask}, so scheduling and cancelling are O(1). Each {@link #tick}
+ * visits one slot and fires the timers whose deadline has been reached; timers further than one
+ * revolution away simply stay in their slot until their turn comes round.
+ *
+ * <p>Ids of cancelled or expired one-shot timers are recycled, but not before the current
+ * {@link #tick} has finished, so a timer scheduled from a callback never takes over an id that is
+ * still waiting to fire in that tick. The wheel is not thread-safe and is meant to be ticked and
+ * mutated from the server thread only.
+ */
+public final class TimingWheel {
+
+  private static final int NONE = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int mask;
+  private final int[] heads;
+  private long[] deadlines = new long[INITIAL_CAPACITY];
+  private long[] periods = new long[INITIAL_CAPACITY];
+  private int[] next = new int[INITIAL_CAPACITY];
+  private int[] prev = new int[INITIAL_CAPACITY];
+  private boolean[] linked = new boolean[INITIAL_CAPACITY];
+  private boolean[] active = new boolean[INITIAL_CAPACITY];
+  private int[] freeIds = new int[INITIAL_CAPACITY];
+  private int freeCount;
+  // Ids released during a tick; only handed out again once the tick is over.
+  private int[] releasedIds = new int[INITIAL_CAPACITY];
+  private int releasedCount;
+  private boolean ticking;
+  private int allocated;
+  private int size;
+  private int[] firing = new int[INITIAL_CAPACITY];
+  private int firingCount;
+  private long now;
+
+  /**
+   * Creates a wheel.
+   *
+   * @param slotCount number of slots, rounded up to a power of two
+   */
+  public TimingWheel(int slotCount) {
+    int slots = Integer.highestOneBit(Math.max(2, slotCount) - 1) << 1;
+    this.mask = slots - 1;
+    this.heads = new int[slots];
+    Arrays.fill(heads, NONE);
+  }
+
+  /**
+   * Schedules a timer.
+   *
+   * @param delayTicks ticks until the first expiry; values below one fire on the next tick
+   * @param periodTicks ticks between later expiries, or zero for a one-shot timer
+   * @return the timer id
+   */
+  public int schedule(long delayTicks, long periodTicks) {
+    int id = allocateId();
+    active[id] = true;
+    periods[id] = Math.max(0L, periodTicks);
+    link(id, now + Math.max(1L, delayTicks));
+    size++;
+    return id;
+  }
+
+  /**
+   * Cancels a timer. Cancelling an unknown or already cancelled id has no effect.
+   *
+   * @param id timer id returned by {@link #schedule}
+   * @return {@code true} if the timer was active
+   */
+  public boolean cancel(int id) {
+    if (!isActive(id)) {
+      return false;
+    }
+    unlink(id);
+    release(id);
+    return true;
+  }
+
+  /** Returns {@code true} if {@code id} refers to a scheduled timer. */
+  public boolean isActive(int id) {
+    return id >= 0 && id < allocated && active[id];
+  }
+
+  /**
+   * Returns the ticks left until the timer next fires, or {@code -1} if it is not active.
+   *
+   * @param id timer id
+   */
+  public long remainingTicks(int id) {
+    return isActive(id) ? Math.max(0L, deadlines[id] - now) : -1L;
+  }
+
+  /**
+   * Returns the timer's period in ticks, or {@code -1} if it is not active.
+   *
+   * @param id timer id
+   */
+  public long periodTicks(int id) {
+    return isActive(id) ? periods[id] : -1L;
+  }
+
+  /** Returns the number of active timers. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Advances the wheel by one tick and reports every timer that expires. Periodic timers are
+   * re-armed before {@code expired} runs, so the callback may cancel them or schedule new timers.
+   *
+   * @param expired receives the id of each expired timer
+   */
+  public void tick(IntConsumer expired) {
+    now++;
+    int slot = (int) (now & mask);
+    firingCount = 0;
+    for (int id = heads[slot]; id != NONE; ) {
+      int following = next[id];
+      if (deadlines[id] <= now) {
+        unlink(id);
+        if (firingCount == firing.length) {
+          firing = Arrays.copyOf(firing, firingCount * 2);
+        }
+        firing[firingCount++] = id;
+      }
+      id = following;
+    }
+
+    ticking = true;
+    try {
+      // firingCount is re-read because clear() from a callback drops the rest of the tick.
+      for (int i = 0; i < firingCount; i++) {
+        int id = firing[i];
+        if (!active[id]) {
+          // Cancelled by an earlier callback during this tick.
+          continue;
+        }
+        if (periods[id] > 0L) {
+          link(id, now + periods[id]);
+        } else {
+          release(id);
+        }
+        expired.accept(id);
+      }
+    } finally {
+      ticking = false;
+      firingCount = 0;
+      for (int i = 0; i < releasedCount; i++) {
+        free(releasedIds[i]);
+      }
+      releasedCount = 0;
+    }
+  }
+
+  /** Cancels every timer. */
+  public void clear() {
+    Arrays.fill(heads, NONE);
+    Arrays.fill(active, 0, allocated, false);
+    Arrays.fill(linked, 0, allocated, false);
+    allocated = 0;
+    freeCount = 0;
+    releasedCount = 0;
+    firingCount = 0;
+    size = 0;
+  }
+
+  private int allocateId() {
+    if (freeCount > 0) {
+      return freeIds[--freeCount];
+    }
+    if (allocated == deadlines.length) {
+      int capacity = allocated * 2;
+      deadlines = Arrays.copyOf(deadlines, capacity);
+      periods = Arrays.copyOf(periods, capacity);
+      next = Arrays.copyOf(next, capacity);
+      prev = Arrays.copyOf(prev, capacity);
+      linked = Arrays.copyOf(linked, capacity);
+      active = Arrays.copyOf(active, capacity);
+    }
+    return allocated++;
+  }
+
+  private void release(int id) {
+    active[id] = false;
+    size--;
+    if (ticking) {
+      if (releasedCount == releasedIds.length) {
+        releasedIds = Arrays.copyOf(releasedIds, releasedCount * 2);
+      }
+      releasedIds[releasedCount++] = id;
+    } else {
+      free(id);
+    }
+  }
+
+  private void free(int id) {
+    if (freeCount == freeIds.length) {
+      freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+    }
+    freeIds[freeCount++] = id;
+  }
+
+  private void link(int id, long deadline) {
+    deadlines[id] = deadline;
+    int slot = (int) (deadline & mask);
+    int head = heads[slot];
+    next[id] = head;
+    prev[id] = NONE;
+    if (head != NONE) {
+      prev[head] = id;
+    }
+    heads[slot] = id;
+    linked[id] = true;
+  }
+
+  private void unlink(int id) {
+    if (!linked[id]) {
+      return;
+    }
+    int before = prev[id];
+    int after = next[id];
+    if (before != NONE) {
+      next[before] = after;
+    } else {
+      heads[(int) (deadlines[id] & mask)] = after;
+    }
+    if (after != NONE) {
+      prev[after] = before;
+    }
+    linked[id] = false;
+  }
+}
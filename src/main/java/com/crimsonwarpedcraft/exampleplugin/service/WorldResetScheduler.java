@@ -1,23 +1,41 @@
 package com.crimsonwarpedcraft.exampleplugin.service;
 
+import com.crimsonwarpedcraft.exampleplugin.jfr.WorldResetPhaseEvent;
+import com.crimsonwarpedcraft.exampleplugin.service.PluginMetrics.Family;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.papermc.lib.PaperLib;
 import java.io.IOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
@@ -26,6 +44,7 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.generator.ChunkGenerator;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitScheduler;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -37,20 +56,48 @@ public class WorldResetScheduler {
   private static final long TICKS_PER_SECOND = 20L;
   private static final long SECONDS_PER_MINUTE = 60L;
   private static final long MINUTES_PER_HOUR = 60L;
+  private static final String TRASH_DIRECTORY = ".world-reset-trash";
+  private static final String STAGING_DIRECTORY = ".world-reset-staging";
+  private static final int DEFAULT_HISTORY_SIZE = 20;
+  private static final String HISTORY_FILE = "reset-history.tsv";
+  private static final DateTimeFormatter HISTORY_TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm", Locale.ROOT)
+          .withZone(ZoneId.systemDefault());
 
   private final JavaPlugin plugin;
+  private final PluginMetrics metrics;
+  private final Executor mainThreadExecutor;
   private BukkitTask scheduledTask;
+  private BukkitTask preUnloadTask;
+  private final Map<String, ChunkDrain> chunkDrains = new HashMap<>();
+  private TemplateCopier templateCopier;
+  private WorldTrash worldTrash;
+  private TemplateStager templateStager;
+  private IncrementalRestorer incrementalRestorer;
+  private ResetHistory resetHistory = new ResetHistory(DEFAULT_HISTORY_SIZE);
 
   /**
    * Creates a new scheduler bound to the provided plugin instance.
    *
    * @param plugin the owning plugin
    */
+  public WorldResetScheduler(JavaPlugin plugin) {
+    this(plugin, new PluginMetrics());
+  }
+
+  /**
+   * Creates a new scheduler that records reset outcomes into the supplied metrics registry.
+   *
+   * @param plugin the owning plugin
+   * @param metrics registry receiving reset counters and durations
+   */
   @SuppressFBWarnings(
       value = "EI_EXPOSE_REP2",
       justification = "Plugin lifecycle requires keeping a reference to the managing instance.")
-  public WorldResetScheduler(JavaPlugin plugin) {
+  public WorldResetScheduler(JavaPlugin plugin, PluginMetrics metrics) {
     this.plugin = plugin;
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+    this.mainThreadExecutor = runnable -> Bukkit.getScheduler().runTask(plugin, runnable);
   }
 
   /**
@@ -65,9 +112,62 @@ public class WorldResetScheduler {
       intervalHours = 1L;
     }
 
+    resetHistory =
+        new ResetHistory(
+            plugin.getConfig().getInt("world-reset.history-size", DEFAULT_HISTORY_SIZE));
+    try {
+      resetHistory.load(resetHistoryFile());
+    } catch (IOException ex) {
+      plugin.getLogger().log(Level.WARNING, "Failed to load world reset history.", ex);
+    }
+
+    int copyThreads =
+        Math.max(
+            1,
+            plugin
+                .getConfig()
+                .getInt(
+                    "world-reset.copy-threads",
+                    Math.min(4, Runtime.getRuntime().availableProcessors())));
+    templateCopier =
+        new TemplateCopier(
+            copyThreads, plugin.getConfig().getStringList("world-reset.hard-link-patterns"));
+    boolean incremental =
+        "incremental".equalsIgnoreCase(plugin.getConfig().getString("world-reset.mode", "full"));
+    if (incremental) {
+      incrementalRestorer =
+          new IncrementalRestorer(
+              copyThreads, plugin.getDataFolder().toPath().resolve("reset-manifests"));
+    }
+
+    java.io.File worldContainer = Bukkit.getWorldContainer();
+    if (worldContainer != null) {
+      worldTrash =
+          new WorldTrash(
+              worldContainer.toPath().resolve(TRASH_DIRECTORY),
+              plugin.getConfig().getInt("world-reset.trash-purge-files-per-second", 1000),
+              plugin.getLogger());
+      // Finish purging anything a previous run left behind.
+      worldTrash.schedulePurge();
+
+      if (!incremental && plugin.getConfig().getBoolean("world-reset.pre-stage", true)) {
+        templateStager =
+            new TemplateStager(
+                worldContainer.toPath().resolve(STAGING_DIRECTORY), templateCopier, worldTrash);
+        loadTargetWorlds().forEach(this::stageTemplateAsync);
+      }
+    }
+
     long ticks = intervalHours * MINUTES_PER_HOUR * SECONDS_PER_MINUTE * TICKS_PER_SECOND;
     BukkitScheduler scheduler = Bukkit.getScheduler();
     scheduledTask = scheduler.runTaskTimer(plugin, this::runResetRoutine, ticks, ticks);
+    long leadTicks =
+        Math.max(0L, plugin.getConfig().getLong("world-reset.pre-unload.lead-seconds", 180L))
+            * TICKS_PER_SECOND;
+    if (leadTicks > 0L && leadTicks < ticks) {
+      preUnloadTask =
+          scheduler.runTaskTimer(plugin, this::beginPreUnload, ticks - leadTicks, ticks);
+    }
     plugin.getLogger().info("World reset scheduled every " + intervalHours + " hour(s).");
   }
 
@@ -79,52 +179,404 @@ public class WorldResetScheduler {
       scheduledTask.cancel();
       scheduledTask = null;
     }
+    if (preUnloadTask != null) {
+      preUnloadTask.cancel();
+      preUnloadTask = null;
+    }
+    abortPreUnload();
+    templateStager = null;
+    if (incrementalRestorer != null) {
+      incrementalRestorer.close();
+      incrementalRestorer = null;
+    }
+    if (templateCopier != null) {
+      templateCopier.close();
+      templateCopier = null;
+    }
+    if (worldTrash != null) {
+      worldTrash.close();
+      worldTrash = null;
+    }
+  }
+
+  /** Returns the names of the configured target worlds. */
+  public List<String> targetWorldNames() {
+    return loadTargetWorlds().stream().map(TargetWorld::name).collect(Collectors.toList());
+  }
+
+  /**
+   * Builds a template pack from a target world's template directory in the background. The pack
+   * is written to the target's {@code template-pack} path, or next to the directory when none is
+   * configured.
+   *
+   * @param worldName target world whose template should be packed
+   * @return chat lines describing the outcome, completed once the pack is written
+   */
+  public CompletableFuture<List<String>> buildTemplatePack(String worldName) {
+    TargetWorld target = null;
+    for (TargetWorld candidate : loadTargetWorlds()) {
+      if (candidate.name.equalsIgnoreCase(worldName)) {
+        target = candidate;
+        break;
+      }
+    }
+    if (target == null || target.templateDirectory == null) {
+      return CompletableFuture.completedFuture(
+          List.of(ChatColor.RED + "No template directory is configured for " + worldName + "."));
+    }
+
+    TargetWorld packTarget = target;
+    Executor asyncExecutor =
+        runnable -> Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable);
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            Path source = resolveTemplateDirectory(packTarget.templateDirectory);
+            if (!Files.isDirectory(source)) {
+              return List.of(ChatColor.RED + "Template directory not found: " + source);
+            }
+            Path packFile =
+                packTarget.templatePack != null
+                    ? resolveTemplateDirectory(packTarget.templatePack)
+                    : source.resolveSibling(source.getFileName() + TemplatePack.EXTENSION);
+            long startedNanos = System.nanoTime();
+            TemplatePack pack = TemplatePack.build(source, packFile);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            plugin
+                .getLogger()
+                .info("Built template pack " + packFile + ": " + pack.describe() + ".");
+            List<String> lines = new ArrayList<>();
+            lines.add(
+                ChatColor.GREEN
+                    + "Packed "
+                    + packTarget.name
+                    + ChatColor.GRAY
+                    + ": "
+                    + pack.describe()
+                    + " in "
+                    + elapsedMillis
+                    + " ms.");
+            if (packTarget.templatePack == null) {
+              Path base = plugin.getDataFolder().toPath();
+              lines.add(
+                  ChatColor.GRAY
+                      + "Set template-pack: "
+                      + ChatColor.YELLOW
+                      + base.relativize(packFile)
+                      + ChatColor.GRAY
+                      + " on this target to reset from the pack.");
+            }
+            return lines;
+          } catch (IOException | RuntimeException ex) {
+            plugin
+                .getLogger()
+                .log(Level.WARNING, "Failed to build template pack for " + packTarget.name, ex);
+            return List.of(ChatColor.RED + "Failed to build the pack: " + ex.getMessage());
+          }
+        },
+        asyncExecutor);
   }
 
   private void runResetRoutine() {
     List<TargetWorld> targets = loadTargetWorlds();
     if (targets.isEmpty()) {
       plugin.getLogger().warning("No target worlds configured for reset; skipping routine.");
+      abortPreUnload();
       return;
     }
 
     HoldingLocation holdingLocation = loadHoldingLocation();
     if (holdingLocation == null) {
       plugin.getLogger().warning("Holding location is not configured correctly; skipping reset.");
+      abortPreUnload();
       return;
     }
+    // Worlds drained before a config reload dropped them are not reset, so they save again.
+    Set<String> targetNames = targets.stream().map(TargetWorld::name).collect(Collectors.toSet());
+    chunkDrains
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (targetNames.contains(entry.getKey())) {
+                return false;
+              }
+              entry.getValue().restore();
+              return true;
+            });
+    // Past this point the remaining drains' worlds are replaced, so their chunks need no saving.
+    chunkDrains.values().forEach(ChunkDrain::commit);
 
-    Map<Player, SavedLocation> toRestore = evacuatePlayers(targets, holdingLocation);
-    executeCommandsAtPath("world-reset.pre-reset-commands");
+    WorldTimings routine = new WorldTimings("*");
+    long startedEpochMillis = System.currentTimeMillis();
+    PhaseTimer evacuatePhase = PhaseTimer.startSpanning(routine, WorldResetPhaseEvent.EVACUATE);
+    evacuatePlayers(targets, holdingLocation, routine)
+        .thenAcceptAsync(
+            toRestore -> {
+              evacuatePhase.finish(toRestore.size(), true);
+              long commandsStartedNanos = System.nanoTime();
+              executeCommandsAtPath("world-reset.pre-reset-commands");
+              routine.addMainThreadNanos(System.nanoTime() - commandsStartedNanos);
+              resetTargets(targets, holdingLocation, toRestore, routine, startedEpochMillis);
+            },
+            mainThreadExecutor)
+        .exceptionally(
+            throwable -> {
+              evacuatePhase.finish(0L, false);
+              mainThreadExecutor.execute(this::abortPreUnload);
+              plugin.getLogger().log(Level.SEVERE, "World reset routine aborted.", throwable);
+              return null;
+            });
+  }
 
-    CompletableFuture<Void> resetFuture = CompletableFuture.completedFuture(null);
+  private void resetTargets(
+      List<TargetWorld> targets,
+      HoldingLocation holdingLocation,
+      Map<Player, SavedLocation> toRestore,
+      WorldTimings routine,
+      long startedEpochMillis) {
+    int parallelism = Math.max(1, plugin.getConfig().getInt("world-reset.parallelism", 2));
+    ExecutorService ioExecutor = newResetExecutor(parallelism);
+    // Chunks warmed up for returning players stay ticketed until they are back.
+    List<ChunkKey> chunkTickets = new ArrayList<>();
+    List<CompletableFuture<WorldTimings>> resets = new ArrayList<>(targets.size());
     for (TargetWorld target : targets) {
-      resetFuture = resetFuture.thenCompose(ignored -> resetWorldAsync(target));
+      resets.add(resetWorldAsync(target, holdingLocation, toRestore, ioExecutor));
     }
 
-    resetFuture.whenComplete(
-        (ignored, throwable) -> {
-          if (throwable != null) {
-            plugin
-                .getLogger()
-                .log(
-                    Level.SEVERE,
-                    "One or more worlds failed to reset during the routine.",
-                    throwable);
+    CompletableFuture.allOf(resets.toArray(new CompletableFuture<?>[0]))
+        .handle(
+            (ignored, throwable) -> {
+              ioExecutor.shutdown();
+              if (throwable != null) {
+                plugin
+                    .getLogger()
+                    .log(
+                        Level.SEVERE,
+                        "One or more worlds failed to reset during the routine.",
+                        throwable);
+              }
+              return null;
+            })
+        .thenComposeAsync(
+            ignored ->
+                warmUpChunks(
+                    targets, holdingLocation, toRestore.values(), chunkTickets, routine),
+            mainThreadExecutor)
+        .whenComplete(
+            (ignored, throwable) ->
+                Bukkit.getScheduler()
+                    .runTaskLater(
+                        plugin,
+                        () -> {
+                          PhaseTimer returnPhase =
+                              PhaseTimer.startSpanning(routine, WorldResetPhaseEvent.RETURN);
+                          returnPlayers(toRestore, routine)
+                              .thenRunAsync(
+                                  () -> {
+                                    releaseChunkTickets(chunkTickets);
+                                    returnPhase.finish(toRestore.size(), true);
+                                    executeCommandsAtPath("world-reset.post-reset-commands");
+                                    completeRoutine(routine, startedEpochMillis, resets);
+                                  },
+                                  mainThreadExecutor);
+                        },
+                        TICKS_PER_SECOND * 5L));
+  }
+
+  /**
+   * Generates or loads the chunks around each recreated world's spawn and around every saved
+   * player position, a bounded number per tick, so returning players do not trigger a burst of
+   * synchronous chunk generation. Each loaded chunk gets a plugin chunk ticket, recorded in
+   * {@code tickets}, so it is not unloaded again before the players return. Progress is shown to
+   * players waiting in the holding world.
+   */
+  private CompletableFuture<Void> warmUpChunks(
+      List<TargetWorld> targets,
+      HoldingLocation holdingLocation,
+      Collection<SavedLocation> returns,
+      List<ChunkKey> tickets,
+      WorldTimings routine) {
+    ConfigurationSection section =
+        plugin.getConfig().getConfigurationSection("world-reset.warm-up");
+    if (section == null || !section.getBoolean("enabled", true)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    int spawnRadius = Math.max(0, section.getInt("spawn-radius", 4));
+    int playerRadius = Math.max(0, section.getInt("player-radius", 2));
+    int chunksPerTick = Math.max(1, section.getInt("chunks-per-tick", 8));
+    int maxPending = Math.max(chunksPerTick, section.getInt("max-pending", 64));
+
+    Set<ChunkKey> chunks = new LinkedHashSet<>();
+    Set<String> targetNames = new HashSet<>();
+    for (TargetWorld target : targets) {
+      targetNames.add(target.name);
+      World world = Bukkit.getWorld(target.name);
+      if (world != null) {
+        addChunkSquare(chunks, world.getSpawnLocation(), spawnRadius);
+      }
+    }
+    for (SavedLocation saved : returns) {
+      Location location = targetNames.contains(saved.worldName()) ? saved.toLocation() : null;
+      if (location != null) {
+        addChunkSquare(chunks, location, playerRadius);
+      }
+    }
+    if (chunks.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    int total = chunks.size();
+    long startedNanos = System.nanoTime();
+    PhaseTimer warmUpPhase = PhaseTimer.startSpanning(routine, WorldResetPhaseEvent.WARM_UP);
+    AtomicInteger loaded = new AtomicInteger();
+    BukkitTask progressTask =
+        Bukkit.getScheduler()
+            .runTaskTimer(
+                plugin,
+                () -> reportWarmUpProgress(holdingLocation, loaded.get(), total),
+                0L,
+                TICKS_PER_SECOND * 2L);
+    return loadAndTicketChunks(
+            routine, new ArrayList<>(chunks), chunksPerTick, maxPending, tickets, loaded)
+        .whenComplete(
+            (ignored, throwable) -> {
+              progressTask.cancel();
+              warmUpPhase.finish(total, true);
+              plugin
+                  .getLogger()
+                  .info(
+                      "Warmed up "
+                          + total
+                          + " chunk(s) in "
+                          + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos)
+                          + " ms.");
+            });
+  }
+
+  /**
+   * Starts at most {@code perTick} asynchronous chunk loads per tick while never keeping more than
+   * {@code maxPending} in flight, and adds a plugin chunk ticket to each chunk once it has loaded.
+   * The returned future completes after the last load finishes.
+   */
+  private CompletableFuture<Void> loadAndTicketChunks(
+      WorldTimings routine,
+      List<ChunkKey> chunks,
+      int perTick,
+      int maxPending,
+      List<ChunkKey> tickets,
+      AtomicInteger loaded) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    AtomicInteger pending = new AtomicInteger();
+    new BukkitRunnable() {
+      private int next;
+
+      @Override
+      public void run() {
+        long batchStartedNanos = System.nanoTime();
+        int end = Math.min(chunks.size(), next + Math.min(perTick, maxPending - pending.get()));
+        for (; next < end; next++) {
+          ChunkKey chunk = chunks.get(next);
+          pending.incrementAndGet();
+          try {
+            // Paper completes chunk loads on the main thread, where tickets may be added.
+            PaperLib.getChunkAtAsync(chunk.world(), chunk.x(), chunk.z(), true)
+                .whenComplete(
+                    (loadedChunk, throwable) -> {
+                      if (loadedChunk != null
+                          && chunk.world().addPluginChunkTicket(chunk.x(), chunk.z(), plugin)) {
+                        tickets.add(chunk);
+                      }
+                      loaded.incrementAndGet();
+                      pending.decrementAndGet();
+                    });
+          } catch (RuntimeException ex) {
+            loaded.incrementAndGet();
+            pending.decrementAndGet();
+            plugin.getLogger().log(Level.WARNING, "Failed to warm up a chunk.", ex);
           }
-          Bukkit.getScheduler()
-              .runTask(
-                  plugin,
-                  () ->
-                      Bukkit.getScheduler()
-                          .runTaskLater(
-                              plugin,
-                              () -> {
-                                returnPlayers(toRestore);
-                                executeCommandsAtPath("world-reset.post-reset-commands");
-                              },
-                              TICKS_PER_SECOND * 5L));
-        });
+        }
+        routine.addMainThreadNanos(System.nanoTime() - batchStartedNanos);
+        if (next >= chunks.size() && pending.get() == 0) {
+          cancel();
+          done.complete(null);
+        }
+      }
+    }.runTaskTimer(plugin, 1L, 1L);
+    return done;
+  }
+
+  /** Removes the chunk tickets added during warm-up so the chunks can unload normally again. */
+  private void releaseChunkTickets(List<ChunkKey> tickets) {
+    for (ChunkKey chunk : tickets) {
+      chunk.world().removePluginChunkTicket(chunk.x(), chunk.z(), plugin);
+    }
+    tickets.clear();
+  }
+
+  private static void addChunkSquare(Set<ChunkKey> chunks, Location center, int radius) {
+    int centerX = center.getBlockX() >> 4;
+    int centerZ = center.getBlockZ() >> 4;
+    for (int x = centerX - radius; x <= centerX + radius; x++) {
+      for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+        chunks.add(new ChunkKey(center.getWorld(), x, z));
+      }
+    }
+  }
+
+  private static void reportWarmUpProgress(HoldingLocation holdingLocation, int loaded, int total) {
+    String message =
+        ChatColor.GRAY
+            + "Preparing worlds: "
+            + ChatColor.YELLOW
+            + (loaded * 100 / total)
+            + "%"
+            + ChatColor.GRAY
+            + " ("
+            + loaded
+            + "/"
+            + total
+            + " chunks)";
+    for (Player player : holdingLocation.world().getPlayers()) {
+      player.sendMessage(message);
+    }
+  }
+
+  /**
+   * Starts draining each target world ahead of the reset. Autosave and the spawn keep-alive are
+   * switched off, and chunks away from players are unloaded a few per tick, so the final unload
+   * has little left to do. Until the routine commits to the reset the drained chunks are saved,
+   * because a skipped reset keeps the world; afterwards they are discarded. Nothing is drained
+   * when the routine would be skipped.
+   */
+  private void beginPreUnload() {
+    List<TargetWorld> targets = loadTargetWorlds();
+    if (targets.isEmpty() || loadHoldingLocation() == null) {
+      return;
+    }
+    int chunksPerTick =
+        Math.max(1, plugin.getConfig().getInt("world-reset.pre-unload.chunks-per-tick", 16));
+    for (TargetWorld target : targets) {
+      World world = Bukkit.getWorld(target.name);
+      if (world == null || chunkDrains.containsKey(target.name)) {
+        continue;
+      }
+      ChunkDrain drain = new ChunkDrain(world, chunksPerTick);
+      chunkDrains.put(target.name, drain);
+      drain.runTaskTimer(plugin, 1L, 1L);
+    }
+    if (!chunkDrains.isEmpty()) {
+      plugin
+          .getLogger()
+          .info("Draining chunks in " + chunkDrains.keySet() + " ahead of the world reset.");
+    }
+  }
+
+  /** Stops any pre-reset drains and restores the world settings they changed. */
+  private void abortPreUnload() {
+    for (ChunkDrain drain : chunkDrains.values()) {
+      drain.restore();
+    }
+    chunkDrains.clear();
   }
 
   private void executeCommandsAtPath(String path) {
@@ -141,9 +593,16 @@ public class WorldResetScheduler {
     }
   }
 
-  private Map<Player, SavedLocation> evacuatePlayers(
-      List<TargetWorld> targets, HoldingLocation holdingLocation) {
-    Map<Player, SavedLocation> originals = new HashMap<>();
+  /**
+   * Moves every player out of the target worlds. The holding chunk is loaded asynchronously first,
+   * then players are teleported a few per tick. Player data is saved in later batches once
+   * everyone has left, so neither step lands in a single tick. The returned future completes after
+   * the last save, before any world is unloaded. Players who enter a target world after this
+   * snapshot are caught by {@link #evacuateLatecomers} just before that world unloads.
+   */
+  private CompletableFuture<Map<Player, SavedLocation>> evacuatePlayers(
+      List<TargetWorld> targets, HoldingLocation holdingLocation, WorldTimings routine) {
+    Map<Player, SavedLocation> originals = new LinkedHashMap<>();
     Set<String> targetNames = targets.stream().map(TargetWorld::name).collect(Collectors.toSet());
     for (Player player : Bukkit.getOnlinePlayers()) {
       World world = player.getWorld();
@@ -156,35 +615,99 @@ public class WorldResetScheduler {
       }
 
       originals.put(player, SavedLocation.from(player));
-      player.saveData();
-      holdingLocation.teleport(player);
     }
-    return originals;
+    if (originals.isEmpty()) {
+      return CompletableFuture.completedFuture(originals);
+    }
+
+    Location destination = holdingLocation.toLocation();
+    List<Player> players = new ArrayList<>(originals.keySet());
+    int perTick = teleportsPerTick();
+    return PaperLib.getChunkAtAsync(destination)
+        .handle((chunk, throwable) -> chunk)
+        .thenCompose(
+            chunk ->
+                forEachInBatches(
+                    routine, players, perTick, player -> teleport(player, destination)))
+        .thenCompose(
+            ignored ->
+                forEachInBatches(
+                    routine,
+                    players,
+                    perTick,
+                    player -> {
+                      if (player.isOnline()) {
+                        player.saveData();
+                      }
+                      return CompletableFuture.completedFuture(null);
+                    }))
+        .thenApply(ignored -> originals);
   }
 
-  private CompletableFuture<Void> resetWorldAsync(TargetWorld target) {
-    CompletableFuture<Void> future = new CompletableFuture<>();
-    Bukkit.getScheduler().runTask(plugin, () -> runResetOnMainThread(target, future));
-    return future;
+  /**
+   * Resets one world. Unloading and creation run on the main thread, which serialises them across
+   * worlds, while the folder work runs on {@code ioExecutor} concurrently with other worlds.
+   */
+  private CompletableFuture<WorldTimings> resetWorldAsync(
+      TargetWorld target,
+      HoldingLocation holdingLocation,
+      Map<Player, SavedLocation> toRestore,
+      Executor ioExecutor) {
+    WorldTimings timings = new WorldTimings(target.name);
+    return CompletableFuture.supplyAsync(
+            () -> unloadForReset(target, holdingLocation, toRestore, timings),
+            mainThreadExecutor)
+        .thenApplyAsync(
+            unloaded ->
+                unloaded != null && prepareForReset(target, unloaded, timings) ? unloaded : null,
+            ioExecutor)
+        .thenApplyAsync(
+            prepared -> {
+              if (prepared != null) {
+                recreateWorld(target, prepared, timings);
+              }
+              return timings;
+            },
+            mainThreadExecutor);
   }
 
   @SuppressFBWarnings(
       value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE",
       justification = "Guard against edge cases where Bukkit returns a null world container.")
-  private void runResetOnMainThread(TargetWorld target, CompletableFuture<Void> future) {
+  private UnloadedWorld unloadForReset(
+      TargetWorld target,
+      HoldingLocation holdingLocation,
+      Map<Player, SavedLocation> toRestore,
+      WorldTimings timings) {
     World world = Bukkit.getWorld(target.name);
     WorldCreationSettings creationSettings = WorldCreationSettings.from(world);
+    ChunkDrain drain = chunkDrains.remove(target.name);
+    if (drain != null) {
+      drain.cancel();
+    }
     if (world != null) {
-      world.save();
-      if (!Bukkit.unloadWorld(world, true)) {
+      evacuateLatecomers(world, holdingLocation, toRestore);
+      // The folder is replaced below, so saving it first would only be thrown away.
+      PhaseTimer unloadPhase = PhaseTimer.start(timings, WorldResetPhaseEvent.SAVE_UNLOAD);
+      boolean unloaded = false;
+      try {
+        unloaded = Bukkit.unloadWorld(world, false);
+      } finally {
+        unloadPhase.finish(0L, unloaded);
+        if (!unloaded && drain != null) {
+          // The world stays live, so it must save normally again.
+          drain.restore();
+        }
+      }
+      if (!unloaded) {
         plugin
             .getLogger()
             .log(
                 Level.WARNING,
                 "Failed to unload world {0}; skipping regeneration.",
                 target.name);
-        future.complete(null);
-        return;
+        finishReset(target, timings, "unload_failed");
+        return null;
       }
     }
 
@@ -196,67 +719,241 @@ public class WorldResetScheduler {
               Level.SEVERE,
               "World container is unavailable; skipping regeneration for {0}",
               target.name);
-      future.complete(null);
+      finishReset(target, timings, "failed");
+      return null;
+    }
+    return new UnloadedWorld(creationSettings, worldContainer.toPath().resolve(target.name));
+  }
+
+  /**
+   * Moves players who joined or teleported into {@code world} after the evacuation snapshot to the
+   * holding location, so the unload is not refused. They return with everyone else; a player who
+   * was already evacuated keeps their original return location. Runs on the main thread.
+   */
+  private void evacuateLatecomers(
+      World world, HoldingLocation holdingLocation, Map<Player, SavedLocation> toRestore) {
+    List<Player> latecomers = world.getPlayers();
+    if (latecomers.isEmpty()) {
       return;
     }
+    // The holding chunk was loaded for the evacuation, so these teleports do not block on I/O.
+    Location destination = holdingLocation.toLocation();
+    for (Player player : latecomers) {
+      toRestore.putIfAbsent(player, SavedLocation.from(player));
+      if (!player.teleport(destination)) {
+        plugin
+            .getLogger()
+            .warning("Failed to teleport " + player.getName() + " during world reset.");
+      }
+      player.saveData();
+    }
+    plugin
+        .getLogger()
+        .info(
+            "Moved "
+                + latecomers.size()
+                + " player(s) who entered "
+                + world.getName()
+                + " during the reset to the holding location.");
+  }
+
+  private boolean prepareForReset(
+      TargetWorld target, UnloadedWorld unloaded, WorldTimings timings) {
+    try {
+      prepareWorldFolder(target, unloaded.folder(), timings);
+      return true;
+    } catch (Exception ex) {
+      plugin
+          .getLogger()
+          .log(Level.SEVERE, "Failed to prepare world folder for " + target.name, ex);
+      finishReset(target, timings, "failed");
+      return false;
+    }
+  }
+
+  private void recreateWorld(TargetWorld target, UnloadedWorld unloaded, WorldTimings timings) {
+    PhaseTimer createPhase = PhaseTimer.start(timings, WorldResetPhaseEvent.CREATE);
+    boolean created = false;
+    try {
+      WorldCreator creator = WorldCreator.name(target.name);
+      unloaded.creationSettings().apply(creator);
+      creator.createWorld();
+      created = true;
+    } catch (Exception creationException) {
+      plugin
+          .getLogger()
+          .log(Level.SEVERE, "Failed to recreate world " + target.name, creationException);
+    } finally {
+      createPhase.finish(0L, created);
+    }
+
+    if (created) {
+      plugin.getLogger().info("World reset completed for " + target.name);
+      finishReset(target, timings, "success");
+      stageTemplateAsync(target);
+    } else {
+      finishReset(target, timings, "failed");
+    }
+  }
+
+  /**
+   * Replaces the contents of an unloaded world's folder with its template. Runs off the main
+   * thread.
+   */
+  private void prepareWorldFolder(TargetWorld target, Path worldFolder, WorldTimings timings)
+      throws IOException {
+    Path templatePath = resolveTemplateSource(target);
+    if (templatePath != null && Files.notExists(templatePath)) {
+      plugin
+          .getLogger()
+          .warning("Template directory missing for world " + target.name + ": " + templatePath);
+      templatePath = null;
+    }
+
+    // Incremental restores compare against a directory tree; packs always take the full path.
+    IncrementalRestorer restorer = incrementalRestorer;
+    if (restorer != null && templatePath != null && Files.isDirectory(templatePath)) {
+      PhaseTimer restorePhase = PhaseTimer.start(timings, WorldResetPhaseEvent.RESTORE);
+      IncrementalRestorer.RestoreResult restore =
+          restorer.restore(target.name, templatePath, worldFolder);
+      restorePhase.finish(
+          restore.restoredFiles() + restore.deletedFiles(), restore.restoredBytes(), true);
+      metrics.increment(
+          Family.WORLD_RESET_COPY_BYTES, restore.restoredBytes(), "world", target.name);
+      metrics.observeNanos(
+          Family.WORLD_RESET_COPY_DURATION, restore.elapsedNanos(), "world", target.name);
+      plugin.getLogger().info("Restored " + target.name + ": " + restore.describe());
+      return;
+    }
+
+    PhaseTimer deletePhase = PhaseTimer.start(timings, WorldResetPhaseEvent.DELETE);
+    deletePhase.finish(discardWorldFolder(target, worldFolder), true);
+    if (templatePath == null) {
+      return;
+    }
+    if (promoteStagedTemplate(target, templatePath, worldFolder, timings)) {
+      plugin.getLogger().info("Swapped in pre-staged template for " + target.name + ".");
+      return;
+    }
+
+    PhaseTimer copyPhase = PhaseTimer.start(timings, WorldResetPhaseEvent.COPY);
+    TemplateCopier.CopyResult copy = copyTemplate(templatePath, worldFolder);
+    copyPhase.finish(copy.files(), copy.bytesCopied(), true);
+    metrics.increment(Family.WORLD_RESET_COPY_BYTES, copy.bytesCopied(), "world", target.name);
+    metrics.observeNanos(
+        Family.WORLD_RESET_COPY_DURATION, copy.elapsedNanos(), "world", target.name);
+    plugin.getLogger().info("Copied template for " + target.name + ": " + copy.describe());
+  }
+
+  /**
+   * Records a finished routine in the reset history, logs its breakdown and persists the history
+   * off the main thread.
+   */
+  private void completeRoutine(
+      WorldTimings routine,
+      long startedEpochMillis,
+      List<CompletableFuture<WorldTimings>> resets) {
+    routine.finish("complete");
+    List<ResetHistory.WorldEntry> worlds = new ArrayList<>(resets.size() + 1);
+    worlds.add(routine.toHistory());
+    for (CompletableFuture<WorldTimings> reset : resets) {
+      if (reset.isDone() && !reset.isCompletedExceptionally()) {
+        worlds.add(reset.join().toHistory());
+      }
+    }
+    long mainThreadNanos = 0L;
+    for (ResetHistory.WorldEntry world : worlds) {
+      mainThreadNanos += world.mainThreadNanos();
+    }
+    ResetHistory.Entry entry =
+        new ResetHistory.Entry(
+            startedEpochMillis, routine.totalNanos(), mainThreadNanos, List.copyOf(worlds));
+    resetHistory.add(entry);
+
+    StringBuilder summary =
+        new StringBuilder("World reset routine finished: ").append(entry.describe());
+    for (ResetHistory.WorldEntry world : worlds) {
+      summary.append(System.lineSeparator()).append("  ").append(world.describe());
+    }
+    plugin.getLogger().info(summary.toString());
 
-    Path worldFolder = worldContainer.toPath().resolve(target.name);
+    ResetHistory history = resetHistory;
+    Path historyFile = resetHistoryFile();
     Bukkit.getScheduler()
         .runTaskAsynchronously(
             plugin,
             () -> {
               try {
-                deleteDirectory(worldFolder);
-                if (target.templateDirectory != null) {
-                  Path templatePath = resolveTemplateDirectory(target.templateDirectory);
-                  if (Files.notExists(templatePath)) {
-                    plugin
-                        .getLogger()
-                        .warning(
-                            "Template directory missing for world "
-                                + target.name
-                                + ": "
-                                + templatePath);
-                  } else {
-                    copyDirectory(templatePath, worldFolder);
-                  }
-                }
-
-                Bukkit.getScheduler()
-                    .runTask(
-                        plugin,
-                        () -> {
-                          try {
-                            WorldCreator creator = WorldCreator.name(target.name);
-                            creationSettings.apply(creator);
-                            creator.createWorld();
-                            plugin
-                                .getLogger()
-                                .info("World reset completed for " + target.name);
-                          } catch (Exception creationException) {
-                            plugin
-                                .getLogger()
-                                .log(
-                                    Level.SEVERE,
-                                    "Failed to recreate world " + target.name,
-                                    creationException);
-                          } finally {
-                            future.complete(null);
-                          }
-                        });
-              } catch (Exception ex) {
-                plugin
-                    .getLogger()
-                    .log(
-                        Level.SEVERE,
-                        "Failed to prepare world folder for " + target.name,
-                        ex);
-                future.complete(null);
+                history.writeTo(historyFile);
+              } catch (IOException ex) {
+                plugin.getLogger().log(Level.WARNING, "Failed to save world reset history.", ex);
               }
             });
   }
 
-  private void returnPlayers(Map<Player, SavedLocation> toRestore) {
+  /**
+   * Describes the most recent reset routines.
+   *
+   * @param limit maximum number of routines to describe
+   * @return chat lines, newest routine first
+   */
+  public List<String> describeHistory(int limit) {
+    List<ResetHistory.Entry> entries = resetHistory.recent(limit);
+    if (entries.isEmpty()) {
+      return List.of(ChatColor.GRAY + "No world resets have been recorded yet.");
+    }
+    List<String> lines = new ArrayList<>();
+    for (ResetHistory.Entry entry : entries) {
+      lines.add(
+          ChatColor.GOLD
+              + HISTORY_TIME_FORMAT.format(Instant.ofEpochMilli(entry.startedEpochMillis()))
+              + ChatColor.GRAY
+              + " - "
+              + entry.describe());
+      for (ResetHistory.WorldEntry world : entry.worlds()) {
+        lines.add(ChatColor.GRAY + "  " + world.describe());
+      }
+    }
+    return lines;
+  }
+
+  private Path resetHistoryFile() {
+    return plugin.getDataFolder().toPath().resolve(HISTORY_FILE);
+  }
+
+  private static ExecutorService newResetExecutor(int parallelism) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        parallelism,
+        runnable -> {
+          Thread thread =
+              new Thread(runnable, "StreamBridge-WorldReset-" + threadIndex.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private void finishReset(TargetWorld target, WorldTimings timings, String outcome) {
+    timings.finish(outcome);
+    metrics.increment(Family.WORLD_RESETS, 1L, "world", target.name, "outcome", outcome);
+    metrics.observeNanos(Family.WORLD_RESET_DURATION, timings.totalNanos(), "world", target.name);
+    if ("success".equals(outcome)) {
+      metrics.setGauge(
+          Family.WORLD_RESET_LAST_SUCCESS,
+          System.currentTimeMillis() / 1000.0D,
+          "world",
+          target.name);
+    }
+  }
+
+  /**
+   * Sends evacuated players back. Destination chunks are loaded asynchronously before players are
+   * teleported a few per tick.
+   */
+  private CompletableFuture<Void> returnPlayers(
+      Map<Player, SavedLocation> toRestore, WorldTimings routine) {
+    Map<Player, Location> destinations = new LinkedHashMap<>();
+    Map<String, CompletableFuture<?>> chunkLoads = new HashMap<>();
     for (Map.Entry<Player, SavedLocation> entry : toRestore.entrySet()) {
       Player player = entry.getKey();
       if (!player.isOnline()) {
@@ -264,8 +961,96 @@ public class WorldResetScheduler {
       }
 
       SavedLocation savedLocation = entry.getValue();
-      savedLocation.teleport(player);
+      Location location = savedLocation.toLocation();
+      if (location == null) {
+        player.sendMessage(
+            String.format("World \"%s\" is unavailable after reset.", savedLocation.worldName()));
+        continue;
+      }
+      destinations.put(player, location);
+      int chunkX = location.getBlockX() >> 4;
+      int chunkZ = location.getBlockZ() >> 4;
+      chunkLoads.computeIfAbsent(
+          savedLocation.worldName() + ":" + chunkX + ":" + chunkZ,
+          key -> PaperLib.getChunkAtAsync(location.getWorld(), chunkX, chunkZ));
+    }
+    if (destinations.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    List<Player> players = new ArrayList<>(destinations.keySet());
+    return CompletableFuture.allOf(chunkLoads.values().toArray(new CompletableFuture<?>[0]))
+        .handle((ignored, throwable) -> null)
+        .thenCompose(
+            ignored ->
+                forEachInBatches(
+                    routine,
+                    players,
+                    teleportsPerTick(),
+                    player -> teleport(player, destinations.get(player))));
+  }
+
+  private CompletableFuture<Boolean> teleport(Player player, Location destination) {
+    if (!player.isOnline()) {
+      return CompletableFuture.completedFuture(false);
+    }
+    return PaperLib.teleportAsync(player, destination)
+        .exceptionally(throwable -> false)
+        .thenApply(
+            teleported -> {
+              if (!teleported) {
+                plugin
+                    .getLogger()
+                    .warning("Failed to teleport " + player.getName() + " during world reset.");
+              }
+              return teleported;
+            });
+  }
+
+  /**
+   * Applies {@code action} to at most {@code perTick} items per server tick, starting on the next
+   * tick. The returned future completes once every future produced by {@code action} has. The
+   * main-thread time each batch takes is added to {@code routine}.
+   */
+  private <T> CompletableFuture<Void> forEachInBatches(
+      WorldTimings routine,
+      List<T> items,
+      int perTick,
+      Function<T, CompletableFuture<?>> action) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    if (items.isEmpty()) {
+      done.complete(null);
+      return done;
     }
+
+    List<CompletableFuture<?>> pending = new ArrayList<>(items.size());
+    new BukkitRunnable() {
+      private int next;
+
+      @Override
+      public void run() {
+        long batchStartedNanos = System.nanoTime();
+        int end = Math.min(items.size(), next + perTick);
+        for (; next < end; next++) {
+          try {
+            pending.add(action.apply(items.get(next)));
+          } catch (RuntimeException ex) {
+            plugin.getLogger().log(Level.WARNING, "World reset batch step failed.", ex);
+          }
+        }
+        routine.addMainThreadNanos(System.nanoTime() - batchStartedNanos);
+        if (next >= items.size()) {
+          cancel();
+          CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+              .whenComplete((ignored, throwable) -> done.complete(null));
+        }
+      }
+    }.runTaskTimer(plugin, 1L, 1L);
+    return done;
+  }
+
+  private int teleportsPerTick() {
+    return Math.max(1, plugin.getConfig().getInt("world-reset.teleports-per-tick", 5));
   }
 
   private HoldingLocation loadHoldingLocation() {
@@ -308,12 +1093,33 @@ public class WorldResetScheduler {
       if (templateValue instanceof String && !((String) templateValue).isEmpty()) {
         template = (String) templateValue;
       }
-      targets.add(new TargetWorld(name, template));
+      String pack = null;
+      Object packValue = entry.get("template-pack");
+      if (packValue instanceof String && !((String) packValue).isEmpty()) {
+        pack = (String) packValue;
+      }
+      targets.add(new TargetWorld(name, template, pack));
     }
 
     return targets;
   }
 
+  /**
+   * Returns the template a target resets from: its pack when one is configured and built, otherwise
+   * its template directory.
+   */
+  private Path resolveTemplateSource(TargetWorld target) {
+    if (target.templatePack != null) {
+      Path pack = resolveTemplateDirectory(target.templatePack);
+      if (Files.isRegularFile(pack)) {
+        return pack;
+      }
+    }
+    return target.templateDirectory == null
+        ? null
+        : resolveTemplateDirectory(target.templateDirectory);
+  }
+
   private Path resolveTemplateDirectory(String configuredPath) {
     Path base = plugin.getDataFolder().toPath();
     Path templatePath = Path.of(configuredPath);
@@ -328,11 +1134,33 @@ public class WorldResetScheduler {
     return resolved;
   }
 
-  private void deleteDirectory(Path path) throws IOException {
+  /**
+   * Moves the old world folder into the trash so the copy can start straight away, falling back
+   * to an inline delete when the rename is not possible.
+   */
+  private long discardWorldFolder(TargetWorld target, Path worldFolder) throws IOException {
+    WorldTrash trash = worldTrash;
+    if (trash != null) {
+      try {
+        return trash.moveToTrash(worldFolder) ? 1L : 0L;
+      } catch (IOException ex) {
+        plugin
+            .getLogger()
+            .log(
+                Level.WARNING,
+                "Could not move " + target.name + " to the world trash; deleting in place.",
+                ex);
+      }
+    }
+    return deleteDirectory(worldFolder);
+  }
+
+  private long deleteDirectory(Path path) throws IOException {
     if (Files.notExists(path)) {
-      return;
+      return 0L;
     }
 
+    long[] deleted = {0L};
     Files.walkFileTree(
         path,
         new SimpleFileVisitor<>() {
@@ -340,6 +1168,7 @@ public class WorldResetScheduler {
           public FileVisitResult visitFile(
               Path file, BasicFileAttributes attrs) throws IOException {
             Files.delete(file);
+            deleted[0]++;
             return FileVisitResult.CONTINUE;
           }
 
@@ -352,33 +1181,76 @@ public class WorldResetScheduler {
             return FileVisitResult.CONTINUE;
           }
         });
+    return deleted[0];
   }
 
-  private void copyDirectory(Path source, Path destination) throws IOException {
-    if (Files.notExists(source)) {
-      return;
+  private boolean promoteStagedTemplate(
+      TargetWorld target, Path templatePath, Path worldFolder, WorldTimings timings) {
+    TemplateStager stager = templateStager;
+    if (stager == null) {
+      return false;
+    }
+    PhaseTimer promotePhase = PhaseTimer.start(timings, WorldResetPhaseEvent.PROMOTE);
+    boolean promoted = false;
+    try {
+      promoted = stager.promote(target.name, templatePath, worldFolder);
+    } catch (IOException ex) {
+      plugin
+          .getLogger()
+          .log(
+              Level.WARNING,
+              "Failed to swap in pre-staged template for " + target.name + "; copying instead.",
+              ex);
+    } finally {
+      promotePhase.finish(promoted ? 1L : 0L, promoted);
     }
+    return promoted;
+  }
 
-    Files.walkFileTree(
-        source,
-        new SimpleFileVisitor<>() {
-          @Override
-          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
-              throws IOException {
-            Files.createDirectories(destination.resolve(source.relativize(dir)));
-            return FileVisitResult.CONTINUE;
-          }
+  /** Prepares the next reset's template copy for {@code target} in the background. */
+  private void stageTemplateAsync(TargetWorld target) {
+    TemplateStager stager = templateStager;
+    if (stager == null || (target.templateDirectory == null && target.templatePack == null)) {
+      return;
+    }
+    Bukkit.getScheduler()
+        .runTaskAsynchronously(
+            plugin,
+            () -> {
+              WorldResetPhaseEvent stageEvent =
+                  WorldResetPhaseEvent.start(target.name, WorldResetPhaseEvent.STAGE);
+              boolean staged = false;
+              long files = 0L;
+              try {
+                Path templatePath = resolveTemplateSource(target);
+                if (templatePath == null || Files.notExists(templatePath)) {
+                  return;
+                }
+                TemplateCopier.CopyResult result = stager.ensureStaged(target.name, templatePath);
+                staged = true;
+                if (result != null) {
+                  files = result.files();
+                  plugin
+                      .getLogger()
+                      .info("Pre-staged template for " + target.name + ": " + result.describe());
+                }
+              } catch (IOException | RuntimeException ex) {
+                plugin
+                    .getLogger()
+                    .log(Level.WARNING, "Failed to pre-stage template for " + target.name, ex);
+              } finally {
+                stageEvent.finish(files, staged);
+              }
+            });
+  }
 
-          @Override
-          public FileVisitResult visitFile(
-              Path file, BasicFileAttributes attrs) throws IOException {
-            Files.copy(
-                file,
-                destination.resolve(source.relativize(file)),
-                StandardCopyOption.REPLACE_EXISTING);
-            return FileVisitResult.CONTINUE;
-          }
-        });
+  private TemplateCopier.CopyResult copyTemplate(Path source, Path destination)
+      throws IOException {
+    TemplateCopier copier = templateCopier;
+    if (copier == null) {
+      throw new IOException("World reset scheduler has been cancelled");
+    }
+    return copier.copy(source, destination);
   }
 
   private record WorldCreationSettings(
@@ -410,7 +1282,188 @@ public class WorldResetScheduler {
     }
   }
 
-  private record TargetWorld(String name, String templateDirectory) {
+  private record ChunkKey(World world, int x, int z) {}
+
+  /**
+   * Unloads a world's idle chunks within a per-tick budget until the reset takes the world. The
+   * loaded chunks are snapshotted into a cursor that is walked a few entries per tick, and only
+   * rescanned once it is exhausted, at most every {@link #RESCAN_INTERVAL_TICKS} ticks.
+   */
+  private static final class ChunkDrain extends BukkitRunnable {
+    private static final int RESCAN_INTERVAL_TICKS = 100;
+
+    private final String worldName;
+    private final int chunksPerTick;
+    private final boolean autoSave;
+    private final boolean keepSpawnInMemory;
+    private long[] candidates = new long[0];
+    private int cursor;
+    private int ticksUntilRescan;
+    private boolean committed;
+
+    private ChunkDrain(World world, int chunksPerTick) {
+      this.worldName = world.getName();
+      this.chunksPerTick = chunksPerTick;
+      this.autoSave = world.isAutoSave();
+      this.keepSpawnInMemory = world.getKeepSpawnInMemory();
+      world.setAutoSave(false);
+      world.setKeepSpawnInMemory(false);
+    }
+
+    @Override
+    public void run() {
+      World world = Bukkit.getWorld(worldName);
+      if (world == null) {
+        cancel();
+        return;
+      }
+      if (cursor >= candidates.length) {
+        if (--ticksUntilRescan > 0) {
+          return;
+        }
+        Chunk[] loaded = world.getLoadedChunks();
+        candidates = new long[loaded.length];
+        for (int i = 0; i < loaded.length; i++) {
+          candidates[i] = ((long) loaded[i].getX() << 32) | (loaded[i].getZ() & 0xFFFFFFFFL);
+        }
+        cursor = 0;
+        ticksUntilRescan = RESCAN_INTERVAL_TICKS;
+      }
+
+      int keepRadius = world.getViewDistance() + 1;
+      List<Player> players = world.getPlayers();
+      int budget = chunksPerTick;
+      while (budget > 0 && cursor < candidates.length) {
+        long candidate = candidates[cursor++];
+        int x = (int) (candidate >> 32);
+        int z = (int) candidate;
+        if (!world.isChunkLoaded(x, z)
+            || world.isChunkForceLoaded(x, z)
+            || isNearPlayer(x, z, players, keepRadius)) {
+          continue;
+        }
+        // Saved until the reset is committed, since a skipped reset keeps the world.
+        if (world.unloadChunk(x, z, !committed)) {
+          budget--;
+        }
+      }
+    }
+
+    /** Stops saving drained chunks; the world is about to be replaced. */
+    private void commit() {
+      committed = true;
+    }
+
+    private void restore() {
+      cancel();
+      World world = Bukkit.getWorld(worldName);
+      if (world != null) {
+        world.setAutoSave(autoSave);
+        world.setKeepSpawnInMemory(keepSpawnInMemory);
+      }
+    }
+
+    private static boolean isNearPlayer(int chunkX, int chunkZ, List<Player> players, int radius) {
+      for (Player player : players) {
+        Location location = player.getLocation();
+        if (Math.abs((location.getBlockX() >> 4) - chunkX) <= radius
+            && Math.abs((location.getBlockZ() >> 4) - chunkZ) <= radius) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private record UnloadedWorld(WorldCreationSettings creationSettings, Path folder) {}
+
+  /** Times one reset phase for both Flight Recorder and the reset history. */
+  private static final class PhaseTimer {
+    private final WorldTimings timings;
+    private final String phase;
+    private final boolean mainThread;
+    private final WorldResetPhaseEvent event;
+    private final long startedNanos;
+
+    private PhaseTimer(WorldTimings timings, String phase, boolean mainThread) {
+      this.timings = timings;
+      this.phase = phase;
+      this.mainThread = mainThread;
+      this.event = WorldResetPhaseEvent.start(timings.world(), phase);
+      this.startedNanos = System.nanoTime();
+    }
+
+    /** Starts a phase that finishes within the current task, counting main-thread time. */
+    static PhaseTimer start(WorldTimings timings, String phase) {
+      return new PhaseTimer(timings, phase, Bukkit.isPrimaryThread());
+    }
+
+    /**
+     * Starts a phase that spans several ticks. Only its wall-clock time is recorded here; the
+     * main-thread share is added per tick by {@link #forEachInBatches}.
+     */
+    static PhaseTimer startSpanning(WorldTimings timings, String phase) {
+      return new PhaseTimer(timings, phase, false);
+    }
+
+    void finish(long items, boolean succeeded) {
+      finish(items, 0L, succeeded);
+    }
+
+    void finish(long items, long bytes, boolean succeeded) {
+      event.finish(items, succeeded);
+      long elapsedNanos = System.nanoTime() - startedNanos;
+      timings.record(new ResetHistory.Phase(phase, elapsedNanos, items, bytes));
+      if (mainThread) {
+        timings.addMainThreadNanos(elapsedNanos);
+      }
+    }
+  }
+
+  /**
+   * Phase totals for one world, or for the routine-wide phases under {@code *}, collected while a
+   * reset runs on several threads.
+   */
+  private static final class WorldTimings {
+    private final String world;
+    private final long startedNanos = System.nanoTime();
+    private final Map<String, ResetHistory.Phase> phases = new LinkedHashMap<>();
+    private String outcome = "incomplete";
+    private long totalNanos;
+    private long mainThreadNanos;
+
+    WorldTimings(String world) {
+      this.world = world;
+    }
+
+    String world() {
+      return world;
+    }
+
+    synchronized void record(ResetHistory.Phase phase) {
+      phases.merge(phase.name(), phase, ResetHistory.Phase::plus);
+    }
+
+    synchronized void addMainThreadNanos(long nanos) {
+      mainThreadNanos += nanos;
+    }
+
+    synchronized void finish(String outcome) {
+      this.outcome = outcome;
+      this.totalNanos = System.nanoTime() - startedNanos;
+    }
+
+    synchronized long totalNanos() {
+      return totalNanos;
+    }
+
+    synchronized ResetHistory.WorldEntry toHistory() {
+      return new ResetHistory.WorldEntry(
+          world, outcome, totalNanos, mainThreadNanos, List.copyOf(phases.values()));
+    }
+  }
+
+  private record TargetWorld(String name, String templateDirectory, String templatePack) {
     private TargetWorld {
       Objects.requireNonNull(name, "name");
     }
@@ -418,9 +1471,8 @@ public class WorldResetScheduler {
 
   private record HoldingLocation(
       World world, double x, double y, double z, float yaw, float pitch) {
-    private void teleport(Player player) {
-      Location location = new Location(world, x, y, z, yaw, pitch);
-      player.teleport(location);
+    private Location toLocation() {
+      return new Location(world, x, y, z, yaw, pitch);
     }
   }
 
@@ -434,15 +1486,9 @@ public class WorldResetScheduler {
           location.getPitch());
     }
 
-    private void teleport(Player player) {
+    private Location toLocation() {
       World world = Bukkit.getWorld(worldName);
-      if (world == null) {
-        player.sendMessage(
-            String.format("World \"%s\" is unavailable after reset.", worldName));
-        return;
-      }
-      Location location = new Location(world, x, y, z, yaw, pitch);
-      player.teleport(location);
+      return world == null ? null : new Location(world, x, y, z, yaw, pitch);
     }
   }
 }
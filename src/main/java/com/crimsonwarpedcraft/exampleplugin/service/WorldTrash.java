@@ -0,0 +1,181 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Takes old world folders off the reset critical path.
+ *
+ * <p>{@link #moveToTrash(Path)} renames a folder into a trash directory on the same filesystem,
+ * which is a constant-time metadata operation. The trash is then purged by a single low priority
+ * thread that deletes at most a configured number of files per second, so the purge does not
+ * compete with the server or the next template copy for disk bandwidth.
+ */
+public final class WorldTrash implements AutoCloseable {
+
+  private static final int FILES_PER_BATCH = 64;
+
+  private final Path trashRoot;
+  private final Logger logger;
+  private final int filesPerSecond;
+  private final ExecutorService purger;
+  private final AtomicBoolean purgeQueued = new AtomicBoolean();
+  private final AtomicLong sequence = new AtomicLong();
+
+  /**
+   * Creates a trash directory manager.
+   *
+   * @param trashRoot directory that receives trashed folders; must share a filesystem with them
+   * @param filesPerSecond maximum files deleted per second by the purge thread
+   * @param logger logger for purge summaries and failures
+   */
+  public WorldTrash(Path trashRoot, int filesPerSecond, Logger logger) {
+    this.trashRoot = Objects.requireNonNull(trashRoot, "trashRoot");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.filesPerSecond = Math.max(FILES_PER_BATCH, filesPerSecond);
+    this.purger =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "StreamBridge-WorldTrash");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            });
+  }
+
+  /**
+   * Atomically renames {@code folder} into the trash and schedules a purge.
+   *
+   * @param folder folder to discard
+   * @return {@code true} if the folder existed and was moved
+   * @throws IOException if the rename is not possible, e.g. across filesystems
+   */
+  public boolean moveToTrash(Path folder) throws IOException {
+    if (Files.notExists(folder)) {
+      return false;
+    }
+    Files.createDirectories(trashRoot);
+    Path destination =
+        trashRoot.resolve(
+            folder.getFileName()
+                + "-"
+                + System.currentTimeMillis()
+                + "-"
+                + sequence.incrementAndGet());
+    Files.move(folder, destination, StandardCopyOption.ATOMIC_MOVE);
+    schedulePurge();
+    return true;
+  }
+
+  /** Queues a purge of everything currently in the trash, unless one is already queued. */
+  public void schedulePurge() {
+    if (purgeQueued.compareAndSet(false, true)) {
+      try {
+        purger.execute(this::purge);
+      } catch (RejectedExecutionException ex) {
+        purgeQueued.set(false);
+      }
+    }
+  }
+
+  /** Stops the purge thread. Anything left in the trash is purged on the next start. */
+  @Override
+  public void close() {
+    purger.shutdownNow();
+  }
+
+  private void purge() {
+    purgeQueued.set(false);
+    if (Files.notExists(trashRoot)) {
+      return;
+    }
+
+    long startedNanos = System.nanoTime();
+    long[] deleted = {0L};
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(trashRoot)) {
+      for (Path entry : entries) {
+        deleteThrottled(entry, deleted);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (IOException ex) {
+      logger.log(Level.WARNING, "Failed to purge world trash " + trashRoot, ex);
+      return;
+    }
+
+    if (deleted[0] > 0L) {
+      logger.info(
+          "Purged "
+              + deleted[0]
+              + " file(s) from world trash in "
+              + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos)
+              + " ms.");
+    }
+  }
+
+  private void deleteThrottled(Path root, long[] deleted)
+      throws IOException, InterruptedException {
+    long pauseMillis = FILES_PER_BATCH * 1000L / filesPerSecond;
+    try {
+      Files.walkFileTree(
+          root,
+          new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                throws IOException {
+              Files.delete(file);
+              deleted[0]++;
+              if (deleted[0] % FILES_PER_BATCH == 0L) {
+                pause(pauseMillis);
+              }
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc)
+                throws IOException {
+              if (exc != null) {
+                throw exc;
+              }
+              Files.delete(dir);
+              return FileVisitResult.CONTINUE;
+            }
+          });
+    } catch (InterruptedIoException ex) {
+      throw (InterruptedException) ex.getCause();
+    }
+  }
+
+  private static void pause(long millis) throws InterruptedIoException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      throw new InterruptedIoException(ex);
+    }
+  }
+
+  /** Carries an interrupt out of a file visitor, which may only throw {@link IOException}. */
+  private static final class InterruptedIoException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private InterruptedIoException(InterruptedException cause) {
+      super(cause);
+    }
+  }
+}
@@ -1,33 +1,96 @@
 package com.crimsonwarpedcraft.exampleplugin.service;
 
 import com.crimsonwarpedcraft.exampleplugin.ExamplePlugin;
+import com.crimsonwarpedcraft.exampleplugin.jfr.ListenerLineEvent;
+import com.crimsonwarpedcraft.exampleplugin.service.PluginMetrics.Family;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import org.bukkit.scheduler.BukkitTask;
 
 /**
  * Coordinates the lifecycle of the external Python chat listener process.
+ *
+ * <p>A local listener is started with a control channel on its stdin, so the stream and polling
+ * interval can be switched in place without restarting the interpreter. When warm standby is
+ * enabled, a second process is kept idle with its libraries already imported; if the active
+ * listener crashes, the standby is activated over its control channel and a new standby is
+ * spawned after a backoff. A listener that exits with status 0 is not replaced.
+ *
+ * <p>Lifecycle methods never wait for a process. {@link #stop()} signals the processes and returns
+ * a future that completes once they have exited; a {@link #start} that arrives while a stop is in
+ * progress is queued and runs when the stop completes, and only the most recent queued start is
+ * kept. The current {@link State} can be read without locking.
+ *
+ * <p>With the {@link Transport#UNIX_SOCKET} transport, the active listener sends events and
+ * receives control commands as length-prefixed frames on a {@link ListenerSocket} in the plugin
+ * data folder, and its stderr carries logs; stdout only carries events the listener could not send
+ * over a failed socket. A warm standby always uses stdio. When binary frames are enabled the
+ * listener is asked for {@link ListenerFrameCodec} frames, which are decoded on the reader thread
+ * and handed to the {@link ListenerEventHandler} already parsed.
  */
 public class YouTubeChatBridge {
 
+  /** Lifecycle state of the bridge. */
+  public enum State {
+    /** A listener process or poller is being started. */
+    STARTING,
+    /** A listener process or poller is active. */
+    RUNNING,
+    /** The listener was signalled to stop and has not exited yet. */
+    STOPPING,
+    /** Nothing is running. */
+    STOPPED
+  }
+
+  /** How events and control commands travel between the plugin and a local listener. */
+  public enum Transport {
+    /** Events as JSON lines on stdout, control commands as JSON lines on stdin. */
+    STDIO,
+    /** Length-prefixed JSON frames in both directions on a Unix domain socket. */
+    UNIX_SOCKET
+  }
+
+  private static final long STOP_GRACE_SECONDS = 5L;
+  private static final long STANDBY_STOP_GRACE_SECONDS = 2L;
+  private static final long FORCED_STOP_GRACE_SECONDS = 2L;
+  private static final int MAX_FAILOVERS = 3;
+  private static final long FAILOVER_BACKOFF_SECONDS = 2L;
+  private static final long STABLE_RUN_MILLIS = 60_000L;
+  // Only a multiplexed YouTube session starts the Streamlabs relay.
+  private static final String STREAMLABS_SESSION = "youtube";
+
   /** Callback that delivers listener output lines to the owning plugin. */
   @FunctionalInterface
   public interface ListenerMessageHandler {
@@ -40,16 +103,44 @@ public class YouTubeChatBridge {
     void handle(String message, String targetIgn);
   }
 
+  /** Callback that delivers events that arrive already decoded, e.g. from binary frames. */
+  @FunctionalInterface
+  public interface ListenerEventHandler {
+    /**
+     * Handles a single decoded listener event.
+     *
+     * @param event the event, shaped like the equivalent JSON payload
+     * @param targetIgn the configured target player, if any
+     */
+    void handle(JsonObject event, String targetIgn);
+  }
+
   private final ExamplePlugin plugin;
   private final String platformDisplayName;
   private final ListenerMessageHandler messageHandler;
   private final String threadName;
-  private Process process;
+  private final String metricsLabel;
+  private final AtomicReference<State> state = new AtomicReference<>(State.STOPPED);
+  private volatile Process process;
+  private BufferedWriter control;
+  private Process standby;
+  private BufferedWriter standbyControl;
+  private LaunchSpec launch;
+  private volatile Transport transport = Transport.STDIO;
+  private volatile boolean binaryFrames;
+  private volatile ListenerEventHandler eventHandler;
+  private ListenerSocket socket;
+  private volatile String targetIgn;
   private ExecutorService outputReader;
   private volatile HttpClient httpClient;
   private BukkitTask pollingTask;
   private final AtomicBoolean pollInFlight = new AtomicBoolean(false);
   private int consecutivePollFailures;
+  private CompletableFuture<Void> stopFuture = CompletableFuture.completedFuture(null);
+  private Runnable pendingStart;
+  private int failovers;
+  private long activeSinceMillis;
+  private final Set<Process> exiting = ConcurrentHashMap.newKeySet();
 
   /**
    * Creates a new chat bridge instance.
@@ -64,10 +155,41 @@ public class YouTubeChatBridge {
     this.platformDisplayName = Objects.requireNonNull(platformDisplayName, "platformDisplayName");
     this.messageHandler = Objects.requireNonNull(messageHandler, "messageHandler");
     this.threadName = platformDisplayName.replaceAll("\\s+", "") + "ChatBridge-Output";
+    this.metricsLabel = platformDisplayName.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Selects the transport used by local listeners started from now on.
+   *
+   * @param transport the transport
+   */
+  public void setTransport(Transport transport) {
+    this.transport = Objects.requireNonNull(transport, "transport");
   }
 
   /**
-   * Starts the external process with the provided configuration.
+   * Selects whether local listeners started from now on are asked for binary event frames. Only
+   * used with the {@link Transport#UNIX_SOCKET} transport.
+   *
+   * @param binaryFrames {@code true} to request {@link ListenerFrameCodec} frames
+   */
+  public void setBinaryFrames(boolean binaryFrames) {
+    this.binaryFrames = binaryFrames;
+  }
+
+  /**
+   * Sets the callback for decoded events. Without one, decoded events are turned back into JSON
+   * text and passed to the message handler.
+   *
+   * @param eventHandler the callback, or {@code null}
+   */
+  public void setEventHandler(ListenerEventHandler eventHandler) {
+    this.eventHandler = eventHandler;
+  }
+
+  /**
+   * Starts the external process with the provided configuration, replacing any running listener.
+   * If the previous listener is still stopping, the start is deferred until it has exited.
    *
    * @param pythonExecutable path to the Python interpreter
    * @param listenerScript script to execute
@@ -75,10 +197,9 @@ public class YouTubeChatBridge {
    * @param pollingIntervalSeconds polling interval for placeholder mode
    * @param targetIgn Minecraft IGN that should receive messages
    * @param streamlabsToken Streamlabs Socket API token used to receive subscriber events
+   * @param listenerUrl external listener to poll instead of starting a local process
+   * @param warmStandby whether to keep an idle standby process for fast failover
    */
-  @SuppressFBWarnings(
-      value = "COMMAND_INJECTION",
-      justification = "Arguments passed directly without shell")
   public synchronized void start(
       String pythonExecutable,
       File listenerScript,
@@ -86,13 +207,95 @@ public class YouTubeChatBridge {
       int pollingIntervalSeconds,
       String targetIgn,
       String streamlabsToken,
-      String listenerUrl) {
-    stop();
+      String listenerUrl,
+      boolean warmStandby) {
+    requestStart(
+        targetIgn,
+        () ->
+            launchListener(
+                pythonExecutable,
+                listenerScript,
+                streamIdentifier,
+                pollingIntervalSeconds,
+                streamlabsToken,
+                listenerUrl,
+                warmStandby));
+  }
+
+  /**
+   * Starts one local listener process that runs a session per platform and tags every line with
+   * its {@code platform}, replacing any running listener. Lines are delivered to the handler
+   * without a target player; the handler resolves the target per platform.
+   *
+   * @param pythonExecutable path to the Python interpreter
+   * @param listenerScript script to execute
+   * @param sessions stream identifier per platform id, e.g. {@code youtube} or {@code tiktok}
+   * @param pollingIntervalSeconds polling interval for placeholder mode
+   * @param streamlabsToken Streamlabs Socket API token used to receive subscriber events
+   */
+  public synchronized void startMultiplexed(
+      String pythonExecutable,
+      File listenerScript,
+      Map<String, String> sessions,
+      int pollingIntervalSeconds,
+      String streamlabsToken) {
+    List<String> sessionArguments = sessionArguments(sessions);
+    requestStart(
+        null,
+        () ->
+            launchProcess(
+                new LaunchSpec(
+                    pythonExecutable,
+                    listenerScript,
+                    "",
+                    pollingIntervalSeconds,
+                    streamlabsToken,
+                    false,
+                    sessionArguments,
+                    null,
+                    false)));
+  }
+
+  private void requestStart(String targetIgn, Runnable launcher) {
+    pendingStart = () -> launch(targetIgn, launcher);
+    if (state.get() != State.STOPPING) {
+      beginStop();
+    }
+    // An already stopped bridge starts right away; otherwise the stop completion runs it.
+    runPendingStart();
+  }
+
+  private void runPendingStart() {
+    if (state.get() != State.STOPPED || pendingStart == null) {
+      return;
+    }
+    Runnable start = pendingStart;
+    pendingStart = null;
+    start.run();
+  }
+
+  private void launch(String targetIgn, Runnable launcher) {
+    state.set(State.STARTING);
+    this.targetIgn = targetIgn;
+    launcher.run();
+    if (state.get() == State.STARTING) {
+      state.set(process != null || pollingTask != null ? State.RUNNING : State.STOPPED);
+    }
+  }
+
+  private void launchListener(
+      String pythonExecutable,
+      File listenerScript,
+      String streamIdentifier,
+      int pollingIntervalSeconds,
+      String streamlabsToken,
+      String listenerUrl,
+      boolean warmStandby) {
 
     boolean useExternalListener = listenerUrl != null && !listenerUrl.isBlank();
 
     if (useExternalListener) {
-      startHttpPolling(listenerUrl, pollingIntervalSeconds, targetIgn);
+      startHttpPolling(listenerUrl, pollingIntervalSeconds);
       return;
     }
 
@@ -103,6 +306,21 @@ public class YouTubeChatBridge {
       return;
     }
 
+    launchProcess(
+        new LaunchSpec(
+            pythonExecutable,
+            listenerScript,
+            streamIdentifier,
+            pollingIntervalSeconds,
+            streamlabsToken,
+            warmStandby,
+            List.of(),
+            null,
+            false));
+  }
+
+  private void launchProcess(LaunchSpec spec) {
+    File listenerScript = spec.listenerScript();
     if (listenerScript == null || !listenerScript.exists()) {
       String scriptPath =
           listenerScript == null ? "<unspecified>" : listenerScript.getAbsolutePath();
@@ -115,49 +333,465 @@ public class YouTubeChatBridge {
       return;
     }
 
-    List<String> command = new ArrayList<>();
-    command.add(pythonExecutable);
-    command.add(listenerScript.getAbsolutePath());
-    command.add("--stream");
-    command.add(streamIdentifier);
-    command.add("--interval");
-    command.add(Integer.toString(pollingIntervalSeconds));
-    ProcessBuilder processBuilder = new ProcessBuilder(command);
-    processBuilder.redirectErrorStream(true);
-    processBuilder.directory(listenerScript.getParentFile());
-    if (streamlabsToken != null && !streamlabsToken.isBlank()) {
-      processBuilder.environment().put("STREAMLABS_SOCKET_TOKEN", streamlabsToken);
+    launch = spec;
+    if (transport == Transport.UNIX_SOCKET) {
+      Path socketPath =
+          plugin.getDataFolder().toPath().resolve("listener-" + metricsLabel + ".sock");
+      try {
+        socket = ListenerSocket.bind(socketPath);
+        launch = spec.withSocket(socketPath, binaryFrames);
+      } catch (IOException | UnsupportedOperationException e) {
+        plugin
+            .getLogger()
+            .log(
+                Level.WARNING,
+                "Unable to bind " + platformDisplayName + " listener socket; using stdio instead",
+                e);
+      }
     }
-
     try {
-      process = processBuilder.start();
+      process = launch.processBuilder(false).start();
+      control = controlWriter(process);
       plugin.getLogger().info("Started " + platformDisplayName + " chat listener process.");
-      startOutputReader(process, targetIgn);
+      recordStarted("process");
+      failovers = 0;
+      activeSinceMillis = System.currentTimeMillis();
+      startOutputReader(process);
+      if (socket != null) {
+        startErrorReader(process);
+        startSocketReader(socket);
+      }
+      if (spec.warmStandby()) {
+        spawnStandby();
+      }
     } catch (IOException e) {
       String failureMessage = "Failed to start " + platformDisplayName + " chat listener process";
       plugin
           .getLogger()
           .log(Level.SEVERE, failureMessage, e);
-      stop();
+      beginStop();
+    }
+  }
+
+  private void spawnStandby() {
+    try {
+      standby = launch.processBuilder(true).start();
+      standbyControl = controlWriter(standby);
+      startOutputReader(standby);
+    } catch (IOException e) {
+      plugin
+          .getLogger()
+          .log(Level.WARNING, "Failed to start " + platformDisplayName + " standby listener", e);
+      standby = null;
+      standbyControl = null;
+    }
+  }
+
+  /**
+   * Hands over to the warm standby after the active listener crashed. Does nothing if the listener
+   * was stopped or replaced meanwhile. A listener that exits with status 0 has finished, e.g.
+   * because its stream ended, and is not replaced. At most {@value #MAX_FAILOVERS} failovers run
+   * back to back; the count resets once a listener has stayed up for a minute, and each new
+   * standby waits twice as long as the previous one before it is spawned.
+   */
+  private synchronized void failOver(Process exited, int exitCode) {
+    if (process != exited) {
+      return;
+    }
+    process = null;
+    control = null;
+    // A promoted standby talks over stdio.
+    closeSocket();
+    if (exitCode == 0) {
+      plugin
+          .getLogger()
+          .info(platformDisplayName + " chat listener finished; it will not be restarted.");
+      beginStop();
+      return;
+    }
+    if (System.currentTimeMillis() - activeSinceMillis >= STABLE_RUN_MILLIS) {
+      failovers = 0;
+    }
+    if (failovers >= MAX_FAILOVERS) {
+      plugin
+          .getLogger()
+          .warning(
+              platformDisplayName
+                  + " chat listener exited with status "
+                  + exitCode
+                  + " after "
+                  + failovers
+                  + " failovers in a row; giving up.");
+      beginStop();
+      return;
+    }
+    if (standby == null || !standby.isAlive()) {
+      plugin
+          .getLogger()
+          .warning(platformDisplayName + " chat listener exited and no standby is available.");
+      beginStop();
+      return;
+    }
+
+    Process promoted = standby;
+    BufferedWriter promotedControl = standbyControl;
+    standby = null;
+    standbyControl = null;
+    if (!sendControl(promotedControl, intervalCommand(launch.pollingIntervalSeconds()))
+        || !sendControl(promotedControl, streamCommand(launch.streamIdentifier()))) {
+      promoted.destroyForcibly();
+      plugin
+          .getLogger()
+          .warning(platformDisplayName + " standby listener could not be activated.");
+      beginStop();
+      return;
     }
+    process = promoted;
+    control = promotedControl;
+    failovers++;
+    activeSinceMillis = System.currentTimeMillis();
+    plugin
+        .getLogger()
+        .warning(
+            platformDisplayName
+                + " chat listener exited with status "
+                + exitCode
+                + "; activated the warm standby listener.");
+    recordStarted("standby");
+    long delay = FAILOVER_BACKOFF_SECONDS << (failovers - 1);
+    CompletableFuture.delayedExecutor(delay, TimeUnit.SECONDS)
+        .execute(() -> respawnStandby(promoted));
+  }
+
+  private synchronized void respawnStandby(Process promoted) {
+    if (process == promoted && promoted.isAlive() && standby == null && launch != null) {
+      spawnStandby();
+    }
+  }
+
+  /**
+   * Switches the running local listener to another stream and polling interval without
+   * restarting it.
+   *
+   * @param streamIdentifier new stream identifier
+   * @param pollingIntervalSeconds new polling interval
+   * @return {@code false} if no local listener is running or it could not be reached, in which
+   *     case the caller should restart the listener instead
+   */
+  public synchronized boolean switchStream(String streamIdentifier, int pollingIntervalSeconds) {
+    if (process == null || !process.isAlive() || control == null || launch == null) {
+      return false;
+    }
+    if (pollingIntervalSeconds != launch.pollingIntervalSeconds()
+        && !sendActiveControl(intervalCommand(pollingIntervalSeconds))) {
+      return false;
+    }
+    if (!streamIdentifier.equals(launch.streamIdentifier())
+        && !sendActiveControl(streamCommand(streamIdentifier))) {
+      return false;
+    }
+    launch = launch.withStream(streamIdentifier, pollingIntervalSeconds);
+    return true;
+  }
+
+  /**
+   * Starts and stops single sessions of the running multiplexed listener over its control channel,
+   * leaving the other sessions running. A session whose stream changed is started again with the
+   * new stream. The Streamlabs relay stays as the process was launched.
+   *
+   * @param sessions stream identifier per platform id that should be running; must not be empty
+   * @param pollingIntervalSeconds polling interval for placeholder mode
+   * @param streamlabsToken Streamlabs token a newly started YouTube session would need
+   * @return {@code false} if no multiplexed listener is running, a new YouTube session needs a
+   *     Streamlabs token the process was not launched with, or the listener could not be reached;
+   *     the caller should restart the listener instead
+   */
+  public synchronized boolean updateSessions(
+      Map<String, String> sessions, int pollingIntervalSeconds, String streamlabsToken) {
+    if (state.get() != State.RUNNING
+        || process == null
+        || !process.isAlive()
+        || control == null
+        || launch == null
+        || launch.sessions().isEmpty()
+        || sessions.isEmpty()) {
+      return false;
+    }
+    List<String> desired = sessionArguments(sessions);
+    boolean addsYoutube =
+        sessions.containsKey(STREAMLABS_SESSION)
+            && sessionStream(launch.sessions(), STREAMLABS_SESSION) == null;
+    if (addsYoutube
+        && !Objects.equals(blankToEmpty(streamlabsToken), blankToEmpty(launch.streamlabsToken()))) {
+      return false;
+    }
+    if (pollingIntervalSeconds != launch.pollingIntervalSeconds()
+        && !sendActiveControl(intervalCommand(pollingIntervalSeconds))) {
+      return false;
+    }
+    for (String running : launch.sessions()) {
+      String platform = running.substring(0, running.indexOf('='));
+      if (!sessions.containsKey(platform)
+          && !sendActiveControl(sessionCommand(platform, "stop", null))) {
+        return false;
+      }
+    }
+    for (Map.Entry<String, String> session : sessions.entrySet()) {
+      String platform = session.getKey();
+      if (!session.getValue().equals(sessionStream(launch.sessions(), platform))
+          && !sendActiveControl(sessionCommand(platform, "start", session.getValue()))) {
+        return false;
+      }
+    }
+    launch = launch.withSessions(desired, pollingIntervalSeconds);
+    return true;
+  }
+
+  private static List<String> sessionArguments(Map<String, String> sessions) {
+    List<String> arguments = new ArrayList<>(sessions.size());
+    sessions.forEach((platform, stream) -> arguments.add(platform + "=" + stream));
+    return List.copyOf(arguments);
+  }
+
+  private static String sessionStream(List<String> sessionArguments, String platform) {
+    String prefix = platform + "=";
+    for (String argument : sessionArguments) {
+      if (argument.startsWith(prefix)) {
+        return argument.substring(prefix.length());
+      }
+    }
+    return null;
+  }
+
+  private static String blankToEmpty(String value) {
+    return value == null || value.isBlank() ? "" : value;
   }
 
-  private void startOutputReader(Process process, String targetIgn) {
-    outputReader =
-        Executors.newSingleThreadExecutor(r -> new Thread(r, threadName));
-    outputReader.submit(
+  private static BufferedWriter controlWriter(Process process) {
+    return new BufferedWriter(
+        new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+  }
+
+  private static String streamCommand(String streamIdentifier) {
+    JsonObject command = new JsonObject();
+    command.addProperty("op", "stream");
+    command.addProperty("stream", streamIdentifier);
+    return command.toString();
+  }
+
+  private static String intervalCommand(int pollingIntervalSeconds) {
+    JsonObject command = new JsonObject();
+    command.addProperty("op", "interval");
+    command.addProperty("interval", pollingIntervalSeconds);
+    return command.toString();
+  }
+
+  private static String sessionCommand(String platform, String action, String stream) {
+    JsonObject command = new JsonObject();
+    command.addProperty("op", "session");
+    command.addProperty("platform", platform);
+    command.addProperty("action", action);
+    if (stream != null) {
+      command.addProperty("stream", stream);
+    }
+    return command.toString();
+  }
+
+  private boolean sendActiveControl(String command) {
+    if (socket != null && socket.isConnected()) {
+      return socket.writeFrame(command);
+    }
+    return sendControl(control, command);
+  }
+
+  private boolean sendControl(BufferedWriter writer, String command) {
+    try {
+      writer.write(command);
+      writer.newLine();
+      writer.flush();
+      return true;
+    } catch (IOException e) {
+      plugin
+          .getLogger()
+          .log(Level.FINE, "Failed to send control command to " + platformDisplayName, e);
+      return false;
+    }
+  }
+
+  private static void closeQuietly(BufferedWriter writer) {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.close();
+    } catch (IOException ignored) {
+      // The process is being torn down; a broken pipe here is expected.
+    }
+  }
+
+  private void closeSocket() {
+    if (socket != null) {
+      socket.close();
+      socket = null;
+    }
+  }
+
+  private ExecutorService readers() {
+    if (outputReader == null) {
+      outputReader =
+          Executors.newCachedThreadPool(
+              r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return outputReader;
+  }
+
+  private void deliver(String message, String source) {
+    plugin
+        .getMetrics()
+        .increment(Family.LISTENER_LINES, 1L, "platform", metricsLabel, "source", source);
+    ListenerLineEvent.emit(metricsLabel, source, message.length());
+    final String target = targetIgn;
+    plugin.getServer()
+        .getScheduler()
+        .runTask(
+            plugin,
+            () -> messageHandler.handle(message, target));
+  }
+
+  private void startSocketReader(ListenerSocket listenerSocket) {
+    readers()
+        .submit(
+            () -> {
+              try {
+                listenerSocket.accept();
+                boolean first = true;
+                ByteBuffer frame;
+                while ((frame = listenerSocket.readFrameBytes()) != null) {
+                  try {
+                    if (ListenerFrameCodec.isBinary(frame)) {
+                      deliverBinary(frame);
+                    } else {
+                      String text =
+                          new String(
+                              frame.array(), 0, frame.remaining(), StandardCharsets.UTF_8);
+                      if (!first || !negotiateFrameFormat(listenerSocket, text)) {
+                        deliver(text, "socket");
+                      }
+                    }
+                  } catch (RuntimeException e) {
+                    // One bad frame must not stop the reader for the rest of the session.
+                    plugin
+                        .getLogger()
+                        .log(
+                            Level.WARNING,
+                            "Failed to handle " + platformDisplayName + " listener frame",
+                            e);
+                  }
+                  first = false;
+                }
+              } catch (ClosedChannelException closed) {
+                // Closed by stop() or after the listener exited.
+              } catch (IOException e) {
+                plugin
+                    .getLogger()
+                    .log(
+                        Level.WARNING,
+                        "Error while reading " + platformDisplayName + " listener socket",
+                        e);
+              }
+            });
+  }
+
+  /**
+   * Handles the listener's hello frame, asking it to fall back to JSON if it offers a binary
+   * schema this plugin does not understand.
+   *
+   * @return {@code false} if {@code text} is not a hello frame and must be delivered as an event
+   */
+  private boolean negotiateFrameFormat(ListenerSocket listenerSocket, String text) {
+    JsonObject hello;
+    try {
+      JsonElement parsed = JsonParser.parseString(text);
+      if (!parsed.isJsonObject()) {
+        return false;
+      }
+      hello = parsed.getAsJsonObject();
+    } catch (JsonSyntaxException e) {
+      return false;
+    }
+    JsonElement type = hello.get("type");
+    if (type == null || !type.isJsonPrimitive() || !"hello".equals(type.getAsString())) {
+      return false;
+    }
+    JsonElement format = hello.get("format");
+    JsonElement schema = hello.get("schema");
+    boolean binary =
+        format != null && format.isJsonPrimitive() && "binary".equals(format.getAsString());
+    boolean supported =
+        schema != null
+            && schema.isJsonPrimitive()
+            && schema.getAsJsonPrimitive().isNumber()
+            && schema.getAsInt() == ListenerFrameCodec.SCHEMA_VERSION;
+    if (binary && !supported) {
+      plugin
+          .getLogger()
+          .warning(
+              platformDisplayName
+                  + " listener offered binary frame schema "
+                  + schema
+                  + "; requesting JSON frames instead.");
+      JsonObject command = new JsonObject();
+      command.addProperty("op", "format");
+      command.addProperty("format", "json");
+      listenerSocket.writeFrame(command.toString());
+    }
+    return true;
+  }
+
+  private void deliverBinary(ByteBuffer frame) {
+    int length = frame.remaining();
+    JsonObject event;
+    try {
+      event = ListenerFrameCodec.decode(frame);
+    } catch (IllegalArgumentException e) {
+      plugin
+          .getLogger()
+          .log(Level.WARNING, "Dropped malformed " + platformDisplayName + " listener frame", e);
+      return;
+    }
+    plugin
+        .getMetrics()
+        .increment(Family.LISTENER_LINES, 1L, "platform", metricsLabel, "source", "binary");
+    ListenerLineEvent.emit(metricsLabel, "binary", length);
+    final String target = targetIgn;
+    final ListenerEventHandler handler = eventHandler;
+    plugin
+        .getServer()
+        .getScheduler()
+        .runTask(
+            plugin,
+            () -> {
+              if (handler != null) {
+                handler.handle(event, target);
+              } else {
+                messageHandler.handle(event.toString(), target);
+              }
+            });
+  }
+
+  private void startOutputReader(Process process) {
+    readers().submit(
         () -> {
           try (BufferedReader reader =
               new BufferedReader(
                   new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
             String line;
             while ((line = reader.readLine()) != null) {
-              final String message = line;
-              plugin.getServer()
-                  .getScheduler()
-                  .runTask(
-                      plugin,
-                      () -> messageHandler.handle(message, targetIgn));
+              deliver(line, "stdout");
             }
           } catch (IOException e) {
             plugin
@@ -166,14 +800,94 @@ public class YouTubeChatBridge {
                     Level.WARNING,
                     "Error while reading " + platformDisplayName + " chat bridge output",
                     e);
+          } finally {
+            onOutputClosed(process);
           }
         });
   }
 
   /**
-   * Stops the external listener process if it is currently running.
+   * Logs the listener's stderr, which carries its log payloads and tracebacks once events travel
+   * over the socket. These lines are never dispatched as events.
    */
-  public synchronized void stop() {
+  private void startErrorReader(Process process) {
+    readers().submit(
+        () -> {
+          try (BufferedReader reader =
+              new BufferedReader(
+                  new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+              if (!line.isBlank()) {
+                plugin
+                    .getLogger()
+                    .log(stderrLevel(line), platformDisplayName + " listener: " + line);
+              }
+            }
+          } catch (IOException e) {
+            // The process exited or was destroyed; stdout reports the exit.
+          }
+        });
+  }
+
+  private static Level stderrLevel(String line) {
+    try {
+      JsonElement parsed = JsonParser.parseString(line);
+      if (parsed.isJsonObject()) {
+        JsonElement type = parsed.getAsJsonObject().get("type");
+        if (type != null && type.isJsonPrimitive() && "error".equals(type.getAsString())) {
+          return Level.SEVERE;
+        }
+      }
+    } catch (JsonSyntaxException e) {
+      // Plain text, e.g. a traceback.
+    }
+    return Level.INFO;
+  }
+
+  private void onOutputClosed(Process exited) {
+    boolean active;
+    synchronized (this) {
+      active = process == exited;
+    }
+    if (!active) {
+      return;
+    }
+    // Stdout closes just before the process exits; wait for its exit status.
+    exited
+        .onExit()
+        .thenAccept(
+            ended -> {
+              plugin
+                  .getMetrics()
+                  .setGauge(Family.LISTENER_RUNNING, 0.0D, "platform", metricsLabel);
+              failOver(ended, ended.exitValue());
+            });
+  }
+
+  /**
+   * Stops the external listener process if it is currently running and drops any deferred start.
+   * Does not wait for the process to exit.
+   *
+   * @return a future that completes once every listener process has exited
+   */
+  public synchronized CompletableFuture<Void> stop() {
+    pendingStart = null;
+    return beginStop();
+  }
+
+  private CompletableFuture<Void> beginStop() {
+    if (state.get() == State.STOPPING) {
+      return stopFuture;
+    }
+    boolean wasActive = process != null || pollingTask != null;
+    // Closing stdin asks the listeners to exit on their own before they are destroyed.
+    closeQuietly(control);
+    closeQuietly(standbyControl);
+    closeSocket();
+    control = null;
+    standbyControl = null;
+    launch = null;
     if (outputReader != null) {
       outputReader.shutdownNow();
       outputReader = null;
@@ -188,33 +902,107 @@ public class YouTubeChatBridge {
     pollInFlight.set(false);
     consecutivePollFailures = 0;
 
-    if (process != null) {
-      process.destroy();
-      try {
-        if (!process.waitFor(5, TimeUnit.SECONDS)) {
-          String terminationWarning =
-              platformDisplayName + " chat listener did not exit; forcing termination.";
-          plugin.getLogger().warning(terminationWarning);
-          process.destroyForcibly();
-          process.waitFor(2, TimeUnit.SECONDS);
-        }
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
+    List<CompletableFuture<Void>> exits = new ArrayList<>(2);
+    Process stopping = process;
+    process = null;
+    if (stopping != null) {
+      exits.add(terminate(stopping, STOP_GRACE_SECONDS));
+    }
+    if (standby != null) {
+      exits.add(terminate(standby, STANDBY_STOP_GRACE_SECONDS));
+      standby = null;
+    }
+
+    if (!wasActive && exits.isEmpty()) {
+      state.set(State.STOPPED);
+      return stopFuture;
+    }
+    state.set(State.STOPPING);
+    CompletableFuture<Void> future =
+        CompletableFuture.allOf(exits.toArray(new CompletableFuture<?>[0]));
+    stopFuture = future;
+    future.whenComplete((ignored, error) -> onStopped(stopping != null, wasActive));
+    return future;
+  }
+
+  /**
+   * Signals {@code target} to exit and escalates to a forced kill after {@code graceSeconds}.
+   */
+  private CompletableFuture<Void> terminate(Process target, long graceSeconds) {
+    exiting.add(target);
+    target.destroy();
+    return target
+        .onExit()
+        .orTimeout(graceSeconds, TimeUnit.SECONDS)
+        .exceptionallyCompose(
+            timeout -> {
+              String warning =
+                  platformDisplayName + " chat listener did not exit; forcing termination.";
+              plugin.getLogger().warning(warning);
+              target.destroyForcibly();
+              return target
+                  .onExit()
+                  .completeOnTimeout(target, FORCED_STOP_GRACE_SECONDS, TimeUnit.SECONDS);
+            })
+        .thenAccept(exited -> exiting.remove(target));
+  }
+
+  /**
+   * Forcibly kills every listener process that was signalled to stop and is still running. Used
+   * when the plugin is disabled and the escalation in {@link #stop()} might not get to run.
+   */
+  public void destroyRemaining() {
+    for (Process target : exiting) {
+      if (target.isAlive()) {
+        target.destroyForcibly();
       }
-      process = null;
+    }
+    exiting.clear();
+  }
+
+  private synchronized void onStopped(boolean hadProcess, boolean wasActive) {
+    state.set(State.STOPPED);
+    if (hadProcess) {
       plugin.getLogger().info("Stopped " + platformDisplayName + " chat listener process.");
     }
+    if (wasActive) {
+      PluginMetrics metrics = plugin.getMetrics();
+      metrics.increment(Family.LISTENER_STOPS, 1L, "platform", metricsLabel);
+      metrics.setGauge(Family.LISTENER_RUNNING, 0.0D, "platform", metricsLabel);
+    }
+    runPendingStart();
+  }
+
+  private void recordStarted(String mode) {
+    PluginMetrics metrics = plugin.getMetrics();
+    metrics.increment(Family.LISTENER_STARTS, 1L, "platform", metricsLabel, "mode", mode);
+    metrics.setGauge(Family.LISTENER_RUNNING, 1.0D, "platform", metricsLabel);
+  }
+
+  /**
+   * Changes the player that receives relayed messages without restarting the listener.
+   *
+   * @param targetIgn the new target player, or {@code null} to broadcast to all recipients
+   */
+  public void updateTargetIgn(String targetIgn) {
+    this.targetIgn = targetIgn;
   }
 
-  /** Returns {@code true} if the listener process is alive. */
-  public synchronized boolean isRunning() {
-    if (process != null) {
-      return process.isAlive();
+  /** Returns {@code true} if the listener process or poller is active. Never blocks. */
+  public boolean isRunning() {
+    if (state.get() != State.RUNNING) {
+      return false;
     }
-    return pollingTask != null;
+    Process current = process;
+    return current == null || current.isAlive();
+  }
+
+  /** Returns the current lifecycle state. Never blocks. */
+  public State state() {
+    return state.get();
   }
 
-  private void startHttpPolling(String listenerUrl, int pollingIntervalSeconds, String targetIgn) {
+  private void startHttpPolling(String listenerUrl, int pollingIntervalSeconds) {
     URI endpoint;
     try {
       endpoint = URI.create(listenerUrl);
@@ -242,7 +1030,7 @@ public class YouTubeChatBridge {
     consecutivePollFailures = 0;
     pollInFlight.set(false);
 
-    Runnable poller = () -> pollEndpoint(endpoint, targetIgn);
+    Runnable poller = () -> pollEndpoint(endpoint);
 
     long intervalTicks = Math.max(20L, pollingIntervalSeconds * 20L);
     double intervalSeconds = intervalTicks / 20.0d;
@@ -256,6 +1044,7 @@ public class YouTubeChatBridge {
               .getServer()
               .getScheduler()
               .runTaskTimerAsynchronously(plugin, poller, 0L, intervalTicks);
+      recordStarted("http");
       plugin
           .getLogger()
           .info(
@@ -274,7 +1063,7 @@ public class YouTubeChatBridge {
     }
   }
 
-  private void pollEndpoint(URI endpoint, String targetIgn) {
+  private void pollEndpoint(URI endpoint) {
     HttpClient client = httpClient;
     if (client == null) {
       return;
@@ -284,6 +1073,9 @@ public class YouTubeChatBridge {
       return;
     }
 
+    PluginMetrics metrics = plugin.getMetrics();
+    String outcome = "io_error";
+    long startedNanos = System.nanoTime();
     try {
       HttpRequest request =
           HttpRequest.newBuilder(endpoint)
@@ -297,11 +1089,13 @@ public class YouTubeChatBridge {
       int status = response.statusCode();
       if (status == 204) {
         consecutivePollFailures = 0;
+        outcome = "empty";
         return;
       }
 
       if (status >= 200 && status < 300) {
         consecutivePollFailures = 0;
+        outcome = "ok";
         String body = response.body();
         if (body == null || body.isBlank()) {
           return;
@@ -311,14 +1105,17 @@ public class YouTubeChatBridge {
           if (line == null || line.isBlank()) {
             continue;
           }
+          metrics.increment(Family.LISTENER_LINES, 1L, "platform", metricsLabel, "source", "http");
+          ListenerLineEvent.emit(metricsLabel, "http", line.length());
           final String message = line;
+          final String target = targetIgn;
           try {
             plugin
                 .getServer()
                 .getScheduler()
                 .runTask(
                     plugin,
-                    () -> messageHandler.handle(message, targetIgn));
+                    () -> messageHandler.handle(message, target));
           } catch (IllegalStateException schedulerShutdown) {
             plugin
                 .getLogger()
@@ -331,6 +1128,7 @@ public class YouTubeChatBridge {
         return;
       }
 
+      outcome = "http_error";
       consecutivePollFailures++;
       if (consecutivePollFailures <= 3 || consecutivePollFailures % 10 == 0) {
         plugin
@@ -352,9 +1150,105 @@ public class YouTubeChatBridge {
                 ex);
       }
     } catch (InterruptedException ex) {
+      outcome = "interrupted";
       Thread.currentThread().interrupt();
     } finally {
       pollInFlight.set(false);
+      metrics.observeNanos(
+          Family.POLL_DURATION, System.nanoTime() - startedNanos, "platform", metricsLabel);
+      metrics.increment(
+          Family.POLL_REQUESTS, 1L, "platform", metricsLabel, "outcome", outcome);
+    }
+  }
+
+  /** Everything needed to launch the local listener again, e.g. as a standby. */
+  private record LaunchSpec(
+      String pythonExecutable,
+      File listenerScript,
+      String streamIdentifier,
+      int pollingIntervalSeconds,
+      String streamlabsToken,
+      boolean warmStandby,
+      List<String> sessions,
+      Path socketPath,
+      boolean binaryFrames) {
+
+    LaunchSpec withStream(String stream, int interval) {
+      return new LaunchSpec(
+          pythonExecutable,
+          listenerScript,
+          stream,
+          interval,
+          streamlabsToken,
+          warmStandby,
+          sessions,
+          socketPath,
+          binaryFrames);
+    }
+
+    LaunchSpec withSessions(List<String> sessionArguments, int interval) {
+      return new LaunchSpec(
+          pythonExecutable,
+          listenerScript,
+          streamIdentifier,
+          interval,
+          streamlabsToken,
+          warmStandby,
+          sessionArguments,
+          socketPath,
+          binaryFrames);
+    }
+
+    LaunchSpec withSocket(Path path, boolean binary) {
+      return new LaunchSpec(
+          pythonExecutable,
+          listenerScript,
+          streamIdentifier,
+          pollingIntervalSeconds,
+          streamlabsToken,
+          warmStandby,
+          sessions,
+          path,
+          binary);
+    }
+
+    @SuppressFBWarnings(
+        value = "COMMAND_INJECTION",
+        justification = "Arguments passed directly without shell")
+    ProcessBuilder processBuilder(boolean asStandby) {
+      List<String> command = new ArrayList<>();
+      command.add(pythonExecutable);
+      command.add(listenerScript.getAbsolutePath());
+      command.add("--control-stdin");
+      if (socketPath != null && !asStandby) {
+        command.add("--socket");
+        command.add(socketPath.toAbsolutePath().toString());
+        if (binaryFrames) {
+          command.add("--frame-format");
+          command.add("binary");
+        }
+      }
+      if (!sessions.isEmpty()) {
+        for (String session : sessions) {
+          command.add("--session");
+          command.add(session);
+        }
+      } else if (asStandby) {
+        command.add("--standby");
+      } else {
+        command.add("--stream");
+        command.add(streamIdentifier);
+      }
+      command.add("--interval");
+      command.add(Integer.toString(pollingIntervalSeconds));
+      ProcessBuilder processBuilder = new ProcessBuilder(command);
+      // Events travel over the socket, so stderr is read and logged on its own there.
+      processBuilder.redirectErrorStream(socketPath == null || asStandby);
+      processBuilder.directory(listenerScript.getParentFile());
+      if (streamlabsToken != null && !streamlabsToken.isBlank()) {
+        processBuilder.environment().put("STREAMLABS_SOCKET_TOKEN", streamlabsToken);
+      }
+      return processBuilder;
     }
   }
 }
@@ -10,17 +10,20 @@ integration without additional dependencies.
 from __future__ import annotations
 
 import argparse
+import asyncio
 import http.server
 import json
 import os
 import re
+import socket
 import socketserver
+import struct
 import sys
 import threading
 import time
 from datetime import datetime
 from queue import Empty, Full, Queue
-from typing import Any, Dict, Iterable, List, Optional, Tuple
+from typing import Any, Callable, Dict, Iterable, List, Optional, Tuple
 from urllib.parse import parse_qs, urlparse
 
 
@@ -30,16 +33,81 @@ HTTP_PUBLISH_ENABLED = False
 
 MAX_CONTROL_BODY_BYTES = 8192
 
+SESSION_PLATFORMS = ("youtube", "tiktok")
+
+# Sessions of a multiplexed listener write from several threads; keep each line whole.
+_OUTPUT_LOCK = threading.Lock()
+
+# With --socket, events travel as frames on this Unix domain socket: a 4-byte big-endian length,
+# then that many bytes of UTF-8 JSON. Log and error payloads stay on stderr. If the socket fails,
+# events fall back to JSON lines on stdout, which the plugin still dispatches. Frames larger than
+# MAX_FRAME_BYTES are rejected by the plugin, so such events are dropped here with an error.
+MAX_FRAME_BYTES = 1 << 20
+LOG_PAYLOAD_TYPES = frozenset({"log", "error"})
+_FRAME_HEADER = struct.Struct(">I")
+_SOCKET: Optional[socket.socket] = None
+_SOCKET_LOCK = threading.Lock()
+# Set while a multiplexed listener runs, for the "session" control command.
+_SESSIONS: Optional["SessionRegistry"] = None
+
+# Compact binary event frames (--frame-format binary); must match ListenerFrameCodec in the plugin:
+#   frame  := typeTag:u8 fieldCount:varint field*
+#   field  := keyId:varint [key:string when keyId is 0] valueTag:u8 value
+#   string := byteLength:varint UTF-8 bytes
+# Value tags: 0 string, 1 zigzag varint, 2 big-endian float64, 3 true, 4 false, 5 null, 6 JSON text.
+BINARY_SCHEMA_VERSION = 1
+_BINARY_TYPE_TAGS = {
+    name: tag
+    for tag, name in enumerate(
+        ("chat", "subscriber", "donation", "milestone", "log", "error", "status", "heartbeat"),
+        start=1,
+    )
+}
+_BINARY_KEY_IDS = {
+    name: key_id
+    for key_id, name in enumerate(
+        (
+            "author",
+            "message",
+            "timestamp",
+            "platform",
+            "channelId",
+            "messageId",
+            "totalSubscribers",
+            "amount",
+            "currency",
+            "formattedAmount",
+            "level",
+            "raw",
+            "streamIdentifier",
+            "error",
+            "inGameName",
+            "ign",
+            "subscriberCount",
+            "total",
+            "milestoneInterval",
+        ),
+        start=1,
+    )
+}
+_FLOAT64 = struct.Struct(">d")
+_FRAME_FORMAT = "json"
+
 
 class YouTubeStreamUnavailableError(RuntimeError):
     """Raised when a YouTube stream cannot be reached or initialized."""
 
 
 class StreamState:
-    def __init__(self, stream_identifier: str) -> None:
+    def __init__(self, stream_identifier: str, interval: int = 5, active: bool = True) -> None:
         self._lock = threading.Lock()
         self._stream_identifier = stream_identifier
+        self._interval = max(1, interval)
         self.restart_event = threading.Event()
+        # Cleared while a warm standby waits for its first stream.
+        self.active_event = threading.Event()
+        if active:
+            self.active_event.set()
 
     def get(self) -> str:
         with self._lock:
@@ -49,6 +117,16 @@ class StreamState:
         with self._lock:
             self._stream_identifier = stream_identifier
         self.restart_event.set()
+        self.active_event.set()
+
+    def interval(self) -> int:
+        with self._lock:
+            return self._interval
+
+    def set_interval(self, interval: int) -> None:
+        # Read on every placeholder beat, so no reconnect is needed.
+        with self._lock:
+            self._interval = max(1, interval)
 
 
 def _parse_args() -> argparse.Namespace:
@@ -111,6 +189,51 @@ def _parse_args() -> argparse.Namespace:
         dest="tiktok_ms_token",
         help="Optional TikTok msToken cookie for authenticated access",
     )
+    parser.add_argument(
+        "--control-stdin",
+        dest="control_stdin",
+        action="store_true",
+        help=(
+            "Read newline-delimited JSON control commands from stdin, e.g. "
+            '{"op": "stream", "stream": "<id>"}, {"op": "interval", "interval": 5}, '
+            '{"op": "session", "platform": "tiktok", "action": "stop"} or {"op": "stop"}'
+        ),
+    )
+    parser.add_argument(
+        "--standby",
+        action="store_true",
+        help=(
+            "Start as a warm standby: import the chat libraries, then wait for a stream "
+            "command on the control channel before connecting (requires --control-stdin)"
+        ),
+    )
+    parser.add_argument(
+        "--socket",
+        dest="socket_path",
+        help=(
+            "Connect to the plugin's Unix domain socket at this path and exchange length-prefixed "
+            "frames: events to the plugin, control commands from it. Logs go to stderr"
+        ),
+    )
+    parser.add_argument(
+        "--frame-format",
+        dest="frame_format",
+        choices=("json", "binary"),
+        default="json",
+        help="Event frame encoding on --socket; announced to the plugin in a hello frame",
+    )
+    parser.add_argument(
+        "--session",
+        dest="sessions",
+        action="append",
+        default=[],
+        metavar="PLATFORM=IDENTIFIER",
+        help=(
+            "Run several platform sessions in one process, e.g. --session youtube=<id> "
+            "--session tiktok=<username>. Every line is tagged with its platform. "
+            "Overrides --platform and --stream"
+        ),
+    )
     parser.add_argument(
         "--control-token",
         dest="control_token",
@@ -122,8 +245,18 @@ def _parse_args() -> argparse.Namespace:
 
     args = parser.parse_args()
 
-    if args.platform == "youtube":
-        if not args.stream:
+    if args.standby and not args.control_stdin:
+        parser.error("--standby requires --control-stdin")
+
+    if args.frame_format == "binary" and not args.socket_path:
+        parser.error("--frame-format binary requires --socket")
+
+    if args.sessions:
+        if args.standby:
+            parser.error("--standby cannot be combined with --session")
+        args.sessions = _parse_sessions(parser, args.sessions)
+    elif args.platform == "youtube":
+        if not args.stream and not args.standby:
             parser.error("--stream is required when --platform=youtube")
     elif not (args.tiktok_username or args.tiktok_room_id):
         parser.error(
@@ -133,19 +266,178 @@ def _parse_args() -> argparse.Namespace:
     return args
 
 
+def _parse_sessions(
+    parser: argparse.ArgumentParser, values: List[str]
+) -> Dict[str, str]:
+    sessions: Dict[str, str] = {}
+    for value in values:
+        platform, separator, identifier = value.partition("=")
+        platform = platform.strip().lower()
+        identifier = identifier.strip()
+        if not separator or platform not in SESSION_PLATFORMS or not identifier:
+            parser.error(f"--session expects youtube=<id> or tiktok=<username>, got {value!r}")
+        if platform in sessions:
+            parser.error(f"--session given twice for {platform}")
+        sessions[platform] = identifier
+    return sessions
+
+
 def _emit(message: str) -> None:
-    sys.stdout.write(message + "\n")
-    sys.stdout.flush()
+    with _OUTPUT_LOCK:
+        sys.stdout.write(message + "\n")
+        sys.stdout.flush()
     _queue_event(message)
 
 
 def _emit_json(payload: Dict[str, Any]) -> None:
+    if _SOCKET is None:
+        _emit(json.dumps(payload, ensure_ascii=False))
+        return
+    if payload.get("type") not in LOG_PAYLOAD_TYPES:
+        try:
+            if _FRAME_FORMAT == "binary":
+                sent = _send_frame(_encode_binary_event(payload))
+                message = json.dumps(payload, ensure_ascii=False) if HTTP_PUBLISH_ENABLED else None
+            else:
+                message = json.dumps(payload, ensure_ascii=False)
+                sent = _send_frame(message.encode("utf-8"))
+        except ValueError as exc:
+            _emit_error("Dropped event too large for a frame", error=str(exc))
+            return
+        if sent:
+            if message is not None:
+                _queue_event(message)
+            return
+        # The socket is gone; stdout lines are still dispatched as events by the plugin.
+        _emit(json.dumps(payload, ensure_ascii=False))
+        return
     message = json.dumps(payload, ensure_ascii=False)
-    sys.stdout.write(message + "\n")
-    sys.stdout.flush()
+    with _OUTPUT_LOCK:
+        sys.stderr.write(message + "\n")
+        sys.stderr.flush()
     _queue_event(message)
 
 
+def _write_varint(out: bytearray, value: int) -> None:
+    while value > 0x7F:
+        out.append((value & 0x7F) | 0x80)
+        value >>= 7
+    out.append(value)
+
+
+def _write_string(out: bytearray, value: str) -> None:
+    data = value.encode("utf-8")
+    _write_varint(out, len(data))
+    out += data
+
+
+def _encode_binary_event(payload: Dict[str, Any]) -> bytes:
+    type_tag = _BINARY_TYPE_TAGS.get(payload.get("type"), 0)  # type: ignore[arg-type]
+    out = bytearray()
+    out.append(type_tag)
+    _write_varint(out, len(payload) - (1 if type_tag else 0))
+    for key, value in payload.items():
+        if type_tag and key == "type":
+            continue
+        key_id = _BINARY_KEY_IDS.get(key, 0)
+        _write_varint(out, key_id)
+        if not key_id:
+            _write_string(out, key)
+        if isinstance(value, str):
+            out.append(0)
+            _write_string(out, value)
+        elif value is None:
+            out.append(5)
+        elif value is True or value is False:
+            out.append(3 if value else 4)
+        elif isinstance(value, int) and -(1 << 63) <= value < (1 << 63):
+            out.append(1)
+            _write_varint(out, ((value << 1) ^ (value >> 63)) & 0xFFFFFFFFFFFFFFFF)
+        elif isinstance(value, float):
+            out.append(2)
+            out += _FLOAT64.pack(value)
+        else:
+            out.append(6)
+            _write_string(out, json.dumps(value, ensure_ascii=False))
+    return bytes(out)
+
+
+def _connect_socket(path: str, frame_format: str) -> socket.socket:
+    global _SOCKET, _FRAME_FORMAT
+    connection = socket.socket(socket.AF_UNIX, socket.SOCK_STREAM)
+    connection.connect(path)
+    _SOCKET = connection
+    # The first frame is always JSON so the plugin can tell which encoding follows.
+    hello = {"type": "hello", "format": frame_format, "schema": BINARY_SCHEMA_VERSION}
+    _send_frame(json.dumps(hello).encode("utf-8"))
+    _FRAME_FORMAT = frame_format
+    return connection
+
+
+def _send_frame(data: bytes) -> bool:
+    """Send one frame; False means the socket is gone and the caller should use stdout instead.
+
+    Raises ValueError for frames larger than MAX_FRAME_BYTES, which the plugin would reject.
+    """
+    global _SOCKET
+    if len(data) > MAX_FRAME_BYTES:
+        raise ValueError(f"frame of {len(data)} bytes exceeds {MAX_FRAME_BYTES}")
+    with _SOCKET_LOCK:
+        connection = _SOCKET
+        if connection is None:
+            return False
+        try:
+            connection.sendall(_FRAME_HEADER.pack(len(data)) + data)
+            return True
+        except OSError:
+            # The socket broke; later events go to stdout, which the plugin still reads.
+            _SOCKET = None
+            return False
+
+
+def _read_exact(connection: socket.socket, size: int) -> Optional[bytes]:
+    chunks = bytearray()
+    while len(chunks) < size:
+        chunk = connection.recv(size - len(chunks))
+        if not chunk:
+            return None
+        chunks.extend(chunk)
+    return bytes(chunks)
+
+
+def _run_socket_control(
+    connection: socket.socket,
+    stream_state: Optional[StreamState],
+    stop_event: threading.Event,
+) -> None:
+    """Apply control frames sent by the plugin; stop when the plugin closes the socket."""
+
+    try:
+        while not stop_event.is_set():
+            header = _read_exact(connection, _FRAME_HEADER.size)
+            if header is None:
+                break
+            (length,) = _FRAME_HEADER.unpack(header)
+            if length > MAX_FRAME_BYTES:
+                _emit_error("Control frame too large", length=length)
+                break
+            body = _read_exact(connection, length)
+            if body is None:
+                break
+            try:
+                command = json.loads(body.decode("utf-8"))
+            except (UnicodeDecodeError, json.JSONDecodeError):
+                _emit_error("Malformed control frame", length=length)
+                continue
+            if isinstance(command, dict):
+                _apply_control_command(command, stream_state, stop_event)
+    except OSError:
+        pass
+    stop_event.set()
+    if stream_state is not None:
+        stream_state.restart_event.set()
+
+
 def _queue_event(message: str) -> None:
     if not HTTP_PUBLISH_ENABLED:
         return
@@ -559,12 +851,19 @@ def _run_placeholder(
     *,
     platform: str,
     author: str,
+    interval_source: Optional[Callable[[], int]] = None,
 ) -> None:
     _emit_chat(author, f"Simulated relay for {stream_identifier}", platform=platform)
     while not stop_event.is_set():
         if restart_event is not None and restart_event.is_set():
             break
-        time.sleep(interval)
+        delay = interval_source() if interval_source is not None else interval
+        if restart_event is not None:
+            # Wake early when the stream is switched instead of finishing the beat.
+            if restart_event.wait(delay):
+                break
+        else:
+            time.sleep(delay)
         _emit_log(
             "Heartbeat",
             stream="placeholder",
@@ -903,12 +1202,306 @@ def _run_streamlabs_listener(token: str, stop_event: threading.Event) -> None:
             _emit_log("Streamlabs disconnect failed", level="warning", error=str(exc))
 
 
+def _apply_control_command(
+    command: Dict[str, Any],
+    stream_state: Optional[StreamState],
+    stop_event: threading.Event,
+) -> None:
+    global _FRAME_FORMAT
+    op = str(command.get("op") or "").strip().lower()
+    if op == "format":
+        frame_format = str(command.get("format") or "").strip().lower()
+        if frame_format == "json" or (frame_format == "binary" and _SOCKET is not None):
+            _FRAME_FORMAT = frame_format
+            _emit_log("Frame format updated via control channel", format=frame_format)
+        else:
+            _emit_error("Unsupported frame format", op=op, format=frame_format)
+        return
+
+    if op == "session":
+        _apply_session_command(command)
+        return
+
+    if op == "stop":
+        _emit_log("Stop requested via control channel")
+        stop_event.set()
+        if stream_state is not None:
+            stream_state.restart_event.set()
+        return
+
+    platform = str(command.get("platform") or "youtube").strip().lower()
+    if stream_state is None or platform != "youtube":
+        _emit_error("Stream control unavailable", op=op, platform=platform)
+        return
+
+    if op == "stream":
+        stream_value = command.get("stream") or command.get("streamIdentifier")
+        if not stream_value or not str(stream_value).strip():
+            _emit_error("Missing stream identifier", op=op)
+            return
+        normalized = _normalize_stream_identifier(str(stream_value).strip())
+        stream_state.set(normalized)
+        _emit_log(
+            "Stream identifier updated via control channel",
+            streamIdentifier=normalized,
+            platform="youtube",
+        )
+    elif op == "interval":
+        interval = _safe_int(command.get("interval"))
+        if interval is None or interval <= 0:
+            _emit_error("Invalid polling interval", op=op)
+            return
+        stream_state.set_interval(interval)
+        _emit_log("Polling interval updated via control channel", interval=interval)
+    else:
+        _emit_error("Unknown control command", op=op)
+
+
+def _apply_session_command(command: Dict[str, Any]) -> None:
+    """Start or stop one session of a multiplexed listener without touching the others."""
+
+    platform = str(command.get("platform") or "").strip().lower()
+    action = str(command.get("action") or "").strip().lower()
+    registry = _SESSIONS
+    if registry is None or platform not in SESSION_PLATFORMS:
+        _emit_error("Session control unavailable", op="session", platform=platform)
+        return
+    if action == "stop":
+        if registry.stop(platform):
+            _emit_log("Session stopped via control channel", platform=platform)
+        return
+    if action == "start":
+        identifier = str(command.get("stream") or "").strip()
+        if not identifier:
+            _emit_error("Missing stream identifier", op="session", platform=platform)
+            return
+        registry.start(platform, identifier)
+        _emit_log(
+            "Session started via control channel",
+            platform=platform,
+            streamIdentifier=identifier,
+        )
+        return
+    _emit_error("Unknown session action", op="session", action=action)
+
+
+def _run_stdin_control(
+    stream_state: Optional[StreamState], stop_event: threading.Event
+) -> None:
+    """Apply control commands from stdin, mirroring the HTTP /control/stream endpoint."""
+
+    for raw in sys.stdin:
+        line = raw.strip()
+        if not line:
+            continue
+        try:
+            command = json.loads(line)
+        except json.JSONDecodeError:
+            _emit_error("Malformed control command", command=line[:200])
+            continue
+        if not isinstance(command, dict):
+            _emit_error("Malformed control command", command=line[:200])
+            continue
+        _apply_control_command(command, stream_state, stop_event)
+
+    # The plugin closed our stdin (or went away); do not linger as an orphan.
+    stop_event.set()
+    if stream_state is not None:
+        stream_state.restart_event.set()
+
+
+def _warm_up_youtube() -> None:
+    """Import the YouTube chat library ahead of time so activation skips the import cost."""
+
+    try:
+        import pytchat  # noqa: F401
+    except ModuleNotFoundError:
+        pass
+
+
+def _run_youtube_session(
+    stream_state: StreamState, interval: int, stop_event: threading.Event
+) -> None:
+    while not stop_event.is_set():
+        current_identifier = stream_state.get()
+        stream_state.restart_event.clear()
+        try:
+            _run_with_pytchat(current_identifier, stop_event, stream_state.restart_event)
+        except ModuleNotFoundError:
+            _emit_log(
+                "pytchat not installed; using placeholder output",
+                level="warning",
+                streamIdentifier=current_identifier,
+                platform="youtube",
+            )
+            _run_placeholder(
+                current_identifier,
+                interval,
+                stop_event,
+                stream_state.restart_event,
+                platform="youtube",
+                author="YouTube",
+                interval_source=stream_state.interval,
+            )
+        except YouTubeStreamUnavailableError as exc:
+            _emit_log(
+                "Unable to reach YouTube chat; using placeholder output",
+                level="warning",
+                streamIdentifier=current_identifier,
+                error=str(exc),
+                platform="youtube",
+            )
+            _run_placeholder(
+                current_identifier,
+                interval,
+                stop_event,
+                stream_state.restart_event,
+                platform="youtube",
+                author="YouTube",
+                interval_source=stream_state.interval,
+            )
+
+        if stream_state.restart_event.is_set():
+            continue
+        break
+
+
+def _run_tiktok_session(
+    args: argparse.Namespace, username: str, stop_event: threading.Event
+) -> None:
+    # TikTokLive drives its own asyncio loop, which a non-main thread does not have by default.
+    asyncio.set_event_loop(asyncio.new_event_loop())
+    _run_tiktok_listener(
+        username.lstrip("@"),
+        None,
+        args.tiktok_session_id,
+        args.tiktok_ms_token,
+        args.interval,
+        stop_event,
+    )
+
+
+def _guard_session(platform: str, target: Callable[..., None], *target_args: Any) -> None:
+    try:
+        target(*target_args)
+    except Exception as exc:  # pragma: no cover - defensive logging
+        _emit_error("Session failed", error=str(exc), platform=platform)
+
+
+class SessionRegistry:
+    """Sessions of a multiplexed listener, each on its own thread with its own stop event, so the
+    plugin can start or stop one platform in place while the others keep running."""
+
+    def __init__(self, args: argparse.Namespace, stream_state: StreamState) -> None:
+        self._args = args
+        self._stream_state = stream_state
+        self._lock = threading.Lock()
+        self._sessions: Dict[str, Tuple[threading.Thread, threading.Event]] = {}
+
+    def start(self, platform: str, identifier: str) -> None:
+        # A running session for the platform is replaced, e.g. when its stream changed.
+        self.stop(platform)
+        session_stop = threading.Event()
+        target_args: Tuple[Any, ...]
+        if platform == "youtube":
+            self._stream_state.set(_normalize_stream_identifier(identifier))
+            target_args = (
+                _run_youtube_session,
+                self._stream_state,
+                self._args.interval,
+                session_stop,
+            )
+        else:
+            target_args = (_run_tiktok_session, self._args, identifier, session_stop)
+        thread = threading.Thread(
+            target=_guard_session,
+            args=(platform, *target_args),
+            name=f"ChatRelay-{platform}",
+            daemon=True,
+        )
+        with self._lock:
+            self._sessions[platform] = (thread, session_stop)
+        thread.start()
+
+    def stop(self, platform: str) -> bool:
+        with self._lock:
+            session = self._sessions.pop(platform, None)
+        if session is None:
+            return False
+        thread, session_stop = session
+        session_stop.set()
+        if platform == "youtube":
+            self._stream_state.restart_event.set()
+        thread.join(timeout=5.0)
+        return True
+
+    def stop_all(self) -> None:
+        with self._lock:
+            platforms = list(self._sessions)
+        for platform in platforms:
+            self.stop(platform)
+
+    def any_alive(self) -> bool:
+        with self._lock:
+            return any(thread.is_alive() for thread, _ in self._sessions.values())
+
+
+def _run_multiplexed(
+    args: argparse.Namespace,
+    stream_state: StreamState,
+    stop_event: threading.Event,
+) -> None:
+    """Run one thread per --session; return once the listener is stopped or no session runs."""
+
+    global _SESSIONS
+    registry = SessionRegistry(args, stream_state)
+    for platform, identifier in args.sessions.items():
+        registry.start(platform, identifier)
+    # Published only now, so a session command cannot race the initial sessions.
+    _SESSIONS = registry
+    _emit_log("Multiplexed listener started", sessions=sorted(args.sessions))
+    while not stop_event.is_set() and registry.any_alive():
+        stop_event.wait(0.5)
+    registry.stop_all()
+
+
 def main() -> int:
     args = _parse_args()
     stop_event = threading.Event()
     stream_state: Optional[StreamState] = None
-    if args.platform == "youtube":
-        stream_state = StreamState(_normalize_stream_identifier(args.stream or ""))
+    youtube_stream: Optional[str] = None
+    if args.sessions:
+        # Always present, so a YouTube session can also be started later over the control channel.
+        youtube_stream = args.sessions.get("youtube", "")
+    elif args.platform == "youtube":
+        youtube_stream = args.stream or ""
+    if youtube_stream is not None:
+        stream_state = StreamState(
+            _normalize_stream_identifier(youtube_stream),
+            args.interval,
+            active=not args.standby,
+        )
+
+    if args.socket_path:
+        try:
+            connection = _connect_socket(args.socket_path, args.frame_format)
+        except OSError as exc:
+            _emit_error("Failed to connect to plugin socket", error=str(exc))
+            return 1
+        threading.Thread(
+            target=_run_socket_control,
+            args=(connection, stream_state, stop_event),
+            name="ChatRelaySocketControl",
+            daemon=True,
+        ).start()
+
+    if args.control_stdin:
+        threading.Thread(
+            target=_run_stdin_control,
+            args=(stream_state, stop_event),
+            name="ChatRelayControl",
+            daemon=True,
+        ).start()
 
     http_thread: Optional[threading.Thread] = None
     if args.http_endpoint:
@@ -928,12 +1521,13 @@ def main() -> int:
 
     streamlabs_thread: Optional[threading.Thread] = None
     token = args.streamlabs_token or os.environ.get("STREAMLABS_SOCKET_TOKEN")
-    if args.platform == "youtube" and token:
+    if stream_state is not None and token:
         streamlabs_thread = threading.Thread(
             target=_run_streamlabs_listener, args=(token, stop_event), daemon=True
         )
-        streamlabs_thread.start()
-    elif args.platform != "youtube" and token:
+        if not args.standby:
+            streamlabs_thread.start()
+    elif token:
         _emit_log(
             "Streamlabs integration is only available for YouTube streams",
             level="info",
@@ -942,52 +1536,24 @@ def main() -> int:
 
     exit_code = 0
     try:
-        if args.platform == "youtube":
+        if args.sessions:
+            if stream_state is None:
+                raise RuntimeError("YouTube stream state was not initialized")
+            _run_multiplexed(args, stream_state, stop_event)
+        elif args.platform == "youtube":
             if stream_state is None:
                 raise RuntimeError("YouTube stream state was not initialized")
 
-            while not stop_event.is_set():
-                current_identifier = stream_state.get()
-                stream_state.restart_event.clear()
-                try:
-                    _run_with_pytchat(
-                        current_identifier, stop_event, stream_state.restart_event
-                    )
-                except ModuleNotFoundError:
-                    _emit_log(
-                        "pytchat not installed; using placeholder output",
-                        level="warning",
-                        streamIdentifier=current_identifier,
-                        platform="youtube",
-                    )
-                    _run_placeholder(
-                        current_identifier,
-                        args.interval,
-                        stop_event,
-                        stream_state.restart_event,
-                        platform="youtube",
-                        author="YouTube",
-                    )
-                except YouTubeStreamUnavailableError as exc:
-                    _emit_log(
-                        "Unable to reach YouTube chat; using placeholder output",
-                        level="warning",
-                        streamIdentifier=current_identifier,
-                        error=str(exc),
-                        platform="youtube",
-                    )
-                    _run_placeholder(
-                        current_identifier,
-                        args.interval,
-                        stop_event,
-                        stream_state.restart_event,
-                        platform="youtube",
-                        author="YouTube",
-                    )
-
-                if stream_state.restart_event.is_set():
-                    continue
-                break
+            if args.standby:
+                _warm_up_youtube()
+                _emit_log("Standby listener ready", platform="youtube")
+                while not stop_event.is_set() and not stream_state.active_event.wait(0.5):
+                    pass
+                # Only the active listener relays donations, so connect Streamlabs now.
+                if streamlabs_thread is not None and not stop_event.is_set():
+                    streamlabs_thread.start()
+
+            _run_youtube_session(stream_state, args.interval, stop_event)
         else:
             exit_code = _run_tiktok_listener(
                 args.tiktok_username,
@@ -1004,10 +1570,15 @@ def main() -> int:
         exit_code = 1
     finally:
         stop_event.set()
-        if streamlabs_thread is not None:
+        if streamlabs_thread is not None and streamlabs_thread.is_alive():
             streamlabs_thread.join(timeout=5.0)
         if http_thread is not None:
             http_thread.join(timeout=5.0)
+        if _SOCKET is not None:
+            try:
+                _SOCKET.close()
+            except OSError:
+                pass
 
     return exit_code
 
@@ -0,0 +1,56 @@
+package com.crimsonwarpedcraft.exampleplugin.bridge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the milestone crossing math in {@link PlatformChatBridge}. */
+public class PlatformChatBridgeTest {
+
+  @Test
+  public void withoutPreviousTotalOnlyExactBoundariesCount() {
+    assertEquals(List.of(200L), crossed(-1L, 200L, 100L));
+    assertEquals(List.of(), crossed(-1L, 250L, 100L));
+    assertEquals(List.of(), crossed(-1L, 99L, 100L));
+  }
+
+  @Test
+  public void boundariesAreCrossedWhenReachedExactly() {
+    assertEquals(List.of(100L), crossed(99L, 100L, 100L));
+    assertEquals(List.of(), crossed(100L, 101L, 100L));
+    assertEquals(List.of(), crossed(100L, 199L, 100L));
+    assertEquals(List.of(200L), crossed(199L, 200L, 100L));
+  }
+
+  @Test
+  public void multiStepJumpEmitsEveryCrossing() {
+    assertEquals(List.of(100L, 200L, 300L, 400L, 500L), crossed(42L, 512L, 100L));
+    assertEquals(List.of(10L, 20L, 30L, 40L, 50L, 60L), crossed(0L, 60L, 10L));
+    assertEquals(List.of(1L, 2L, 3L), crossed(0L, 3L, 1L));
+  }
+
+  @Test
+  public void jumpsBeyondWhatNotificationsExplainAreImplausible() {
+    long limit = PlatformChatBridge.MAX_SUBSCRIBERS_PER_NOTIFICATION;
+    assertFalse(PlatformChatBridge.isImplausibleJump(10L, 10L + limit, 1L));
+    assertTrue(PlatformChatBridge.isImplausibleJump(10L, 11L + limit, 1L));
+    assertFalse(PlatformChatBridge.isImplausibleJump(10L, 10L + 3 * limit, 3L));
+    // A flush with no counted notification still allows one notification's worth.
+    assertFalse(PlatformChatBridge.isImplausibleJump(10L, 10L + limit, 0L));
+    // Nothing to compare against before the first total.
+    assertFalse(PlatformChatBridge.isImplausibleJump(-1L, 1_000_000L, 1L));
+  }
+
+  private static List<Long> crossed(long previous, long total, long interval) {
+    List<Long> milestones = new ArrayList<>();
+    long first = PlatformChatBridge.firstCrossedMilestone(previous, total, interval);
+    for (long step = first; step <= total / interval; step++) {
+      milestones.add(step * interval);
+    }
+    return milestones;
+  }
+}
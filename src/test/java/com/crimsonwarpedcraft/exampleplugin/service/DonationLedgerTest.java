@@ -0,0 +1,104 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link DonationLedger}. */
+public class DonationLedgerTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void snapshotRoundTripsThroughFile() throws IOException {
+    DonationLedger ledger = new DonationLedger();
+    ledger.record("Alice", 5.00);
+    ledger.record("Bob", 2.50);
+    ledger.record("alice", 1.25);
+    ledger.resetSession();
+    ledger.record("Bob", 3.00);
+
+    Path file = folder.resolve("ledger.tsv");
+    DonationLedger.Snapshot snapshot = ledger.snapshot();
+    snapshot.writeTo(file);
+    assertTrue(ledger.isDirty());
+    ledger.markClean(snapshot);
+    assertFalse(ledger.isDirty());
+
+    DonationLedger loaded = new DonationLedger();
+    loaded.load(file);
+    assertEquals(ledger.snapshot(), loaded.snapshot());
+    assertEquals(11.75, loaded.lifetimeTotal(), 1e-9);
+    assertEquals(3.00, loaded.sessionTotal(), 1e-9);
+    assertEquals("alice", loaded.topLifetime(1).get(0).name());
+    assertEquals(List.of("Bob"), loaded.topSession(5).stream().map(d -> d.name()).toList());
+  }
+
+  @Test
+  public void staysDirtyUntilTheLatestSnapshotIsWritten() throws IOException {
+    DonationLedger ledger = new DonationLedger();
+    ledger.record("Alice", 5.00);
+
+    // A write that fails leaves the ledger dirty for the next flush.
+    Files.writeString(folder.resolve("blocked"), "", StandardCharsets.UTF_8);
+    DonationLedger.Snapshot failed = ledger.snapshot();
+    assertThrows(IOException.class, () -> failed.writeTo(folder.resolve("blocked/ledger.tsv")));
+    assertTrue(ledger.isDirty());
+
+    // Donations recorded while a snapshot is being written keep the ledger dirty.
+    DonationLedger.Snapshot stale = ledger.snapshot();
+    ledger.record("Bob", 1.00);
+    ledger.markClean(stale);
+    assertTrue(ledger.isDirty());
+
+    DonationLedger.Snapshot latest = ledger.snapshot();
+    ledger.markClean(stale);
+    assertTrue(ledger.isDirty());
+    ledger.markClean(latest);
+    assertFalse(ledger.isDirty());
+  }
+
+  @Test
+  public void repeatedDonorRowReplacesEarlierRow() throws IOException {
+    Path file = folder.resolve("ledger.tsv");
+    Files.writeString(
+        file,
+        "# streambridge donation ledger v1\n"
+            + "500\t500\t1\tAlice\n"
+            + "200\t0\t1\tBob\n"
+            + "900\t100\t3\talice\n",
+        StandardCharsets.UTF_8);
+
+    DonationLedger ledger = new DonationLedger();
+    ledger.load(file);
+
+    DonationLedger.DonorTotal alice = ledger.lookup("ALICE").orElseThrow();
+    assertEquals(900L, alice.lifetimeCents());
+    assertEquals(100L, alice.sessionCents());
+    assertEquals(3, alice.donations());
+    assertEquals(11.00, ledger.lifetimeTotal(), 1e-9);
+    assertEquals(1.00, ledger.sessionTotal(), 1e-9);
+    assertEquals(2, ledger.topLifetime(5).size());
+  }
+
+  @Test
+  public void missingFileLeavesLedgerEmpty() throws IOException {
+    DonationLedger ledger = new DonationLedger();
+    ledger.record("Alice", 1.00);
+    ledger.load(folder.resolve("absent.tsv"));
+
+    assertTrue(ledger.topLifetime(5).isEmpty());
+    assertEquals(0.0, ledger.lifetimeTotal(), 0.0);
+    assertFalse(ledger.isDirty());
+  }
+}
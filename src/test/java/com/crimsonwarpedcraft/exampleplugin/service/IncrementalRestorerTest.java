@@ -0,0 +1,93 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link IncrementalRestorer}. */
+public class IncrementalRestorerTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void rewritesChangedFilesAndRemovesExtras() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("level.dat"), "level");
+    write(template.resolve("region/r.0.0.mca"), "region");
+    Path live = folder.resolve("world");
+    write(live.resolve("level.dat"), "LEVEL");
+    write(live.resolve("playerdata/alex.dat"), "alex");
+
+    try (IncrementalRestorer restorer = new IncrementalRestorer(2, folder.resolve("cache"))) {
+      IncrementalRestorer.RestoreResult result = restorer.restore("world", template, live);
+      assertEquals(2L, result.templateFiles());
+      assertEquals(2L, result.restoredFiles());
+      assertEquals(1L, result.deletedFiles());
+      assertEquals(11L, result.restoredBytes());
+    }
+
+    assertEquals("level", read(live.resolve("level.dat")));
+    assertEquals("region", read(live.resolve("region/r.0.0.mca")));
+    assertTrue(Files.notExists(live.resolve("playerdata")));
+  }
+
+  @Test
+  public void laterRestoresSkipFilesTheServerDidNotWrite() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("level.dat"), "level");
+    write(template.resolve("region/r.0.0.mca"), "region");
+    Path live = folder.resolve("world");
+
+    try (IncrementalRestorer restorer = new IncrementalRestorer(2, folder.resolve("cache"))) {
+      assertEquals(2L, restorer.restore("world", template, live).restoredFiles());
+      assertEquals(0L, restorer.restore("world", template, live).restoredFiles());
+
+      // Same size, new contents: the changed modification time forces a re-hash.
+      Path region = live.resolve("region/r.0.0.mca");
+      write(region, "REGION");
+      Files.setLastModifiedTime(
+          region, FileTime.fromMillis(Files.getLastModifiedTime(region).toMillis() + 5_000L));
+      IncrementalRestorer.RestoreResult result = restorer.restore("world", template, live);
+      assertEquals(1L, result.restoredFiles());
+      assertEquals(6L, result.restoredBytes());
+    }
+    assertEquals("region", read(live.resolve("region/r.0.0.mca")));
+  }
+
+  @Test
+  public void leavesOnlyManifestsInTheCache() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("level.dat"), "level");
+    Path cache = folder.resolve("cache");
+
+    try (IncrementalRestorer restorer = new IncrementalRestorer(1, cache)) {
+      restorer.restore("world", template, folder.resolve("world"));
+      restorer.restore("world", template, folder.resolve("world"));
+    }
+
+    try (Stream<Path> files = Files.list(cache)) {
+      assertEquals(
+          List.of("world.live.manifest", "world.template.manifest"),
+          files.map(file -> file.getFileName().toString()).sorted().toList());
+    }
+  }
+
+  private static void write(Path file, String contents) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, contents, StandardCharsets.UTF_8);
+  }
+
+  private static String read(Path file) throws IOException {
+    return Files.readString(file, StandardCharsets.UTF_8);
+  }
+}
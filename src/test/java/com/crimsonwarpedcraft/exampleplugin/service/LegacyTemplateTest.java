@@ -0,0 +1,63 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.bukkit.ChatColor;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link LegacyTemplate}. */
+public class LegacyTemplateTest {
+
+  @Test
+  public void fillsSlotsInSlotOrder() {
+    LegacyTemplate template =
+        LegacyTemplate.compile(
+            "&aHello {player}, you have {count} &lnew&r gifts", "count", "player");
+
+    assertEquals(
+        legacy("&aHello Alex, you have 3 &lnew&r gifts"), template.render("3", "Alex"));
+    assertEquals(
+        legacy("&aHello Steve, you have 1 &lnew&r gifts"), template.render("1", "Steve"));
+  }
+
+  @Test
+  public void valuesAreInsertedVerbatim() {
+    LegacyTemplate template = LegacyTemplate.compile("&e{player} joined", "player");
+
+    assertEquals(legacy("&e") + "&cAlex joined", template.render("&cAlex"));
+    assertEquals(legacy("&e{player} joined"), template.render("{player}"));
+  }
+
+  @Test
+  public void unknownAndUnclosedPlaceholdersAreKept() {
+    LegacyTemplate template = LegacyTemplate.compile("{other} {{player}} {player", "player");
+
+    assertEquals("{other} {Alex} {player", template.render("Alex"));
+  }
+
+  @Test
+  public void repeatedMissingAndNullValues() {
+    LegacyTemplate template = LegacyTemplate.compile("{a}-{b}-{a}", "a", "b");
+
+    assertEquals("x-y-x", template.render("x", "y"));
+    assertEquals("x--x", template.render("x"));
+    assertEquals("-y-", template.render(null, "y"));
+    assertEquals("--", template.render());
+  }
+
+  @Test
+  public void emptyTemplates() {
+    assertTrue(LegacyTemplate.compile(null).isEmpty());
+    assertTrue(LegacyTemplate.compile("", "player").isEmpty());
+    assertEquals("", LegacyTemplate.compile(null, "player").render("Alex"));
+    assertFalse(LegacyTemplate.compile("{player}", "player").isEmpty());
+    assertFalse(LegacyTemplate.compile("&a").isEmpty());
+    assertEquals(legacy("&a"), LegacyTemplate.compile("&a").render("ignored"));
+  }
+
+  private static String legacy(String text) {
+    return text.replace('&', ChatColor.COLOR_CHAR);
+  }
+}
@@ -0,0 +1,125 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Compares the plugin-side cost of decoding listener events from JSON frames and from
+ * {@link ListenerFrameCodec} binary frames. Run with {@code ./gradlew listenerFrameBenchmark}.
+ */
+public final class ListenerFrameBenchmark {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 10;
+  private static final int EVENTS_PER_ROUND = 200_000;
+
+  private ListenerFrameBenchmark() {}
+
+  /**
+   * Runs the benchmark and prints the average cost per event for each format.
+   *
+   * @param args unused
+   */
+  public static void main(String[] args) {
+    JsonObject[] events = sampleEvents();
+    byte[][] jsonFrames = new byte[events.length][];
+    byte[][] binaryFrames = new byte[events.length][];
+    long jsonBytes = 0;
+    long binaryBytes = 0;
+    for (int i = 0; i < events.length; i++) {
+      jsonFrames[i] = events[i].toString().getBytes(StandardCharsets.UTF_8);
+      binaryFrames[i] = ListenerFrameCodec.encode(events[i]);
+      if (!ListenerFrameCodec.decode(ByteBuffer.wrap(binaryFrames[i])).equals(events[i])) {
+        throw new IllegalStateException("Binary frame does not round-trip: " + events[i]);
+      }
+      jsonBytes += jsonFrames[i].length;
+      binaryBytes += binaryFrames[i].length;
+    }
+
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      runJson(jsonFrames);
+      runBinary(binaryFrames);
+    }
+    long jsonNanos = 0;
+    long binaryNanos = 0;
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      jsonNanos += runJson(jsonFrames);
+      binaryNanos += runBinary(binaryFrames);
+    }
+
+    double measuredEvents = (double) MEASURED_ROUNDS * EVENTS_PER_ROUND;
+    System.out.printf(
+        Locale.ROOT,
+        "json:   %6.1f ns/event, %5.1f bytes/event%n",
+        jsonNanos / measuredEvents,
+        (double) jsonBytes / events.length);
+    System.out.printf(
+        Locale.ROOT,
+        "binary: %6.1f ns/event, %5.1f bytes/event%n",
+        binaryNanos / measuredEvents,
+        (double) binaryBytes / events.length);
+  }
+
+  private static long runJson(byte[][] frames) {
+    long start = System.nanoTime();
+    int sink = 0;
+    for (int i = 0; i < EVENTS_PER_ROUND; i++) {
+      byte[] frame = frames[i % frames.length];
+      String text = new String(frame, 0, frame.length, StandardCharsets.UTF_8);
+      sink += JsonParser.parseString(text).getAsJsonObject().size();
+    }
+    return consume(sink, System.nanoTime() - start);
+  }
+
+  private static long runBinary(byte[][] frames) {
+    long start = System.nanoTime();
+    int sink = 0;
+    for (int i = 0; i < EVENTS_PER_ROUND; i++) {
+      sink += ListenerFrameCodec.decode(ByteBuffer.wrap(frames[i % frames.length])).size();
+    }
+    return consume(sink, System.nanoTime() - start);
+  }
+
+  private static long consume(int sink, long elapsed) {
+    if (sink == 0) {
+      throw new IllegalStateException("Decoded no fields");
+    }
+    return elapsed;
+  }
+
+  private static JsonObject[] sampleEvents() {
+    JsonObject chat = new JsonObject();
+    chat.addProperty("type", "chat");
+    chat.addProperty("platform", "youtube");
+    chat.addProperty("author", "SomeViewer");
+    chat.addProperty("message", "hello from the stream, spawn a creeper please!");
+    chat.addProperty("timestamp", "2024-05-01T18:30:12.345678+00:00");
+    chat.addProperty("channelId", "UCxxxxxxxxxxxxxxxxxxxxxx");
+
+    JsonObject shortChat = new JsonObject();
+    shortChat.addProperty("type", "chat");
+    shortChat.addProperty("platform", "tiktok");
+    shortChat.addProperty("author", "viewer42");
+    shortChat.addProperty("message", "gg");
+
+    JsonObject donation = new JsonObject();
+    donation.addProperty("type", "donation");
+    donation.addProperty("platform", "youtube");
+    donation.addProperty("author", "Generous Viewer");
+    donation.addProperty("amount", 4.99);
+    donation.addProperty("currency", "USD");
+    donation.addProperty("formattedAmount", "$4.99");
+    donation.addProperty("message", "keep it up");
+
+    JsonObject subscriber = new JsonObject();
+    subscriber.addProperty("type", "subscriber");
+    subscriber.addProperty("platform", "youtube");
+    subscriber.addProperty("author", "New Subscriber");
+    subscriber.addProperty("totalSubscribers", 12345);
+
+    return new JsonObject[] {chat, chat, chat, shortChat, shortChat, donation, subscriber};
+  }
+}
@@ -0,0 +1,91 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ListenerFrameCodec}. */
+public class ListenerFrameCodecTest {
+
+  private static final List<String> EVENTS =
+      List.of(
+          "{\"type\":\"chat\",\"platform\":\"youtube\",\"author\":\"Alex\","
+              + "\"message\":\"say \\\"hi\\\"\",\"timestamp\":\"2024-05-01T18:30:12Z\"}",
+          "{\"type\":\"donation\",\"author\":\"Steve\",\"amount\":4.99,\"currency\":\"USD\","
+              + "\"formattedAmount\":\"$4.99\",\"message\":\"\"}",
+          "{\"type\":\"subscriber\",\"totalSubscribers\":12345,\"total\":-7,\"raw\":null}",
+          "{\"type\":\"custom\",\"flag\":true,\"other\":false,"
+              + "\"nested\":{\"a\":[1,2,{\"b\":\"c\"}]}}",
+          "{\"author\":\"no type\",\"list\":[],\"big\":123456789012345678}");
+
+  @Test
+  public void decodesToWhatJsonFramesParseTo() {
+    for (String text : EVENTS) {
+      JsonObject parsed = JsonParser.parseString(text).getAsJsonObject();
+      byte[] frame = ListenerFrameCodec.encode(parsed);
+
+      assertTrue(ListenerFrameCodec.isBinary(ByteBuffer.wrap(frame)), text);
+      assertEquals(parsed, ListenerFrameCodec.decode(ByteBuffer.wrap(frame)), text);
+    }
+    byte[] json = EVENTS.get(0).getBytes(StandardCharsets.UTF_8);
+    assertFalse(ListenerFrameCodec.isBinary(ByteBuffer.wrap(json)));
+    assertFalse(ListenerFrameCodec.isBinary(ByteBuffer.allocate(0)));
+  }
+
+  @Test
+  public void decodesFrameLaidOutLikeTheListener() {
+    // chat, 2 fields: author (key 1) = "Alex"; "foo" (key 0 + string) = zigzag 3, i.e. -2.
+    ByteBuffer frame = frame(1, 2, 1, 0, 4, 'A', 'l', 'e', 'x', 0, 3, 'f', 'o', 'o', 1, 3);
+
+    assertEquals(
+        JsonParser.parseString("{\"type\":\"chat\",\"author\":\"Alex\",\"foo\":-2}"),
+        ListenerFrameCodec.decode(frame));
+    assertFalse(frame.hasRemaining());
+  }
+
+  @Test
+  public void rejectsMalformedFrames() {
+    byte[] valid =
+        ListenerFrameCodec.encode(JsonParser.parseString(EVENTS.get(0)).getAsJsonObject());
+
+    assertMalformed(ByteBuffer.wrap(Arrays.copyOf(valid, valid.length - 1)));
+    assertMalformed(ByteBuffer.wrap(Arrays.copyOf(valid, valid.length + 1)));
+    assertMalformed(frame());
+    // Unknown type tag, key id and value tag.
+    assertMalformed(frame(100, 0));
+    assertMalformed(frame(0, 1, 100, 5));
+    assertMalformed(frame(0, 1, 1, 9));
+    // A ten-byte varint with the top bit set reads as a negative key id or string length.
+    assertMalformed(frame(0, 1, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01, 5));
+    assertMalformed(
+        frame(0, 1, 1, 0, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01, 'x'));
+    // String length past the end of the frame, and a varint longer than ten bytes.
+    assertMalformed(frame(0, 1, 1, 0, 5, 'x'));
+    assertMalformed(
+        frame(0, 1, 1, 0, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x00));
+    // JSON-valued fields that do not parse.
+    assertMalformed(frame(0, 1, 1, 6, 4, '{', '"', 'a', '"'));
+    assertMalformed(frame(0, 1, 1, 6, 2, '[', ','));
+  }
+
+  private static void assertMalformed(ByteBuffer frame) {
+    assertThrows(IllegalArgumentException.class, () -> ListenerFrameCodec.decode(frame));
+  }
+
+  private static ByteBuffer frame(int... bytes) {
+    byte[] frame = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i++) {
+      frame[i] = (byte) bytes[i];
+    }
+    return ByteBuffer.wrap(frame);
+  }
+}
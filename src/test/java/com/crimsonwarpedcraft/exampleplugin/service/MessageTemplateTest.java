@@ -0,0 +1,99 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link MessageTemplate}. */
+public class MessageTemplateTest {
+
+  private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+
+  @Test
+  public void fillsSlotsInSlotOrder() {
+    MessageTemplate template =
+        MessageTemplate.compile(
+            MINI_MESSAGE, "<gold><player></gold> gifted <amount> subs!", "amount", "player");
+
+    assertEquals(List.of("amount", "player"), template.slots());
+    Component rendered = template.render(Component.text("5"), Component.text("Alex"));
+    assertEquals("Alex gifted 5 subs!", plain(rendered));
+    assertEquals(NamedTextColor.GOLD, colorOf(rendered, "Alex"));
+    assertNull(colorOf(rendered, "5"));
+  }
+
+  @Test
+  public void renderingDoesNotChangeTheTemplate() {
+    MessageTemplate template = MessageTemplate.compile(MINI_MESSAGE, "<red>Hi <name>!", "name");
+
+    Component first = template.render(Component.text("Alex"));
+    Component second = template.render(Component.text("Steve"));
+    assertEquals("Hi Alex!", plain(first));
+    assertEquals("Hi Steve!", plain(second));
+    assertEquals(NamedTextColor.RED, colorOf(second, "Steve"));
+  }
+
+  @Test
+  public void missingValuesRenderEmpty() {
+    MessageTemplate template =
+        MessageTemplate.compile(
+            MINI_MESSAGE, "<first> and <second>, <first> again", "first", "second");
+    Component x = Component.text("x");
+    Component y = Component.text("y");
+
+    assertEquals("x and y, x again", plain(template.render(x, y)));
+    assertEquals("x and , x again", plain(template.render(x)));
+    assertEquals(" and y,  again", plain(template.render(null, y)));
+  }
+
+  @Test
+  public void templateWithoutSlotsIsParsedOnce() {
+    MessageTemplate template = MessageTemplate.compile(MINI_MESSAGE, "<green>Ready <name>");
+
+    assertEquals("<green>Ready <name>", template.source());
+    assertSame(template.render(), template.render(Component.text("ignored")));
+    assertEquals(plain(MINI_MESSAGE.deserialize("<green>Ready <name>")), plain(template.render()));
+  }
+
+  private static String plain(Component component) {
+    return PlainTextComponentSerializer.plainText().serialize(component);
+  }
+
+  /** Returns the colour inherited by the first text node with {@code content}. */
+  private static TextColor colorOf(Component component, String content) {
+    List<Component> path = pathTo(component, content);
+    assertFalse(path.isEmpty(), content);
+    for (Component node : path) {
+      if (node.color() != null) {
+        return node.color();
+      }
+    }
+    return null;
+  }
+
+  /** Returns the nodes from the matching text node up to {@code component}, or an empty list. */
+  private static List<Component> pathTo(Component component, String content) {
+    if (component instanceof TextComponent text && text.content().equals(content)) {
+      return new ArrayList<>(List.of(component));
+    }
+    for (Component child : component.children()) {
+      List<Component> path = pathTo(child, content);
+      if (!path.isEmpty()) {
+        path.add(component);
+        return path;
+      }
+    }
+    return new ArrayList<>();
+  }
+}
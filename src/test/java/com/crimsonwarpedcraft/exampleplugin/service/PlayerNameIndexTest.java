@@ -0,0 +1,133 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PlayerNameIndex}. */
+public class PlayerNameIndexTest {
+
+  @Test
+  public void completesByPrefixIgnoringCase() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    index.seed(List.of(player("Steve"), player("alex"), player("Stella"), player("Bob")));
+
+    assertEquals(List.of("Stella", "Steve"), index.complete("ST"));
+    assertEquals(List.of("alex", "Bob", "Stella", "Steve"), index.complete(""));
+    assertTrue(index.complete("z").isEmpty());
+  }
+
+  @Test
+  public void findsExactNamesIgnoringCase() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    UUID alex = UUID.randomUUID();
+    UUID offline = UUID.randomUUID();
+    index.seed(List.of(player(alex, "Alex"), player("Alexa")));
+    index.retain(offline, "Alan");
+
+    assertEquals(Optional.of(alex), index.find("ALEX", null));
+    assertEquals(Optional.empty(), index.find("Ale", null));
+    // Retained players only match when the caller asks for them.
+    assertEquals(Optional.empty(), index.find("alan", null));
+    assertEquals(Optional.of(offline), index.find("alan", Set.of(offline)));
+    assertEquals(Optional.empty(), index.find("Alex", Set.of(offline)));
+  }
+
+  @Test
+  public void renameMovesEntryAndKeepsItsFlags() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    UUID id = UUID.randomUUID();
+    index.seed(List.of(player(id, "Alex"), player("Bob")));
+    index.retain(id, "Alex");
+
+    // Rejoining under a new name moves the entry without dropping the retain.
+    index.seed(List.of(player(id, "Zed")));
+    assertEquals(2, index.size());
+    assertEquals(List.of("Bob", "Zed"), index.complete(""));
+    assertTrue(index.complete("a").isEmpty());
+
+    // A case-only rename keeps the slot and updates the display spelling.
+    index.retain(id, "ZED");
+    assertEquals(List.of("ZED"), index.complete("z"));
+  }
+
+  @Test
+  public void retainedPlayersStayIndexedUntilReleased() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    UUID online = UUID.randomUUID();
+    UUID offline = UUID.randomUUID();
+    index.seed(List.of(player(online, "Alex")));
+    index.retain(offline, "Alan");
+    index.retain(online, "Alex");
+
+    // Offline names only complete when the caller asks for them.
+    assertEquals(List.of("Alex"), index.complete("al"));
+    assertEquals(List.of("Alan", "Alex"), index.complete("al", Set.of(online, offline)));
+
+    index.release(offline);
+    index.release(online);
+    index.release(UUID.randomUUID());
+    assertEquals(1, index.size());
+    assertEquals(List.of("Alex"), index.complete("al", Set.of(online, offline)));
+  }
+
+  @Test
+  public void sharedNameIsCompletedOnce() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    index.retain(first, "Alex");
+    index.retain(second, "Alex");
+
+    assertEquals(2, index.size());
+    assertEquals(List.of("Alex"), index.complete("a", Set.of(first, second)));
+    index.release(first);
+    assertEquals(List.of("Alex"), index.complete("a", Set.of(first, second)));
+    index.clear();
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void growsPastInitialCapacity() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    Set<UUID> retained = new HashSet<>();
+    for (int i = 199; i >= 0; i--) {
+      UUID id = UUID.randomUUID();
+      retained.add(id);
+      index.retain(id, String.format("p%03d", i));
+    }
+
+    assertEquals(200, index.size());
+    assertEquals(
+        List.of("p150", "p151", "p152", "p153", "p154", "p155", "p156", "p157", "p158", "p159"),
+        index.complete("P15", retained));
+    assertTrue(index.complete("p", null).isEmpty());
+  }
+
+  private static Player player(String name) {
+    return player(UUID.randomUUID(), name);
+  }
+
+  private static Player player(UUID id, String name) {
+    return (Player)
+        Proxy.newProxyInstance(
+            Player.class.getClassLoader(),
+            new Class<?>[] {Player.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getUniqueId" -> id;
+                  case "getName" -> name;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+}
@@ -0,0 +1,100 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.crimsonwarpedcraft.exampleplugin.service.PunishmentJournal.Punishment;
+import com.crimsonwarpedcraft.exampleplugin.service.PunishmentJournal.State;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link PunishmentJournal}. */
+public class PunishmentJournalTest {
+
+  private static final Logger LOGGER = Logger.getLogger(PunishmentJournalTest.class.getName());
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void recoversSnapshotPlusJournal() throws Exception {
+    Punishment first = punishment("Alex");
+    Punishment second = punishment("Steve");
+    try (PunishmentJournal journal = new PunishmentJournal(folder, LOGGER)) {
+      recover(journal);
+      journal.recordPunishment(first);
+      journal.recordLock("world", true);
+    }
+
+    // Recovery folds the journal into a snapshot; the changes below land in a new journal.
+    try (PunishmentJournal journal = new PunishmentJournal(folder, LOGGER)) {
+      State state = recover(journal);
+      assertEquals(List.of(first), state.punishments());
+      assertTrue(Files.exists(folder.resolve("state.bin")));
+      journal.recordCancel(first.target());
+      journal.recordPunishment(second);
+      journal.recordLock("world", false);
+      journal.recordLock("world_nether", false);
+      journal.recordUnlock("world_nether");
+    }
+    assertTrue(Files.size(folder.resolve("journal.bin")) > 0L);
+
+    try (PunishmentJournal journal = new PunishmentJournal(folder, LOGGER)) {
+      State state = recover(journal);
+      assertEquals(List.of(second), state.punishments());
+      // The first recorded original wins until the world is unlocked.
+      assertEquals(Map.of("world", true), state.lockedWorlds());
+    }
+  }
+
+  @Test
+  public void ignoresTornRecordAtTheEndOfTheJournal() throws Exception {
+    Punishment first = punishment("Alex");
+    Punishment second = punishment("Steve");
+    try (PunishmentJournal journal = new PunishmentJournal(folder, LOGGER)) {
+      journal.recordPunishment(first);
+      journal.recordPunishment(second);
+    }
+
+    Path journalFile = folder.resolve("journal.bin");
+    byte[] bytes = Files.readAllBytes(journalFile);
+    Files.write(journalFile, Arrays.copyOf(bytes, bytes.length - 3));
+    try (PunishmentJournal journal = new PunishmentJournal(folder, LOGGER)) {
+      assertEquals(List.of(first), recover(journal).punishments());
+      journal.recordLock("world", false);
+    }
+
+    // A length prefix torn by a crash is dropped along with everything after it.
+    Files.write(journalFile, new byte[] {0x7F, 0x00}, StandardOpenOption.APPEND);
+    try (PunishmentJournal journal = new PunishmentJournal(folder, LOGGER)) {
+      State state = recover(journal);
+      assertEquals(List.of(first), state.punishments());
+      assertEquals(Map.of("world", false), state.lockedWorlds());
+    }
+  }
+
+  @Test
+  public void remainingTicksCountsOfflineTime() {
+    Punishment punishment = new Punishment(UUID.randomUUID(), "Alex", "", 100L, 10_000L);
+    assertEquals(20L, punishment.remainingTicks(9_000L));
+    assertEquals(100L, punishment.remainingTicks(10_000L));
+    assertEquals(60L, punishment.remainingTicks(12_000L));
+  }
+
+  private static State recover(PunishmentJournal journal) throws Exception {
+    return journal.recover().get(5L, TimeUnit.SECONDS);
+  }
+
+  private static Punishment punishment(String name) {
+    return new Punishment(UUID.randomUUID(), name, "Caster", 1200L, 1_000_000L);
+  }
+}
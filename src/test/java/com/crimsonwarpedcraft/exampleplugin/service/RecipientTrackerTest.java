@@ -0,0 +1,117 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link RecipientTracker}. */
+public class RecipientTrackerTest {
+
+  private static final String CHAT = "streambridge.chat";
+  private static final String ALERTS = "streambridge.alerts";
+
+  private final List<String> changes = new ArrayList<>();
+  private final RecipientTracker tracker =
+      new RecipientTracker(
+          List.of(CHAT, ALERTS), (permission, present) -> changes.add(permission + "=" + present));
+
+  @Test
+  public void reportsOnlyFirstHolderJoiningAndLastHolderQuitting() {
+    Player alex = player(CHAT, ALERTS);
+    Player steve = player(CHAT);
+
+    tracker.onPlayerJoin(new PlayerJoinEvent(alex, ""));
+    tracker.onPlayerJoin(new PlayerJoinEvent(steve, ""));
+    assertEquals(List.of(CHAT + "=true", ALERTS + "=true"), changes);
+    assertEquals(2, tracker.count(CHAT));
+    assertEquals(1, tracker.count(ALERTS));
+
+    changes.clear();
+    tracker.onPlayerQuit(new PlayerQuitEvent(alex, ""));
+    assertEquals(List.of(ALERTS + "=false"), changes);
+    assertTrue(tracker.hasRecipients(CHAT));
+    assertFalse(tracker.hasRecipients(ALERTS));
+
+    changes.clear();
+    tracker.onPlayerQuit(new PlayerQuitEvent(steve, ""));
+    tracker.onPlayerQuit(new PlayerQuitEvent(steve, ""));
+    assertEquals(List.of(CHAT + "=false"), changes);
+    assertEquals(0, tracker.count(CHAT));
+  }
+
+  @Test
+  public void worldChangeRechecksPermissions() {
+    Set<String> permissions = new HashSet<>(Set.of(CHAT));
+    Player alex = player(permissions);
+    tracker.onPlayerJoin(new PlayerJoinEvent(alex, ""));
+
+    permissions.remove(CHAT);
+    permissions.add(ALERTS);
+    tracker.onPlayerChangedWorld(new PlayerChangedWorldEvent(alex, null));
+    assertEquals(List.of(CHAT + "=true", CHAT + "=false", ALERTS + "=true"), changes);
+
+    changes.clear();
+    tracker.onPlayerChangedWorld(new PlayerChangedWorldEvent(alex, null));
+    assertTrue(changes.isEmpty());
+  }
+
+  @Test
+  public void refreshAllDropsPlayersNoLongerOnline() {
+    Player alex = player(CHAT);
+    Player steve = player(CHAT, ALERTS);
+    tracker.refreshAll(List.of(alex, steve));
+    assertEquals(List.of(CHAT + "=true", ALERTS + "=true"), changes);
+
+    changes.clear();
+    tracker.refreshAll(List.of(alex));
+    assertEquals(List.of(ALERTS + "=false"), changes);
+    assertEquals(1, tracker.count(CHAT));
+
+    changes.clear();
+    tracker.refreshAll(List.of());
+    assertEquals(List.of(CHAT + "=false"), changes);
+    tracker.refreshAll(List.of());
+    assertEquals(1, changes.size());
+  }
+
+  @Test
+  public void untrackedPermissionsHaveNoRecipients() {
+    tracker.refreshAll(List.of(player("other.permission")));
+
+    assertEquals(0, tracker.count("other.permission"));
+    assertFalse(tracker.hasRecipients("other.permission"));
+    assertTrue(changes.isEmpty());
+  }
+
+  private static Player player(String... permissions) {
+    return player(Set.of(permissions));
+  }
+
+  private static Player player(Set<String> permissions) {
+    UUID id = UUID.randomUUID();
+    return (Player)
+        Proxy.newProxyInstance(
+            Player.class.getClassLoader(),
+            new Class<?>[] {Player.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getUniqueId" -> id;
+                  case "hasPermission" -> permissions.contains(String.valueOf(args[0]));
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+}
@@ -0,0 +1,105 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link TemplateCopier}. */
+public class TemplateCopierTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void copiesEveryFileAndReplacesExistingOnes() throws IOException {
+    Path template = folder.resolve("template");
+    byte[] region = new byte[3 * 1024 * 1024 + 17];
+    for (int i = 0; i < region.length; i++) {
+      region[i] = (byte) (i * 7);
+    }
+    write(template.resolve("region/r.0.0.mca"), region);
+    write(template.resolve("level.dat"), "level".getBytes(StandardCharsets.UTF_8));
+    write(template.resolve("data/empty.dat"), new byte[0]);
+    Files.createDirectories(template.resolve("entities"));
+
+    Path world = folder.resolve("world");
+    write(world.resolve("level.dat"), "stale and longer".getBytes(StandardCharsets.UTF_8));
+
+    try (TemplateCopier copier = new TemplateCopier(3, List.of())) {
+      TemplateCopier.CopyResult result = copier.copy(template, world);
+      assertEquals(3L, result.files());
+      assertEquals(0L, result.linkedFiles());
+      assertEquals(region.length + 5L, result.bytesCopied());
+    }
+
+    assertArrayEquals(region, Files.readAllBytes(world.resolve("region/r.0.0.mca")));
+    assertEquals("level", Files.readString(world.resolve("level.dat"), StandardCharsets.UTF_8));
+    assertEquals(0L, Files.size(world.resolve("data/empty.dat")));
+    assertTrue(Files.isDirectory(world.resolve("entities")));
+  }
+
+  @Test
+  public void linksOnlyMatchingFiles() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("datapacks/pack.zip"), "pack".getBytes(StandardCharsets.UTF_8));
+    write(template.resolve("level.dat"), "level".getBytes(StandardCharsets.UTF_8));
+
+    Path world = folder.resolve("world");
+    TemplateCopier.CopyResult result;
+    try (TemplateCopier copier = new TemplateCopier(2, List.of("datapacks/**", " "))) {
+      result = copier.copy(template, world);
+    }
+
+    assertEquals(2L, result.files());
+    Path linked = world.resolve("datapacks/pack.zip");
+    assertEquals("pack", Files.readString(linked, StandardCharsets.UTF_8));
+    // Filesystems without hard links fall back to a copy.
+    boolean wasLinked = result.linkedFiles() == 1L;
+    assertEquals(wasLinked, Files.isSameFile(linked, template.resolve("datapacks/pack.zip")));
+    assertEquals(wasLinked ? 5L : 9L, result.bytesCopied());
+    assertFalse(Files.isSameFile(world.resolve("level.dat"), template.resolve("level.dat")));
+  }
+
+  @Test
+  public void extractsTemplatePacks() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("level.dat"), "level".getBytes(StandardCharsets.UTF_8));
+    write(template.resolve("region/r.0.0.mca"), new byte[70_000]);
+    Path pack = folder.resolve("template.pack");
+    TemplatePack.build(template, pack);
+
+    Path world = folder.resolve("world");
+    try (TemplateCopier copier = new TemplateCopier(2, List.of())) {
+      TemplateCopier.CopyResult result = copier.copy(pack, world);
+      assertEquals(2L, result.files());
+      assertEquals(70_005L, result.bytesCopied());
+    }
+    assertEquals("level", Files.readString(world.resolve("level.dat"), StandardCharsets.UTF_8));
+    assertEquals(70_000L, Files.size(world.resolve("region/r.0.0.mca")));
+  }
+
+  @Test
+  public void missingTemplateCopiesNothing() throws IOException {
+    try (TemplateCopier copier = new TemplateCopier(1, List.of())) {
+      TemplateCopier.CopyResult result =
+          copier.copy(folder.resolve("absent"), folder.resolve("world"));
+      assertEquals(0L, result.files());
+      assertEquals(0L, result.bytesCopied());
+    }
+    assertTrue(Files.notExists(folder.resolve("world")));
+  }
+
+  private static void write(Path file, byte[] contents) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.write(file, contents);
+  }
+}
@@ -0,0 +1,143 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link TemplatePack}. */
+public class TemplatePackTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void buildOpenAndExtractRoundTrip() throws IOException {
+    Path template = folder.resolve("template");
+    byte[] region = new byte[10_000];
+    for (int i = 0; i < region.length; i++) {
+      region[i] = (byte) (i * 31);
+    }
+    write(template.resolve("level.dat"), "level".getBytes(StandardCharsets.UTF_8));
+    write(template.resolve("region/r.0.0.mca"), region);
+    write(template.resolve("empty.txt"), new byte[0]);
+
+    Path packFile = folder.resolve("template.pack");
+    TemplatePack built = TemplatePack.build(template, packFile);
+    assertTrue(TemplatePack.isPack(packFile));
+    assertFalse(TemplatePack.isPack(template));
+    assertFalse(TemplatePack.isPack(template.resolve("level.dat")));
+
+    TemplatePack opened = TemplatePack.open(packFile);
+    assertEquals(built.entries(), opened.entries());
+    assertEquals(3, opened.entries().size());
+    assertEquals(10_005L, opened.totalBytes());
+
+    Path output = folder.resolve("output");
+    try (FileChannel channel = FileChannel.open(packFile, StandardOpenOption.READ)) {
+      for (TemplatePack.Entry entry : opened.entries()) {
+        assertEquals(0L, entry.offset() % 4096L);
+        Path target = TemplatePack.destinationOf(output, entry);
+        Files.createDirectories(target.getParent());
+        assertEquals(entry.length(), TemplatePack.extract(channel, entry, target, true));
+      }
+    }
+    assertArrayEquals(region, Files.readAllBytes(output.resolve("region/r.0.0.mca")));
+    assertEquals("level", Files.readString(output.resolve("level.dat"), StandardCharsets.UTF_8));
+    assertEquals(0L, Files.size(output.resolve("empty.txt")));
+  }
+
+  @Test
+  public void extractRejectsCorruptedContents() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("level.dat"), "level".getBytes(StandardCharsets.UTF_8));
+    Path packFile = folder.resolve("template.pack");
+    TemplatePack pack = TemplatePack.build(template, packFile);
+    TemplatePack.Entry entry = pack.entries().get(0);
+
+    byte[] bytes = Files.readAllBytes(packFile);
+    bytes[(int) entry.offset()] ^= 0x01;
+    Files.write(packFile, bytes);
+
+    Path target = folder.resolve("level.dat");
+    try (FileChannel channel = FileChannel.open(packFile, StandardOpenOption.READ)) {
+      assertThrows(IOException.class, () -> TemplatePack.extract(channel, entry, target, true));
+    }
+  }
+
+  @Test
+  public void rejectsEntryEscapingTheDestination() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("aa/evil.dat"), "evil".getBytes(StandardCharsets.UTF_8));
+    Path packFile = folder.resolve("template.pack");
+    TemplatePack.build(template, packFile);
+
+    // Rewrite the stored path "aa/evil.dat" to "../evil.dat" in place.
+    byte[] bytes = Files.readAllBytes(packFile);
+    byte[] original = "aa/evil.dat".getBytes(StandardCharsets.UTF_8);
+    int index = indexOf(bytes, original);
+    assertTrue(index > 0);
+    bytes[index] = '.';
+    bytes[index + 1] = '.';
+    Files.write(packFile, bytes);
+
+    List<TemplatePack.Entry> entries = TemplatePack.open(packFile).entries();
+    assertEquals("../evil.dat", entries.get(0).path());
+    Path output = folder.resolve("output");
+    assertThrows(IOException.class, () -> TemplatePack.destinationOf(output, entries.get(0)));
+    assertThrows(
+        IOException.class,
+        () -> TemplatePack.destinationOf(output, new TemplatePack.Entry("", 0L, 0L, 0)));
+  }
+
+  @Test
+  public void openRejectsNonPackFile() throws IOException {
+    Path file = folder.resolve("not-a-pack");
+    write(file, "plain text, long enough for a header".getBytes(StandardCharsets.UTF_8));
+    assertThrows(IOException.class, () -> TemplatePack.open(file));
+  }
+
+  @Test
+  public void openRejectsEntryCountLargerThanTheFile() throws IOException {
+    Path template = folder.resolve("template");
+    write(template.resolve("level.dat"), "level".getBytes(StandardCharsets.UTF_8));
+    Path pack = folder.resolve("template.pack");
+    TemplatePack.build(template, pack);
+
+    // The entry count follows the magic number and version.
+    try (FileChannel channel = FileChannel.open(pack, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE), 8L);
+    }
+    assertThrows(IOException.class, () -> TemplatePack.open(pack));
+  }
+
+  private static void write(Path file, byte[] contents) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.write(file, contents);
+  }
+
+  private static int indexOf(byte[] haystack, byte[] needle) {
+    for (int i = 0; i <= haystack.length - needle.length; i++) {
+      boolean match = true;
+      for (int j = 0; j < needle.length && match; j++) {
+        match = haystack[i + j] == needle[j];
+      }
+      if (match) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
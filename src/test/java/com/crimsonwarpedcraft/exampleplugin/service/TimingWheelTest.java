@@ -0,0 +1,123 @@
+package com.crimsonwarpedcraft.exampleplugin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link TimingWheel}. */
+public class TimingWheelTest {
+
+  @Test
+  public void periodicTimerReArmsAfterEachExpiry() {
+    TimingWheel wheel = new TimingWheel(8);
+    int id = wheel.schedule(3L, 5L);
+    List<Long> fired = new ArrayList<>();
+    long[] tick = {0L};
+    for (int i = 0; i < 20; i++) {
+      tick[0]++;
+      wheel.tick(expired -> fired.add(tick[0]));
+    }
+
+    assertEquals(List.of(3L, 8L, 13L, 18L), fired);
+    assertTrue(wheel.isActive(id));
+    assertEquals(3L, wheel.remainingTicks(id));
+    assertEquals(5L, wheel.periodTicks(id));
+  }
+
+  @Test
+  public void timersBeyondOneRevolutionWaitForTheirDeadline() {
+    TimingWheel wheel = new TimingWheel(4);
+    wheel.schedule(10L, 0L);
+    List<Integer> firedAt = new ArrayList<>();
+    for (int i = 1; i <= 12; i++) {
+      int current = i;
+      wheel.tick(expired -> firedAt.add(current));
+    }
+
+    assertEquals(List.of(10), firedAt);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void cancelDuringTickSkipsTimerDueInSameTick() {
+    TimingWheel wheel = new TimingWheel(8);
+    int first = wheel.schedule(1L, 0L);
+    int second = wheel.schedule(1L, 0L);
+    List<Integer> fired = new ArrayList<>();
+
+    wheel.tick(
+        id -> {
+          fired.add(id);
+          wheel.cancel(id == first ? second : first);
+        });
+
+    assertEquals(1, fired.size());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void idCancelledDuringTickIsNotReusedUntilTickEnds() {
+    TimingWheel wheel = new TimingWheel(8);
+    int first = wheel.schedule(1L, 0L);
+    int second = wheel.schedule(1L, 0L);
+    List<Integer> fired = new ArrayList<>();
+    int[] replacement = {-1};
+
+    wheel.tick(
+        id -> {
+          fired.add(id);
+          if (replacement[0] < 0) {
+            int other = id == first ? second : first;
+            wheel.cancel(other);
+            replacement[0] = wheel.schedule(5L, 0L);
+            assertNotEquals(other, replacement[0]);
+          }
+        });
+
+    assertEquals(1, fired.size());
+    assertTrue(wheel.isActive(replacement[0]));
+    assertEquals(5L, wheel.remainingTicks(replacement[0]));
+  }
+
+  @Test
+  public void releasedIdsAreReused() {
+    TimingWheel wheel = new TimingWheel(8);
+    int id = wheel.schedule(4L, 0L);
+    assertTrue(wheel.cancel(id));
+    assertFalse(wheel.cancel(id));
+    assertFalse(wheel.isActive(id));
+    assertEquals(-1L, wheel.remainingTicks(id));
+
+    int reused = wheel.schedule(2L, 0L);
+    assertEquals(id, reused);
+    List<Integer> fired = new ArrayList<>();
+    wheel.tick(fired::add);
+    wheel.tick(fired::add);
+    assertEquals(List.of(reused), fired);
+    assertEquals(reused, wheel.schedule(1L, 0L));
+  }
+
+  @Test
+  public void clearDuringTickDropsRemainingExpiries() {
+    TimingWheel wheel = new TimingWheel(8);
+    wheel.schedule(1L, 0L);
+    wheel.schedule(1L, 0L);
+    wheel.schedule(1L, 0L);
+    List<Integer> fired = new ArrayList<>();
+
+    wheel.tick(
+        id -> {
+          fired.add(id);
+          wheel.clear();
+          wheel.schedule(1L, 0L);
+        });
+
+    assertEquals(1, fired.size());
+    assertEquals(1, wheel.size());
+  }
+}